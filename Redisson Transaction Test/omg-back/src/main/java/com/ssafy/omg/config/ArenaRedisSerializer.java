@@ -0,0 +1,106 @@
+package com.ssafy.omg.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Arena 전용 Redis 값 직렬화기
+ * - json  : 기존 GenericJackson2JsonRedisSerializer 형식 (@class 타입 정보 포함)
+ * - smile : [MAGIC][VERSION][FLAGS]([원본 길이])[Smile 바이너리] 형식, 임계값 이상이면 LZ4 압축
+ * 읽을 때는 헤더로 형식을 판별하므로, 어느 모드에서든 기존 JSON 값을 그대로 읽을 수 있다.
+ */
+public class ArenaRedisSerializer implements RedisSerializer<Arena> {
+
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_SMILE = "smile";
+
+    private static final byte MAGIC = (byte) 0xA7;         // JSON('{')과 겹치지 않는 첫 바이트
+    private static final byte VERSION = 1;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_LENGTH = 3;
+    private static final int ORIGINAL_LENGTH_BYTES = 4;
+
+    private final boolean binary;
+    private final int compressionThreshold;
+    private final ObjectMapper smileMapper;
+    private final GenericJackson2JsonRedisSerializer legacySerializer = new GenericJackson2JsonRedisSerializer();
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    /**
+     * @param format               json | smile
+     * @param compressionThreshold 이 크기(byte) 이상인 Smile 값만 LZ4로 압축, 0 미만이면 압축하지 않음
+     */
+    public ArenaRedisSerializer(String format, int compressionThreshold) {
+        this.binary = FORMAT_SMILE.equalsIgnoreCase(format);
+        this.compressionThreshold = compressionThreshold;
+        this.smileMapper = SmileMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    @Override
+    public byte[] serialize(Arena arena) throws SerializationException {
+        if (arena == null) {
+            return new byte[0];
+        }
+        if (!binary) {
+            return legacySerializer.serialize(arena);
+        }
+
+        try {
+            byte[] payload = smileMapper.writeValueAsBytes(arena);
+            if (compressionThreshold < 0 || payload.length < compressionThreshold) {
+                return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+                        .put(MAGIC).put(VERSION).put((byte) 0)
+                        .put(payload)
+                        .array();
+            }
+
+            byte[] compressed = compressor.compress(payload);
+            return ByteBuffer.allocate(HEADER_LENGTH + ORIGINAL_LENGTH_BYTES + compressed.length)
+                    .put(MAGIC).put(VERSION).put(FLAG_LZ4)
+                    .putInt(payload.length)
+                    .put(compressed)
+                    .array();
+        } catch (IOException e) {
+            throw new SerializationException("Arena를 Smile로 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public Arena deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            // 마이그레이션 기간 동안 남아있는 기존 JSON 값
+            return (Arena) legacySerializer.deserialize(bytes);
+        }
+        if (bytes[1] != VERSION) {
+            throw new SerializationException("지원하지 않는 Arena 직렬화 버전입니다: " + bytes[1]);
+        }
+
+        try {
+            if ((bytes[2] & FLAG_LZ4) == 0) {
+                return smileMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, Arena.class);
+            }
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, ORIGINAL_LENGTH_BYTES).getInt();
+            byte[] payload = decompressor.decompress(bytes, HEADER_LENGTH + ORIGINAL_LENGTH_BYTES, originalLength);
+            return smileMapper.readValue(payload, Arena.class);
+        } catch (IOException e) {
+            throw new SerializationException("Smile로 저장된 Arena를 읽지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.omg.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 방에 입장한 플레이어에게 발급하는 토큰 (방 코드 + 닉네임의 HMAC-SHA256 서명)
+ * 방 생성/입장 응답 헤더로만 내려주며, STOMP CONNECT 때 이 토큰을 확인한 세션만 플레이어와 묶는다. (StompPrincipalInterceptor)
+ * 서버가 서명한 값이므로 저장하지 않고 어느 노드에서든 검증할 수 있다. (모든 노드가 같은 secret을 써야 함)
+ */
+@Slf4j
+@Component
+public class PlayerTokenProvider {
+
+    public static final String TOKEN_HEADER = "X-Player-Token";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public PlayerTokenProvider(@Value("${omg.websocket.player-token.secret:}") String secret) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("플레이어 토큰 secret이 없어 노드 임시 키를 사용합니다. 여러 노드를 띄우면 omg.websocket.player-token.secret을 설정해야 합니다.");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    public String issue(String roomId, String nickname) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal(StompPrincipal.nameOf(roomId, nickname).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public boolean verify(String roomId, String nickname, String token) {
+        if (token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(issue(roomId, nickname).getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+}
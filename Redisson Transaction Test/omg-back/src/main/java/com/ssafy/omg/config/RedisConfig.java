@@ -22,6 +22,14 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // Arena 값 직렬화 형식 (json: 기존 JSON, smile: 버전 헤더가 붙은 Smile 바이너리)
+    @Value("${omg.arena.codec.format:json}")
+    private String arenaCodecFormat;
+
+    // 이 크기(byte) 이상인 Arena 값만 LZ4로 압축 (음수면 압축하지 않음)
+    @Value("${omg.arena.codec.compression-threshold:2048}")
+    private int arenaCompressionThreshold;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
@@ -42,9 +50,9 @@ public class RedisConfig {
         Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
 
         //직렬화 설정
-        // Key는 String으로, Value는 JSON으로 직렬화 설정
+        // Key는 String으로, Value(Arena)는 설정된 형식으로 직렬화 (기존 JSON 값도 읽을 수 있음)
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(new ArenaRedisSerializer(arenaCodecFormat, arenaCompressionThreshold));
 
         // HashKey와 HashValue도 JSON 직렬화 설정
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
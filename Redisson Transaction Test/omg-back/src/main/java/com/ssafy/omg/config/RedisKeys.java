@@ -0,0 +1,104 @@
+package com.ssafy.omg.config;
+
+import java.util.stream.IntStream;
+
+/**
+ * Redis 키 이름 규칙
+ * 방 하나에 속한 키는 모두 {roomId} 해시 태그를 포함해 Redis Cluster에서 같은 슬롯에 배치된다.
+ * (한 방의 Arena/Hash/버전/락 키를 여러 키 명령이나 스크립트에서 함께 사용할 수 있음)
+ * - room{id}                 : 대기방~게임 Arena (JSON/Smile 값)
+ * - room{id}:arena|game|market|chart : Hash 저장 방식의 영역별 Hash
+ * - room{id}:player:{닉네임}  : Hash 저장 방식의 플레이어 Hash
+ * - room{id}:version         : Arena 버전
+ * - lock:game:{id}           : 게임 진행 락
+ * - activeGames:{n}          : 진행중인 게임 인덱스 (방 코드로 나눈 ACTIVE_GAME_INDEX_SHARDS개의 Set)
+ * - gameNodes                : 살아있는 노드 목록 (항목별 TTL)
+ * - partitionLease{partitions}:{n} : 게임 파티션(인덱스 샤드) n의 틱 소유 노드, 한 스크립트로 모두 갱신하도록 같은 슬롯에 배치
+ * - socketFanout             : STOMP 메세지를 다른 노드의 구독자에게 전달하는 pub/sub 채널
+ */
+public final class RedisKeys {
+
+    private static final String ROOM_PREFIX = "room";
+    private static final String GAME_LOCK_PREFIX = "lock:game:";
+    private static final String ACTIVE_GAME_INDEX_PREFIX = "activeGames:";
+    private static final String GAME_NODES = "gameNodes";
+    private static final String PARTITION_LEASE_PREFIX = "partitionLease{partitions}:";
+    private static final String SOCKET_FANOUT_CHANNEL = "socketFanout";
+    private static final String ROOM_MOVEMENT_CHANNEL = "roomMovement";
+
+    // 진행중인 게임 인덱스를 나누는 개수, 바꾸면 기존 인덱스를 찾지 못하므로 모든 노드가 같은 값을 써야 한다.
+    public static final int ACTIVE_GAME_INDEX_SHARDS = 16;
+
+    private RedisKeys() {
+    }
+
+    public static String arena(String roomId) {
+        return ROOM_PREFIX + tag(roomId);
+    }
+
+    public static String arenaHash(String roomId) {
+        return arena(roomId) + ":arena";
+    }
+
+    public static String gameHash(String roomId) {
+        return arena(roomId) + ":game";
+    }
+
+    public static String marketHash(String roomId) {
+        return arena(roomId) + ":market";
+    }
+
+    public static String chartHash(String roomId) {
+        return arena(roomId) + ":chart";
+    }
+
+    public static String playerHash(String roomId, String nickname) {
+        return arena(roomId) + ":player:" + nickname;
+    }
+
+    public static String version(String roomId) {
+        return arena(roomId) + ":version";
+    }
+
+    public static String gameLock(String roomId) {
+        return GAME_LOCK_PREFIX + tag(roomId);
+    }
+
+    // 방이 속한 진행중인 게임 인덱스
+    public static String activeGameIndex(String roomId) {
+        return activeGameIndexShard(activeGameShard(roomId));
+    }
+
+    // 방이 속한 진행중인 게임 인덱스 샤드 번호 (게임 파티션 번호로도 사용)
+    public static int activeGameShard(String roomId) {
+        return Math.floorMod(roomId.hashCode(), ACTIVE_GAME_INDEX_SHARDS);
+    }
+
+    public static String activeGameIndexShard(int shard) {
+        return ACTIVE_GAME_INDEX_PREFIX + tag(Integer.toString(shard));
+    }
+
+    public static IntStream activeGameIndexShards() {
+        return IntStream.range(0, ACTIVE_GAME_INDEX_SHARDS);
+    }
+
+    public static String gameNodes() {
+        return GAME_NODES;
+    }
+
+    public static String partitionLease(int shard) {
+        return PARTITION_LEASE_PREFIX + shard;
+    }
+
+    public static String socketFanoutChannel() {
+        return SOCKET_FANOUT_CHANNEL;
+    }
+
+    public static String roomMovementChannel() {
+        return ROOM_MOVEMENT_CHANNEL;
+    }
+
+    private static String tag(String value) {
+        return "{" + value + "}";
+    }
+}
@@ -0,0 +1,26 @@
+package com.ssafy.omg.config;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션에 묶는 플레이어 정보
+ * 닉네임은 방 안에서만 유일하므로 방 코드와 함께 사용자 이름으로 쓰고, /user/queue/... 개인 목적지는 이 이름으로 찾는다.
+ */
+public record StompPrincipal(String roomId, String nickname) implements Principal {
+
+    public static String nameOf(String roomId, String nickname) {
+        return roomId + ":" + nickname;
+    }
+
+    // 세션에 묶인 플레이어가 요청의 방 코드, 닉네임과 같은지 (묶인 플레이어가 없으면 false)
+    public static boolean matches(Principal principal, String roomId, String nickname) {
+        return principal instanceof StompPrincipal player
+                && player.roomId().equals(roomId)
+                && player.nickname().equals(nickname);
+    }
+
+    @Override
+    public String getName() {
+        return nameOf(roomId, nickname);
+    }
+}
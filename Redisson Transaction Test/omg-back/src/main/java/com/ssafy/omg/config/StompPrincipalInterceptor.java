@@ -0,0 +1,77 @@
+package com.ssafy.omg.config;
+
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.domain.game.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 헤더(roomId, userNickname, playerToken)로 세션에 플레이어(StompPrincipal)를 묶는다.
+ * roomId, userNickname은 클라이언트가 보낸 값이므로 방 생성/입장 때 서버가 발급한 토큰(PlayerTokenProvider)이 맞을 때만 묶는다.
+ * 토큰이 틀리거나 방에 없는 플레이어면 연결을 거부하고, 토큰 없이 연결한 세션은 묶지 않는다. (방 토픽만 받을 수 있음)
+ * 같은 플레이어의 세션이 여러 개여도(재연결 등) 거부하지 않으며, 개인 목적지(/user/queue/...) 메세지는 모든 세션으로 전달된다.
+ * 노드끼리 개인 메세지를 주고받는 릴레이 목적지는 클라이언트가 구독하지 못하게 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompPrincipalInterceptor implements ChannelInterceptor {
+
+    public static final String ROOM_ID_HEADER = "roomId";
+    public static final String NICKNAME_HEADER = "userNickname";
+    public static final String TOKEN_HEADER = "playerToken";
+
+    private final GameRepository gameRepository;
+    private final PlayerTokenProvider playerTokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && isInternalDestination(accessor.getDestination())) {
+            log.warn("내부 목적지 구독 거부. destination: {}, session: {}", accessor.getDestination(), accessor.getSessionId());
+            throw new MessageDeliveryException(message, "구독할 수 없는 목적지입니다.");
+        }
+        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String roomId = accessor.getFirstNativeHeader(ROOM_ID_HEADER);
+            String nickname = accessor.getFirstNativeHeader(NICKNAME_HEADER);
+            String token = accessor.getFirstNativeHeader(TOKEN_HEADER);
+            if (roomId != null && nickname != null) {
+                if (token == null) {
+                    log.debug("플레이어 토큰 없이 연결하여 개인 메세지를 받을 수 없습니다. roomId: {}, nickname: {}", roomId, nickname);
+                    return message;
+                }
+                if (!playerTokenProvider.verify(roomId, nickname, token)) {
+                    log.warn("플레이어 토큰이 맞지 않아 연결 거부. roomId: {}, nickname: {}", roomId, nickname);
+                    throw new MessageDeliveryException(message, "유효하지 않은 플레이어 토큰입니다.");
+                }
+                if (!isInRoom(roomId, nickname)) {
+                    log.warn("방에 없는 플레이어의 연결 거부. roomId: {}, nickname: {}", roomId, nickname);
+                    throw new MessageDeliveryException(message, "방에 입장하지 않은 플레이어입니다.");
+                }
+                accessor.setUser(new StompPrincipal(roomId, nickname));
+            }
+        }
+        return message;
+    }
+
+    private boolean isInternalDestination(String destination) {
+        return destination != null && (destination.startsWith(WebSocketConfig.UNRESOLVED_USER_DESTINATION)
+                || destination.startsWith(WebSocketConfig.USER_REGISTRY_DESTINATION));
+    }
+
+    private boolean isInRoom(String roomId, String nickname) {
+        try {
+            return gameRepository.findinRoomPlayerList(roomId).contains(nickname);
+        } catch (BaseException e) {
+            return false;
+        }
+    }
+}
@@ -22,6 +22,7 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:8080","http://localhost:5173","http://localhost:5174","http://localhost:5175","http://localhost:5176")
                 .allowCredentials(true)
+                .exposedHeaders(PlayerTokenProvider.TOKEN_HEADER)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .maxAge(1800);
     }
@@ -1,8 +1,12 @@
 package com.ssafy.omg.config;
 
+import com.ssafy.omg.domain.socket.RedisStompFanout;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -12,10 +16,76 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 릴레이 모드에서 노드끼리 주고받는 목적지 (개인 메세지가 담기므로 클라이언트는 구독할 수 없음)
+    public static final String UNRESOLVED_USER_DESTINATION = "/sub/unresolved-user";
+    public static final String USER_REGISTRY_DESTINATION = "/sub/user-registry";
+
+    private final RedisStompFanout redisStompFanout;
+    private final StompPrincipalInterceptor stompPrincipalInterceptor;
+
+    // 브로커 방식 (simple: 노드 내장 브로커, relay: 외부 STOMP 브로커로 구독 관리와 전송을 넘김)
+    @Value("${omg.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${omg.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${omg.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    // 클라이언트 세션마다 브로커에 연결할 때 쓰는 계정
+    @Value("${omg.websocket.broker.relay.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${omg.websocket.broker.relay.client-passcode:guest}")
+    private String clientPasscode;
+
+    // 서버가 직접 보내는 메세지(브로드캐스트, 스케줄러 알림 등)에 쓰는 공유 연결의 계정
+    @Value("${omg.websocket.broker.relay.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${omg.websocket.broker.relay.system-passcode:guest}")
+    private String systemPasscode;
+
+    @Value("${omg.websocket.broker.relay.virtual-host:}")
+    private String virtualHost;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub");
+        // /sub : 방 공개 상태 토픽, /queue : 플레이어 개인 메세지 (클라이언트는 /user/queue/...로 구독)
+        if ("relay".equals(brokerMode)) {
+            // 구독이 외부 브로커에 있으므로 한 방의 세션이 여러 노드에 나뉘어 있어도 모두 받는다.
+            // 개인 메세지는 다른 노드에 연결된 플레이어에게도 전달되도록 사용자 목록과 미확인 사용자 메세지를 노드끼리 공유한다.
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/sub", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(clientLogin)
+                    .setClientPasscode(clientPasscode)
+                    .setSystemLogin(systemLogin)
+                    .setSystemPasscode(systemPasscode)
+                    .setUserDestinationBroadcast(UNRESOLVED_USER_DESTINATION)
+                    .setUserRegistryBroadcast(USER_REGISTRY_DESTINATION);
+            if (!virtualHost.isBlank()) {
+                relay.setVirtualHost(virtualHost);
+            }
+        } else {
+            config.enableSimpleBroker("/sub", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/pub");
+        config.setUserDestinationPrefix("/user");
+    }
+
+    // 내장 브로커를 여러 노드에서 쓸 때 브로커로 가는 메세지를 Redis pub/sub으로 다른 노드에도 전달 (릴레이 모드는 브로커가 전달하므로 사용하지 않음)
+    @Override
+    public void configureBrokerChannel(ChannelRegistration registration) {
+        if (redisStompFanout.isEnabled() && !"relay".equals(brokerMode)) {
+            registration.interceptors(redisStompFanout);
+        }
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompPrincipalInterceptor);
     }
 
     @Override
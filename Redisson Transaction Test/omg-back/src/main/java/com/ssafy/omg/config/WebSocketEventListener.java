@@ -1,6 +1,7 @@
 package com.ssafy.omg.config;
 
 import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.domain.game.service.GameBroadcastService;
 import com.ssafy.omg.domain.room.dto.CommonRoomRequest;
 import com.ssafy.omg.domain.room.dto.CommonRoomResponse;
 import com.ssafy.omg.domain.room.service.RoomService;
@@ -14,6 +15,7 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 @Slf4j
 @Component
@@ -23,6 +25,7 @@ public class WebSocketEventListener {
     private static final Logger logger = LoggerFactory.getLogger(WebSocketEventListener.class);
     private final SimpMessageSendingOperations messagingTemplate;
     private final RoomService roomService;
+    private final GameBroadcastService gameBroadcastService;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -31,6 +34,16 @@ public class WebSocketEventListener {
         logger.info("웹소켓 연결 성공. 헤더억세서 세션아이디 : {}", sessionId);
     }
 
+    // 게임 채널을 새로 구독하면 다음 플레이어 상태 프레임을 키프레임으로 보내 델타 프레임의 기준 상태를 맞춘다.
+    @EventListener
+    public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
+        String destination = StompHeaderAccessor.wrap(event.getMessage()).getDestination();
+        if (destination != null && destination.startsWith("/sub/") && destination.endsWith("/game")) {
+            String roomId = destination.substring("/sub/".length(), destination.length() - "/game".length());
+            gameBroadcastService.requestKeyframe(roomId);
+        }
+    }
+
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
@@ -41,6 +41,7 @@ public enum BaseResponseStatus {
     // websocket
     WEBSOCKET_CONNECTION_ERROR(false, 3011, "WebSocket 연결 중 오류가 발생하였습니다."),
     WEBSOCKET_MESSAGE_PROCESSING_ERROR(false, 3012, "WebSocket 메시지 처리 중 오류가 발생하였습니다."),
+    INVALID_SENDER(false, 3013, "연결된 플레이어와 요청한 플레이어가 다릅니다."),
 
     // room
     ROOM_CREATION_ERROR(false, 3021, "게임 대기방 생성 중 오류가 발생하였습니다."),
@@ -61,6 +62,7 @@ public enum BaseResponseStatus {
     PLAYER_STATE_ERROR(false, 3037, "거래할 수 없는 플레이어 상태입니다"),
     INVALID_STOCK_GROUP(false, 3038, "유효하지 않은 주식 산업 그룹입니다."),
     EVENT_APPLICATION_FAILED(false, 3039, "경제 이벤트 적용에 실패했습니다."),
+    ARENA_UPDATE_CONFLICT(false, 3040, "동시 요청이 많아 게임 상태를 갱신하지 못했습니다. 다시 시도해주세요."),
 
 
     // 3101 ~~ 3199 : 이가은
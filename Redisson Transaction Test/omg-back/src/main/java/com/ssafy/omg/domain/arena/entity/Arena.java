@@ -1,5 +1,6 @@
 package com.ssafy.omg.domain.arena.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ssafy.omg.domain.game.entity.Game;
 import com.ssafy.omg.domain.room.entity.Room;
 import lombok.*;
@@ -19,4 +20,8 @@ public class Arena implements Serializable {
     private String message;
     private Game game;
     private Room room;
+
+    // Redis에 저장된 Arena 버전 (낙관적 동시성 제어용, 값과 별도의 키에 저장되므로 직렬화하지 않음)
+    @JsonIgnore
+    private long version;
 }
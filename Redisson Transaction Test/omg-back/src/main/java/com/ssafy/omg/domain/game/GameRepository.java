@@ -1,80 +1,153 @@
 package com.ssafy.omg.domain.game;
 
+import com.ssafy.omg.config.RedisKeys;
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameStatus;
+import com.ssafy.omg.domain.game.repository.ArenaUpdate;
 import com.ssafy.omg.domain.player.entity.Player;
 import com.ssafy.omg.domain.room.entity.InRoomPlayer;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
 
-@Slf4j
-@Repository
-@RequiredArgsConstructor
-public class GameRepository {
-
-    private final RedisTemplate<String, Arena> redisTemplate;
-    private static final String ROOM_PREFIX = "room";
-
-    public List<Arena> findAllArenas() throws BaseException {
-        Set<String> keys = redisTemplate.keys(ROOM_PREFIX + "*");
-        if (keys != null) {
-            return keys.stream()
-                    .map(key -> {
-                        Arena arena = redisTemplate.opsForValue().get(key);
-                        return arena;
-                    })
-                    .filter(arena -> arena != null)
-                    .collect(Collectors.toList());
-        } else {
-            throw new BaseException(ARENA_NOT_FOUND);
+/**
+ * Arena 저장소
+ * 대기방/게임의 모든 Arena 조회와 저장은 이 인터페이스를 거친다.
+ * 구현체는 omg.arena.repository 설정으로 선택한다.
+ * - redis    : RedisTemplate 기반 (기본값, blob/hash 저장 방식, write-behind 지원)
+ * - redisson : RedissonClient 기반 (blob 저장 방식, redis 구현과 같은 키/값 형식)
+ * - memory   : 노드 메모리 (단일 노드 배포, Redis 없는 테스트, 저장소 오버헤드 측정 기준)
+ */
+public interface GameRepository {
+
+    /**
+     * 일괄 저장할 Arena와 변경 영역
+     *
+     * @param arena  findArenasByRoomIds로 읽은 뒤 변경한 Arena
+     * @param update 변경된 영역
+     */
+    record ArenaWrite(Arena arena, ArenaUpdate update) {
+    }
+
+    Optional<Arena> findArenaByRoomId(String roomId);
+
+    /**
+     * 여러 방의 Arena를 한 번에 조회 (구현이 지원하면 파이프라인 한 번으로 조회)
+     *
+     * @param roomIds 방 코드 목록
+     * @return 방 코드별 Arena, 없는 방은 포함하지 않음
+     */
+    default Map<String, Arena> findArenasByRoomIds(Collection<String> roomIds) {
+        Map<String, Arena> arenas = new LinkedHashMap<>();
+        for (String roomId : roomIds) {
+            findArenaByRoomId(roomId).ifPresent(arena -> arenas.put(roomId, arena));
         }
+        return arenas;
     }
 
-    public List<String> findinRoomPlayerList(String roomId) throws BaseException {
+    boolean existsArena(String roomId);
+
+    // Arena 전체 저장
+    default void saveArena(String roomId, Arena arena) {
+        saveArena(roomId, arena, ArenaUpdate.all());
+    }
+
+    /**
+     * 버전을 확인하지 않고 Arena 저장 (update에 표시된 영역만 기록할 수 있는 구현은 그 영역만 기록)
+     * 여러 요청이 동시에 변경할 수 있는 게임 상태는 ArenaCommandExecutor로 저장한다.
+     */
+    void saveArena(String roomId, Arena arena, ArenaUpdate update);
+
+    /**
+     * 읽은 이후 다른 요청이 Arena를 저장하지 않았을 때만 저장
+     * 저장에 성공하면 arena의 버전을 저장된 버전으로 갱신한다.
+     *
+     * @return 저장 여부 (false면 다른 요청이 먼저 저장한 것이므로 다시 읽어서 재시도해야 함)
+     */
+    boolean saveArenaIfVersion(String roomId, Arena arena, ArenaUpdate update);
+
+    /**
+     * 여러 Arena를 방마다 버전을 확인해 한 번에 저장 (구현이 지원하면 파이프라인 한 번으로 저장, TTL은 방마다 다시 설정)
+     * 저장에 성공한 Arena의 버전은 저장된 버전으로 갱신한다.
+     *
+     * @param writes 방 코드별 저장할 Arena
+     * @return 저장에 성공한 방 코드, 나머지는 다른 요청이 먼저 저장한 것이므로 다시 읽어서 재시도해야 함
+     */
+    default Set<String> saveArenasIfVersion(Map<String, ArenaWrite> writes) {
+        Set<String> saved = new HashSet<>();
+        writes.forEach((roomId, write) -> {
+            if (saveArenaIfVersion(roomId, write.arena(), write.update())) {
+                saved.add(roomId);
+            }
+        });
+        return saved;
+    }
+
+    // Arena 삭제 및 진행중인 게임 인덱스 정리
+    void deleteArena(String roomId);
+
+    // 진행중(IN_GAME)인 게임의 Arena 목록, 더 이상 진행중이 아닌 게임은 인덱스에서 정리한다.
+    default List<Arena> findAllActiveArenas() {
+        List<Arena> activeArenas = new ArrayList<>();
+        RedisKeys.activeGameIndexShards().forEach(shard -> activeArenas.addAll(findActiveArenas(shard)));
+        return activeArenas;
+    }
+
+    // 진행중인 게임 인덱스 샤드(게임 파티션) 하나에 속한 진행중인 게임의 Arena 목록
+    List<Arena> findActiveArenas(int shard);
+
+    // 진행중인 게임 인덱스 샤드 하나에 등록된 방 코드 목록 (Arena를 읽지 않으므로 진행중이 아닌 게임이 섞여 있을 수 있음)
+    List<String> findActiveGameIds(int shard);
+
+    // 진행중인 게임 인덱스에 등록 (initializeGame, 게임 상태 IN_GAME 변경 시)
+    void addActiveGame(String roomId);
+
+    // 진행중인 게임 인덱스에서 제거 (endGame, 방 삭제 시)
+    void removeActiveGame(String roomId);
+
+    // 모아둔 변경을 즉시 기록 (write-behind 구현만 해당, 라운드 종료 시점)
+    default void flushArena(String roomId) {
+    }
+
+    // 모아둔 변경을 기록하고 메모리에서 제거 (write-behind 구현만 해당, 게임 종료 시점)
+    default void flushAndEvictArena(String roomId) {
+    }
+
+    // 변경 명령이 중간에 실패했을 때 되돌릴 사본 (조회한 Arena를 여러 요청이 공유하는 write-behind 구현만 해당, 나머지는 null)
+    default Arena rollbackSnapshot(Arena arena) {
+        return null;
+    }
+
+    default List<String> findinRoomPlayerList(String roomId) throws BaseException {
         Arena arena = findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        List<String> players = arena.getRoom().getInRoomPlayers().stream()
+        return arena.getRoom().getInRoomPlayers().stream()
                 .map(InRoomPlayer::getNickname)
                 .collect(Collectors.toList());
-        return players;
     }
 
-    public List<String> findPlayerList(String roomId) throws BaseException {
+    default List<String> findPlayerList(String roomId) throws BaseException {
         Arena arena = findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        List<Player> players = arena.getGame().getPlayers();
-
-        return players.stream()
+        return arena.getGame().getPlayers().stream()
                 .map(Player::getNickname)
                 .collect(Collectors.toList());
     }
 
-    public Optional<Arena> findArenaByRoomId(String roomId) {
-        return Optional.ofNullable(redisTemplate.opsForValue().get(ROOM_PREFIX + roomId));
-    }
-
-    public void saveArena(String roomId, Arena arena) {
-        String key = ROOM_PREFIX + roomId;
-        Long currentTtl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-
-        long newTtl;
-        if (currentTtl == null || currentTtl < 0) {
-            // 기본 TTL 값 설정 (1시간)
-            newTtl = 3600L;
-        } else {
-            newTtl = currentTtl + 1L;
+    static boolean isActive(Arena arena) {
+        if (arena == null) {
+            return false;
         }
-
-        redisTemplate.opsForValue().set(key, arena, newTtl, TimeUnit.SECONDS);
-        log.debug("Arena saved with TTL: {} seconds. Room ID: {}", newTtl, roomId);
-        log.debug(String.valueOf(redisTemplate.opsForValue().get(ROOM_PREFIX + roomId).getGame()));
+        Game game = arena.getGame();
+        return game != null && game.getGameStatus() == GameStatus.IN_GAME;
     }
 }
@@ -1,16 +1,20 @@
 package com.ssafy.omg.domain.game.controller;
 
 import com.ssafy.omg.config.MessageController;
+import com.ssafy.omg.config.StompPrincipal;
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.domain.arena.entity.Arena;
 import com.ssafy.omg.domain.game.GameRepository;
+import com.ssafy.omg.domain.game.dto.IndividualMessageDto;
 import com.ssafy.omg.domain.game.dto.PlayerMoveRequest;
-import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.dto.PublicArenaDto;
 import com.ssafy.omg.domain.game.entity.GameEvent;
-import com.ssafy.omg.domain.game.entity.GameStatus;
 import com.ssafy.omg.domain.game.entity.RoundStatus;
 import com.ssafy.omg.domain.game.service.GameBroadcastService;
+import com.ssafy.omg.domain.game.service.GameScheduler;
 import com.ssafy.omg.domain.game.service.GameService;
+import com.ssafy.omg.domain.game.service.PlayerMessageSender;
+import com.ssafy.omg.domain.player.entity.Player;
 import com.ssafy.omg.domain.socket.dto.StompPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +23,7 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
+import java.security.Principal;
 import java.util.List;
 
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
@@ -32,9 +37,11 @@ public class CommonMessageController {
     private final GameService gameService;
     private final GameBroadcastService gameBroadcastService;
     private final GameRepository gameRepository;
+    private final GameScheduler gameScheduler;
+    private final PlayerMessageSender playerMessageSender;
 
     /**
-     * 게임 초기화 후 모든 유저에게 Arena 브로드캐스트
+     * 게임 초기화 후 모든 유저에게 Arena 공개 상태 브로드캐스트
      *
      * @param gameInitializationPayload
      * @throws BaseException
@@ -44,10 +51,10 @@ public class CommonMessageController {
         String roomId = gameInitializationPayload.getRoomId();
         List<String> players = gameRepository.findinRoomPlayerList(roomId);
         Arena arena = gameService.initializeGame(roomId, players);
+        gameScheduler.schedule(roomId);
         gameBroadcastService.startBroadcast(roomId);
 
-        StompPayload<Arena> response = new StompPayload<>("GAME_INITIALIZED", roomId, "GAME_MANAGER", arena);
-        messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+        sendArena("GAME_INITIALIZED", roomId, arena);
 
     }
 
@@ -61,13 +68,9 @@ public class CommonMessageController {
     @MessageMapping("/game-status")
     public void changeGameStatus(@Payload StompPayload<Arena> changeGameStatusPayload) throws BaseException {
         String roomId = changeGameStatusPayload.getRoomId();
-        Arena arena = gameRepository.findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        Game game = arena.getGame();
-        game.setGameStatus(GameStatus.IN_GAME);
-        game.setRoundStatus(RoundStatus.ROUND_START);
-        gameRepository.saveArena(roomId, arena);
-        StompPayload<Arena> response = new StompPayload<>("GAME_STATUS_CHANGE", roomId, "GAME_MANAGER", arena);
-        messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+        Arena arena = gameService.startGame(roomId);
+        gameScheduler.schedule(roomId);
+        sendArena("GAME_STATUS_CHANGE", roomId, arena);
 
     }
 
@@ -119,8 +122,13 @@ public class CommonMessageController {
 //        messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
 //    }
 
+    // 세션에 묶인 플레이어(StompPrincipal)의 이동만 반영 (다른 플레이어를 움직이지 못하도록)
     @MessageMapping("/player-move")
-    public void playerMove(@Payload StompPayload<PlayerMoveRequest> message) throws BaseException {
+    public void playerMove(@Payload StompPayload<PlayerMoveRequest> message, Principal principal) throws BaseException {
+        if (!StompPrincipal.matches(principal, message.getRoomId(), message.getSender())) {
+            log.debug("세션의 플레이어와 다른 sender의 이동 요청 무시. roomId: {}, sender: {}", message.getRoomId(), message.getSender());
+            return;
+        }
         gameService.movePlayer(message);
     }
 
@@ -152,10 +160,29 @@ public class CommonMessageController {
 
 
         // 변경된 게임 상태를 브로드캐스트
-        StompPayload<Arena> response = new StompPayload<>("ECONOMIC_EVENT_APPLIED", roomId, "GAME_MANAGER", newArena);
-        messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+        sendArena("ECONOMIC_EVENT_APPLIED", roomId, newArena);
 
         log.info("경제 이벤트가 성공적으로 적용되었습니다. Room ID: {}", roomId);
     }
 
+    /**
+     * 방 토픽에는 Arena 공개 상태만 보내고, 플레이어 자산은 같은 type으로 각 플레이어에게만 전송
+     *
+     * @param type
+     * @param roomId
+     * @param arena
+     */
+    private void sendArena(String type, String roomId, Arena arena) {
+        StompPayload<PublicArenaDto> response = new StompPayload<>(type, roomId, "GAME_MANAGER", PublicArenaDto.convertToDto(arena));
+        messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+
+        if (arena.getGame() == null || arena.getGame().getPlayers() == null) {
+            return;
+        }
+        for (Player player : arena.getGame().getPlayers()) {
+            StompPayload<IndividualMessageDto> individual =
+                    new StompPayload<>(type, roomId, player.getNickname(), IndividualMessageDto.from(player));
+            playerMessageSender.sendToPlayer(roomId, player.getNickname(), individual);
+        }
+    }
 }
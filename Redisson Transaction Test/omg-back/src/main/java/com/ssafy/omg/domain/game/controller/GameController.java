@@ -7,8 +7,12 @@ import com.ssafy.omg.domain.arena.entity.Arena;
 import com.ssafy.omg.domain.game.GameRepository;
 import com.ssafy.omg.domain.game.dto.IndividualMessageDto;
 import com.ssafy.omg.domain.game.dto.StockRequest;
+import com.ssafy.omg.domain.game.repository.GameEventCatalog;
 import com.ssafy.omg.domain.game.service.GameBroadcastService;
+import com.ssafy.omg.domain.game.service.GameScheduler;
+import com.ssafy.omg.domain.game.service.GameTickStats;
 import com.ssafy.omg.domain.game.service.GameService;
+import com.ssafy.omg.domain.game.service.PlayerMessageSender;
 import com.ssafy.omg.domain.socket.dto.StompPayload;
 import jdk.jfr.Description;
 import lombok.RequiredArgsConstructor;
@@ -31,11 +35,15 @@ public class GameController {
     private final GameService gameService;
     private final GameBroadcastService gameBroadcastService;
     private final SimpMessageSendingOperations messagingTemplate;
+    private final PlayerMessageSender playerMessageSender;
     private final GameRepository gameRepository;
+    private final GameEventCatalog gameEventCatalog;
+    private final GameScheduler gameScheduler;
 
     @PostMapping("/initialize")
     public BaseResponse<Arena> initializeGame(@RequestParam String roomId, @RequestBody List<String> players) throws BaseException {
         Arena arena = gameService.initializeGame(roomId, players);
+        gameScheduler.schedule(roomId);
     //    gameBroadcastService.startBroadcast(roomId);
         return new BaseResponse<>(arena);
     }
@@ -61,6 +69,18 @@ public class GameController {
         }
     }
 
+    // event 테이블 변경 후 경제 이벤트 카탈로그 다시 로딩
+    @PostMapping("/events/refresh")
+    public BaseResponse<Integer> refreshGameEvents() {
+        return new BaseResponse<>(gameEventCatalog.refresh());
+    }
+
+    // 이 노드에서 실행한 게임의 틱 통계 (지연/건너뜀/예산 초과 횟수)
+    @GetMapping("/tick-stats")
+    public BaseResponse<GameTickStats.Snapshot> getTickStats(@RequestParam String roomId) {
+        return new BaseResponse<>(gameScheduler.getTickStats(roomId));
+    }
+
     @PostMapping("/end-game")
     public BaseResponse<Void> endGame(@RequestParam String roomId) {
         gameBroadcastService.stopBroadcast(roomId);
@@ -81,12 +101,12 @@ public class GameController {
             gameService.takeLoan(roomId, userNickname, takeLoanAmount);
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>("SUCCESS", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             return response;
         } catch (MessageException e) {
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>("FAIL", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             log.debug(String.valueOf(e.getStatus()));
             log.debug("@@@@@@@@");
             return response;
@@ -107,7 +127,7 @@ public class GameController {
             gameService.repayLoan(roomId, userNickname, repayLoanAmount);
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>("SUCCESS", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             return response;
         } catch (MessageException e) {
             System.out.println("MessageException");
@@ -132,13 +152,13 @@ public class GameController {
             gameService.sellStock(roomId, userNickname, sellStockAmount);
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId,userNickname);
             response = new StompPayload<>("SUCCESS_SELL_STOCK", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             return response;
         }
 //        catch (MessageException e) {
 //            IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
 //            response = new StompPayload<>(e.getStatus().name(), roomId, userNickname, individualMessage);
-//            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+//            playerMessageSender.sendToPlayer(roomId, userNickname, response);
 //            log.debug(e.getStatus().getMessage());
 //            return response;
 //        }
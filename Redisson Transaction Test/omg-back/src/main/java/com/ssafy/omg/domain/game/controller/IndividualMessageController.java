@@ -1,6 +1,7 @@
 package com.ssafy.omg.domain.game.controller;
 
 import com.ssafy.omg.config.MessageController;
+import com.ssafy.omg.config.StompPrincipal;
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.config.baseresponse.BaseResponse;
 import com.ssafy.omg.config.baseresponse.MessageException;
@@ -8,9 +9,11 @@ import com.ssafy.omg.domain.game.GameRepository;
 import com.ssafy.omg.domain.game.dto.IndividualMessageDto;
 import com.ssafy.omg.domain.game.dto.StockMarketResponse;
 import com.ssafy.omg.domain.game.dto.StockRequest;
+import com.ssafy.omg.domain.game.dto.TradeResult;
 import com.ssafy.omg.domain.game.entity.Game;
 import com.ssafy.omg.domain.game.service.GameBroadcastService;
 import com.ssafy.omg.domain.game.service.GameService;
+import com.ssafy.omg.domain.game.service.PlayerMessageSender;
 import com.ssafy.omg.domain.socket.dto.StompPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,10 +23,17 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
+import java.security.Principal;
+
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
+import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.INVALID_SENDER;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.PLAYER_STATE_ERROR;
 import static com.ssafy.omg.config.baseresponse.MessageResponseStatus.OUT_OF_CASH;
 
+/**
+ * 거래 요청은 STOMP 세션에 묶인 플레이어(StompPrincipal)의 요청만 처리한다.
+ * 요청 본문의 sender는 클라이언트가 보낸 값이므로, 세션의 플레이어와 다르면 처리하지 않는다.
+ */
 @Slf4j
 @MessageController
 @RequiredArgsConstructor
@@ -33,40 +43,48 @@ public class IndividualMessageController {
     private final GameService gameService;
     private final GameBroadcastService gameBroadcastService;
     private final SimpMessageSendingOperations messagingTemplate;
+    private final PlayerMessageSender playerMessageSender;
     private final GameRepository gameRepository;
 
     @MessageMapping("/gold")
-    public BaseResponse<?> purchaseGold(@Payload StompPayload<Integer> goldPayload) throws BaseException, MessageException {
+    public BaseResponse<?> purchaseGold(@Payload StompPayload<Integer> goldPayload, Principal principal) throws BaseException, MessageException {
         String roomId = goldPayload.getRoomId();
         String userNickname = goldPayload.getSender();
+        if (!isSessionPlayer(principal, roomId, userNickname)) {
+            return new BaseResponse<>(INVALID_SENDER);
+        }
         int purchasedGoldCnt = goldPayload.getData();
 
         StompPayload<IndividualMessageDto> response = null;
         try {
-            gameService.purchaseGold(roomId, userNickname, purchasedGoldCnt);
-            IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
-            response = new StompPayload<>("SUCCESS_PURCHASE_GOLD", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
-            sendStockMarketResponse(roomId);
+            TradeResult tradeResult = gameService.purchaseGold(roomId, userNickname, purchasedGoldCnt);
+            response = new StompPayload<>("SUCCESS_PURCHASE_GOLD", roomId, userNickname, tradeResult.toIndividualMessage());
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
+            sendStockMarketResponse(roomId, tradeResult);
             return new BaseResponse<>(response);
         } catch (MessageException e) {
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>("OUT_OF_CASH", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             log.debug("현재 자산이 부족합니다!");
             return new BaseResponse<>(OUT_OF_CASH);
         } catch (BaseException e) {
+            // 이미 거래한 플레이어(PLAYER_STATE_ERROR)만 GOLD_ALREADY_PURCHASED, 그 외(버전 충돌, Arena 없음 등)는 실제 상태로 전송
+            String type = e.getStatus() == PLAYER_STATE_ERROR ? "GOLD_ALREADY_PURCHASED" : e.getStatus().name();
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
-            response = new StompPayload<>("GOLD_ALREADY_PURCHASED", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
-            return new BaseResponse<>(PLAYER_STATE_ERROR);
+            response = new StompPayload<>(type, roomId, userNickname, individualMessage);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
+            return new BaseResponse<>(e.getStatus());
         }
     }
 
     @MessageMapping("/take-loan")
-    public BaseResponse<?> takeLoan(@Payload StompPayload<Integer> userActionPayload) throws BaseException {
+    public BaseResponse<?> takeLoan(@Payload StompPayload<Integer> userActionPayload, Principal principal) throws BaseException {
         String roomId = userActionPayload.getRoomId();
         String userNickname = userActionPayload.getSender();
+        if (!isSessionPlayer(principal, roomId, userNickname)) {
+            return new BaseResponse<>(INVALID_SENDER);
+        }
         int takeLoanAmount = userActionPayload.getData();
 
         StompPayload<IndividualMessageDto> response = null;
@@ -74,12 +92,12 @@ public class IndividualMessageController {
             gameService.takeLoan(roomId, userNickname, takeLoanAmount);
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>("SUCCESS_TAKE_LOAN", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             return new BaseResponse<>(response);
         } catch (MessageException e) {
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>(e.getStatus().name(), roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             log.debug(e.getStatus().getMessage());
             return new BaseResponse<>(e.getStatus());
         } catch (BaseException e) {
@@ -88,9 +106,12 @@ public class IndividualMessageController {
     }
 
     @MessageMapping("/repay-loan")
-    public BaseResponse<?> repayLoan(@Payload StompPayload<Integer> userActionPayload) throws BaseException {
+    public BaseResponse<?> repayLoan(@Payload StompPayload<Integer> userActionPayload, Principal principal) throws BaseException {
         String roomId = userActionPayload.getRoomId();
         String userNickname = userActionPayload.getSender();
+        if (!isSessionPlayer(principal, roomId, userNickname)) {
+            return new BaseResponse<>(INVALID_SENDER);
+        }
         int repayLoanAmount = userActionPayload.getData();
 
         StompPayload<IndividualMessageDto> response = null;
@@ -98,12 +119,12 @@ public class IndividualMessageController {
             gameService.repayLoan(roomId, userNickname, repayLoanAmount);
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>("SUCCESS_REPAY_LOAN", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             return new BaseResponse<>(response);
         } catch (MessageException e) {
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>(e.getStatus().name(), roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
             log.debug(e.getStatus().getMessage());
             return new BaseResponse<>(e.getStatus());
         } catch (BaseException e) {
@@ -112,51 +133,73 @@ public class IndividualMessageController {
     }
 
     @MessageMapping("/sell-stock")
-    public BaseResponse<?> sellStock(@Payload StompPayload<StockRequest> userActionPayload) {
+    public BaseResponse<?> sellStock(@Payload StompPayload<StockRequest> userActionPayload, Principal principal) {
         String roomId = userActionPayload.getRoomId();
         String userNickname = userActionPayload.getSender();
+        if (!isSessionPlayer(principal, roomId, userNickname)) {
+            return new BaseResponse<>(INVALID_SENDER);
+        }
         int[] sellStockAmount = userActionPayload.getData().stocks();
 
         StompPayload<IndividualMessageDto> response = null;
         try {
-            gameService.sellStock(roomId, userNickname, sellStockAmount);
-            IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId,userNickname);
-            response = new StompPayload<>("SUCCESS_SELL_STOCK", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
-            sendStockMarketResponse(roomId);
+            TradeResult tradeResult = gameService.sellStock(roomId, userNickname, sellStockAmount);
+            response = new StompPayload<>("SUCCESS_SELL_STOCK", roomId, userNickname, tradeResult.toIndividualMessage());
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
+            sendStockMarketResponse(roomId, tradeResult);
             return new BaseResponse<>(response);
-        }
-//        catch (MessageException e) {
-//            IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
-//            response = new StompPayload<>(e.getStatus().name(), roomId, userNickname, individualMessage);
-//            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
-//            log.debug(e.getStatus().getMessage());
-//            return new BaseResponse<>(e.getStatus());
-//        }
-        catch (BaseException e) {
+        } catch (MessageException e) {
+            try {
+                IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
+                response = new StompPayload<>(e.getStatus().name(), roomId, userNickname, individualMessage);
+                playerMessageSender.sendToPlayer(roomId, userNickname, response);
+            } catch (BaseException ex) {
+                log.debug("매도 실패 응답 전송 중 오류 발생 : {}", ex.getStatus().name());
+            }
+            log.debug(e.getStatus().getMessage());
+            return new BaseResponse<>(e.getStatus());
+        } catch (BaseException e) {
             return new BaseResponse<>(e.getStatus());
         }
     }
 
     @MessageMapping("/buy-stock")
-    public void purchaseStock(@Payload StompPayload<StockRequest> payload) throws BaseException {
+    public void purchaseStock(@Payload StompPayload<StockRequest> payload, Principal principal) throws BaseException {
         String roomId = payload.getRoomId();
         String userNickname = payload.getSender();
+        if (!isSessionPlayer(principal, roomId, userNickname)) {
+            return;
+        }
         StompPayload<IndividualMessageDto> response = null;
 
         try {
-            gameService.buyStock(payload);
-            IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
-            response = new StompPayload<>("SUCCESS_BUY_STOCK", roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
-            sendStockMarketResponse(roomId);
+            TradeResult tradeResult = gameService.buyStock(payload);
+            response = new StompPayload<>("SUCCESS_BUY_STOCK", roomId, userNickname, tradeResult.toIndividualMessage());
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
+            sendStockMarketResponse(roomId, tradeResult);
         } catch (MessageException e) {
             IndividualMessageDto individualMessage = gameService.getIndividualMessage(roomId, userNickname);
             response = new StompPayload<>(e.getStatus().name(), roomId, userNickname, individualMessage);
-            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", response);
+            playerMessageSender.sendToPlayer(roomId, userNickname, response);
         }
     }
 
+    private boolean isSessionPlayer(Principal principal, String roomId, String userNickname) {
+        if (StompPrincipal.matches(principal, roomId, userNickname)) {
+            return true;
+        }
+        log.warn("세션의 플레이어와 다른 sender의 거래 요청 거부. session: {}, roomId: {}, sender: {}",
+                principal == null ? null : principal.getName(), roomId, userNickname);
+        return false;
+    }
+
+    // 거래 결과로 주식 거래소 정보 전송 (Arena를 다시 읽지 않음)
+    public void sendStockMarketResponse(String roomId, TradeResult tradeResult) {
+        StockMarketResponse response = gameService.createStockMarketInfo(tradeResult);
+        StompPayload<StockMarketResponse> payload = new StompPayload<>("STOCK_MARKET_INFO", roomId, "GAME_MANAGER", response);
+        messagingTemplate.convertAndSend("/sub/" + roomId + "/game", payload);
+    }
+
     public void sendStockMarketResponse(String roomId) {
 
         try {
@@ -22,14 +22,16 @@ public record GameStatusDto(
         int goldPrice
 ) {
     public static GameStatusDto convertToDto(Game game) {
+        // 남은 시간은 저장된 값이 아니라 마감 시각으로 계산
+        long now = System.currentTimeMillis();
         return new GameStatusDto(
                 game.getGameStatus(),
                 game.getPlayers(),
-                game.getTime(),
+                game.remainingSeconds(now),
                 game.getRound(),
                 game.getRoundStatus(),
                 game.isPaused(),
-                game.getPauseTime(),
+                game.remainingPauseSeconds(now),
                 game.getCurrentInterestRate(),
                 game.getCurrentStockPriceLevel(),
                 game.getMarketStocks(),
@@ -1,5 +1,6 @@
 package com.ssafy.omg.domain.game.dto;
 
+import com.ssafy.omg.domain.player.entity.Player;
 import com.ssafy.omg.domain.player.entity.PlayerAction;
 import com.ssafy.omg.domain.player.entity.PlayerStatus;
 import lombok.Builder;
@@ -23,4 +24,20 @@ public class IndividualMessageDto {
 
     private PlayerAction action;            // 플레이어 행위 (주식 매수, 주식 매도, 금괴 매입, 대출, 상환)
     private PlayerStatus state;             // 플레이어 행위 상태 (시작전, 진행중, 완료)
-}
\ No newline at end of file
+
+    public static IndividualMessageDto from(Player player) {
+        return IndividualMessageDto.builder()
+                .hasLoan(player.getHasLoan())
+                .loanPrincipal(player.getLoanPrincipal())
+                .loanInterest(player.getLoanInterest())
+                .totalDebt(player.getTotalDebt())
+                .cash(player.getCash())
+                .stock(player.getStock())
+                .goldOwned(player.getGoldOwned())
+                .carryingStocks(player.getCarryingStocks())
+                .carryingGolds(player.getCarryingGolds())
+                .action(player.getAction())
+                .state(player.getState())
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ssafy.omg.domain.game.dto;
+
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameEvent;
+import com.ssafy.omg.domain.game.entity.GameStatus;
+import com.ssafy.omg.domain.game.entity.RoundStatus;
+import com.ssafy.omg.domain.game.entity.StockInfo;
+import com.ssafy.omg.domain.player.entity.Player;
+import com.ssafy.omg.domain.room.entity.Room;
+
+import java.util.List;
+
+/**
+ * 방 토픽(/sub/{roomId}/game)으로 보내는 Arena 공개 상태
+ * Arena와 같은 모양이지만 플레이어 자산(현금, 대출, 보유 주식 등)과 뽑기 전 경제 이벤트 카드, 주머니 토큰은 뺀다.
+ * 플레이어 자산은 PlayerMessageSender로 각 플레이어에게만 IndividualMessageDto로 보낸다.
+ */
+public record PublicArenaDto(
+        String roomId,
+        String message,
+        PublicGame game,
+        Room room
+) {
+    public record PublicGame(
+            String gameId,
+            GameStatus gameStatus,
+            String message,
+            List<PublicPlayer> players,
+            int time,
+            int round,
+            RoundStatus roundStatus,
+            boolean isPaused,
+            int pauseTime,
+            int currentInterestRate,
+            GameEvent currentEvent,
+            int currentStockPriceLevel,
+            StockInfo[] marketStocks,
+            int[] stockSellTrack,
+            int[] stockBuyTrack,
+            int[] goldBuyTrack,
+            int goldPrice,
+            int goldPriceIncreaseCnt,
+            int[][] stockPriceChangeInfo
+    ) {
+    }
+
+    public record PublicPlayer(
+            String nickname,
+            int characterType,
+            double[] position,
+            double[] direction,
+            int isConnected
+    ) {
+    }
+
+    public static PublicArenaDto convertToDto(Arena arena) {
+        Game game = arena.getGame();
+        return new PublicArenaDto(arena.getRoomId(), arena.getMessage(), game == null ? null : convertToDto(game), arena.getRoom());
+    }
+
+    private static PublicGame convertToDto(Game game) {
+        // 남은 시간은 저장된 값이 아니라 마감 시각으로 계산
+        long now = System.currentTimeMillis();
+        List<PublicPlayer> players = game.getPlayers() == null ? List.of() : game.getPlayers().stream()
+                .map(PublicArenaDto::convertToDto)
+                .toList();
+        return new PublicGame(
+                game.getGameId(),
+                game.getGameStatus(),
+                game.getMessage(),
+                players,
+                game.remainingSeconds(now),
+                game.getRound(),
+                game.getRoundStatus(),
+                game.isPaused(),
+                game.remainingPauseSeconds(now),
+                game.getCurrentInterestRate(),
+                game.getCurrentEvent(),
+                game.getCurrentStockPriceLevel(),
+                game.getMarketStocks(),
+                game.getStockSellTrack(),
+                game.getStockBuyTrack(),
+                game.getGoldBuyTrack(),
+                game.getGoldPrice(),
+                game.getGoldPriceIncreaseCnt(),
+                game.getStockPriceChangeInfo()
+        );
+    }
+
+    private static PublicPlayer convertToDto(Player player) {
+        return new PublicPlayer(
+                player.getNickname(),
+                player.getCharacterType(),
+                player.getPosition(),
+                player.getDirection(),
+                player.getIsConnected()
+        );
+    }
+}
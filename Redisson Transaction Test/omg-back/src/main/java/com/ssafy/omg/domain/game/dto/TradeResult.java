@@ -0,0 +1,50 @@
+package com.ssafy.omg.domain.game.dto;
+
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.StockInfo;
+import com.ssafy.omg.domain.player.entity.Player;
+
+import java.util.List;
+
+/**
+ * 거래(주식 매수/매도, 금괴 매입) 결과
+ * 거래 직후의 플레이어/주식 시장 상태를 담고 있어 Arena를 다시 읽지 않고 응답을 만들 수 있다.
+ *
+ * @param status                   OK 또는 실패한 응답 상태 이름 (거래 스크립트 응답)
+ * @param player                   거래한 플레이어
+ * @param playerNicknames          플레이어 순서
+ * @param playerStocks             플레이어 순서대로의 보유 주식 개수
+ * @param marketStocks             주식 시장
+ * @param stockPriceChangeInfo     주가 변동 그래프
+ */
+public record TradeResult(
+        String status,
+        Player player,
+        List<String> playerNicknames,
+        List<int[]> playerStocks,
+        StockInfo[] marketStocks,
+        int[][] stockPriceChangeInfo
+) {
+    public static final String OK = "OK";
+    // 거래 스크립트에 넘긴 플레이어 목록이 저장된 목록과 다른 경우
+    public static final String STALE_PLAYERS = "STALE_PLAYERS";
+
+    public static TradeResult of(Game game, Player player) {
+        List<Player> players = game.getPlayers();
+        return new TradeResult(
+                OK,
+                player,
+                players.stream().map(Player::getNickname).toList(),
+                players.stream().map(Player::getStock).toList(),
+                game.getMarketStocks(),
+                game.getStockPriceChangeInfo());
+    }
+
+    public boolean isSuccess() {
+        return OK.equals(status);
+    }
+
+    public IndividualMessageDto toIndividualMessage() {
+        return IndividualMessageDto.from(player);
+    }
+}
@@ -32,11 +32,13 @@ public class Game implements Serializable {
     private List<Player> players;
 
     // 라운드 정보
-    private int time;                             // 라운드 남은 시간
+    private int time;                             // 라운드 남은 시간 (스케줄러가 마지막으로 처리한 초)
     private int round;                            // 현재 라운드
     private RoundStatus roundStatus;              // 현재 라운드 상태
     public boolean isPaused;                      // 라운드 정지 여부
     public int pauseTime;                         // 라운드 정지 시간
+    private long phaseEndsAt;                     // 현재 라운드 상태가 끝나는 시각 (epoch ms, 0이면 다음 틱부터 time초 진행)
+    private long pauseEndsAt;                     // 라운드 정지가 끝나는 시각 (epoch ms)
 
     // [게임] 정보
     private int currentInterestRate;              // 금리 -> 계산 시 /100으로 %계산 해줘야함
@@ -64,6 +66,22 @@ public class Game implements Serializable {
         }
     }
 
+    // now 기준 라운드 남은 시간(초), 정지 중이면 멈춘 시간
+    public int remainingSeconds(long now) {
+        if (phaseEndsAt == 0 || isPaused) {
+            return time;
+        }
+        return (int) Math.max(0, (phaseEndsAt - now + 999) / 1000);
+    }
+
+    // now 기준 라운드 정지 남은 시간(초)
+    public int remainingPauseSeconds(long now) {
+        if (!isPaused || pauseEndsAt == 0) {
+            return pauseTime;
+        }
+        return (int) Math.max(0, (pauseEndsAt - now + 999) / 1000);
+    }
+
     public void addGoldPrice(int amount) {  // amount는 올라야 할 칸 수
         for (int i = 0; i < amount; i++) {
             if (this.goldPrice >= 100) {
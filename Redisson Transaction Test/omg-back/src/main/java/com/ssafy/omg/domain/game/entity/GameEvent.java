@@ -11,6 +11,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -44,6 +45,10 @@ public class GameEvent implements Serializable {
     @Column(name = "affected_stock_group", nullable = false, length = 10)
     private String affectedStockGroup;
 
+    // affectedStockGroup을 주식 번호 비트마스크로 변환한 값 (GameEventCatalog 로딩 시 계산, Arena에 함께 저장)
+    @Transient
+    private int affectedStockMask;
+
     @JsonIgnore
     public Long getId() {
         return id;
@@ -0,0 +1,41 @@
+package com.ssafy.omg.domain.game.entity;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 경제 이벤트가 영향을 주는 주식 산업 그룹
+ * mask는 영향을 받는 주식 번호(marketStocks 인덱스 1~5)를 비트로 표현한 값이다.
+ */
+public enum StockGroup {
+    ALL(1, 2, 3, 4, 5),
+    FOOD(1, 2),
+    GIFT(3),
+    CLOTHES(4, 5),
+    NULL;
+
+    private final int mask;
+
+    StockGroup(int... stockIndexes) {
+        int mask = 0;
+        for (int stockIndex : stockIndexes) {
+            mask |= 1 << stockIndex;
+        }
+        this.mask = mask;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public static boolean isAffected(int mask, int stockIndex) {
+        return (mask & (1 << stockIndex)) != 0;
+    }
+
+    // event 테이블의 affected_stock_group 값으로 조회
+    public static Optional<StockGroup> from(String affectedStockGroup) {
+        return Arrays.stream(values())
+                .filter(group -> group.name().equals(affectedStockGroup))
+                .findFirst();
+    }
+}
@@ -0,0 +1,266 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.omg.config.RedisKeys;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.player.entity.Player;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Arena를 하나의 JSON 값 대신 여러 Redis Hash로 분해해 저장하는 저장소
+ * - room{id}:arena          : roomId, message, room
+ * - room{id}:game           : 게임/라운드 스칼라 값 + 플레이어 순서
+ * - room{id}:market         : 주식 시장, 주머니, 트랙, 금 시세
+ * - room{id}:chart          : 주가 변동 그래프
+ * - room{id}:player:{닉네임} : 플레이어별 정보
+ * - room{id}:version        : 저장할 때마다 1씩 올라가는 Arena 버전
+ * 각 필드 값은 JSON으로 저장하며, ArenaUpdate에 표시된 영역만 기록한다.
+ * 모든 키가 {roomId} 해시 태그를 공유하므로(RedisKeys) Redis Cluster에서도 저장 스크립트 하나로 처리할 수 있다.
+ */
+@Slf4j
+@Repository
+public class ArenaHashRepository {
+
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/arena_hash_save.lua"), Long.class);
+
+    private static final String PLAYERS_FIELD = "players";
+    private static final String PLAYER_NICKNAMES_FIELD = "playerNicknames";
+    private static final Set<String> ARENA_FIELDS = Set.of("roomId", "message", "room");
+    private static final Set<String> MARKET_FIELDS = Set.of(
+            "marketStocks", "stockTokensPocket", "stockSellTrack", "stockBuyTrack", "goldBuyTrack",
+            "goldPrice", "goldPriceIncreaseCnt");
+    private static final Set<String> CHART_FIELDS = Set.of("stockPriceChangeInfo");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper hashMapper;
+
+    public ArenaHashRepository(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 부분 갱신 시 이전 값이 남지 않도록 null 필드도 그대로 기록
+        this.hashMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.ALWAYS);
+    }
+
+    /**
+     * Hash로 저장된 Arena를 조회 (섹션 Hash 조회 1회 + 플레이어 Hash 조회 1회, 모두 파이프라인)
+     *
+     * @param roomId 방 코드
+     * @return 저장된 Arena, Hash로 저장된 적이 없으면 empty
+     */
+    public Optional<Arena> find(String roomId) {
+        List<Object> sections = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().entries(arenaKey(roomId));
+                ops.opsForHash().entries(gameKey(roomId));
+                ops.opsForHash().entries(marketKey(roomId));
+                ops.opsForHash().entries(chartKey(roomId));
+                ops.opsForValue().get(versionKey(roomId));
+                return null;
+            }
+        });
+
+        Map<?, ?> arenaHash = (Map<?, ?>) sections.get(0);
+        Map<?, ?> gameHash = (Map<?, ?>) sections.get(1);
+        if (arenaHash.isEmpty() && gameHash.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            ObjectNode arenaNode = toNode(arenaHash);
+            if (!gameHash.isEmpty()) {
+                ObjectNode gameNode = toNode(gameHash);
+                gameNode.setAll(toNode((Map<?, ?>) sections.get(2)));
+                gameNode.setAll(toNode((Map<?, ?>) sections.get(3)));
+
+                JsonNode nicknames = gameNode.remove(PLAYER_NICKNAMES_FIELD);
+                gameNode.set(PLAYERS_FIELD, findPlayers(roomId, nicknames));
+                arenaNode.set("game", gameNode);
+            }
+            Arena arena = hashMapper.treeToValue(arenaNode, Arena.class);
+            Object version = sections.get(4);
+            arena.setVersion(version == null ? 0 : Long.parseLong((String) version));
+            return Optional.of(arena);
+        } catch (JsonProcessingException e) {
+            log.error("Hash로 저장된 Arena를 읽는 중 오류 발생. Room ID: {}", roomId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * ArenaUpdate에 표시된 영역만 Hash로 기록하고, 기록한 Hash의 TTL과 버전을 갱신 (스크립트 1회)
+     * 기록하지 않은 Hash의 TTL은 그대로 두며, 게임 중에는 라운드 상태가 바뀔 때마다 전체 저장(ArenaUpdate.all)으로 모든 Hash의 TTL이 갱신된다.
+     * expectedVersion이 0 이상이면 저장된 버전이 같을 때만 기록한다.
+     *
+     * @param roomId          방 코드
+     * @param arena           저장할 Arena
+     * @param update          변경된 영역
+     * @param ttlSeconds      키 만료 시간(초)
+     * @param expectedVersion 읽을 때의 버전 (-1이면 확인하지 않음)
+     * @return 저장 후 버전, 버전이 달라 기록하지 않았으면 -1
+     */
+    public long save(String roomId, Arena arena, ArenaUpdate update, long ttlSeconds, long expectedVersion) {
+        Map<String, Map<String, String>> hashes = toHashes(roomId, arena, update);
+
+        List<String> keys = new ArrayList<>(List.of(versionKey(roomId), RedisKeys.arena(roomId)));
+        keys.addAll(hashes.keySet());
+
+        List<String> args = new ArrayList<>();
+        args.add(Long.toString(expectedVersion));
+        args.add(Long.toString(ttlSeconds));
+        // 대기방 단계에서 JSON 한 덩어리로 저장된 값은 전체 저장 시 정리
+        args.add(update.isFull() ? "1" : "0");
+        args.add(Integer.toString(hashes.size()));
+        hashes.values().forEach(fields -> {
+            args.add(Integer.toString(fields.size()));
+            fields.forEach((field, value) -> {
+                args.add(field);
+                args.add(value);
+            });
+        });
+
+        Long version = stringRedisTemplate.execute(SAVE_SCRIPT, keys, args.toArray());
+        return version == null ? -1 : version;
+    }
+
+    // Arena를 구성하는 모든 Hash 삭제
+    public void delete(String roomId) {
+        List<String> keys = new ArrayList<>(List.of(arenaKey(roomId), gameKey(roomId), marketKey(roomId), chartKey(roomId), versionKey(roomId)));
+        Object nicknames = stringRedisTemplate.opsForHash().get(gameKey(roomId), PLAYER_NICKNAMES_FIELD);
+        if (nicknames != null) {
+            try {
+                for (JsonNode nickname : hashMapper.readTree((String) nicknames)) {
+                    keys.add(playerKey(roomId, nickname.asText()));
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("플레이어 목록을 읽지 못해 플레이어 Hash는 만료에 맡깁니다. Room ID: {}", roomId);
+            }
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    private ArrayNode findPlayers(String roomId, JsonNode nicknames) throws JsonProcessingException {
+        ArrayNode players = hashMapper.createArrayNode();
+        if (nicknames == null || !nicknames.isArray() || nicknames.isEmpty()) {
+            return players;
+        }
+
+        List<String> playerKeys = new ArrayList<>();
+        nicknames.forEach(nickname -> playerKeys.add(playerKey(roomId, nickname.asText())));
+        List<Object> playerHashes = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                playerKeys.forEach(key -> ops.opsForHash().entries(key));
+                return null;
+            }
+        });
+
+        for (Object playerHash : playerHashes) {
+            players.add(toNode((Map<?, ?>) playerHash));
+        }
+        return players;
+    }
+
+    private Map<String, Map<String, String>> toHashes(String roomId, Arena arena, ArenaUpdate update) {
+        Map<String, Map<String, String>> hashes = new LinkedHashMap<>();
+
+        if (update.includes(ArenaSection.ROOM)) {
+            ObjectNode arenaNode = hashMapper.valueToTree(arena);
+            hashes.put(arenaKey(roomId), toHash(arenaNode.retain(ARENA_FIELDS)));
+        }
+
+        Game game = arena.getGame();
+        if (game == null) {
+            return hashes;
+        }
+
+        if (update.includes(ArenaSection.GAME) || update.includes(ArenaSection.MARKET) || update.includes(ArenaSection.CHART)) {
+            ObjectNode gameNode = hashMapper.valueToTree(game);
+            gameNode.remove(PLAYERS_FIELD);
+
+            if (update.includes(ArenaSection.MARKET)) {
+                hashes.put(marketKey(roomId), toHash(gameNode.deepCopy().retain(MARKET_FIELDS)));
+            }
+            if (update.includes(ArenaSection.CHART)) {
+                hashes.put(chartKey(roomId), toHash(gameNode.deepCopy().retain(CHART_FIELDS)));
+            }
+            if (update.includes(ArenaSection.GAME)) {
+                gameNode.remove(MARKET_FIELDS);
+                gameNode.remove(CHART_FIELDS);
+                ArrayNode nicknames = gameNode.putArray(PLAYER_NICKNAMES_FIELD);
+                game.getPlayers().forEach(player -> nicknames.add(player.getNickname()));
+                hashes.put(gameKey(roomId), toHash(gameNode));
+            }
+        }
+
+        for (Player player : game.getPlayers()) {
+            if (update.includesPlayer(player.getNickname())) {
+                hashes.put(playerKey(roomId, player.getNickname()), toHash(hashMapper.valueToTree(player)));
+            }
+        }
+        return hashes;
+    }
+
+    private Map<String, String> toHash(ObjectNode node) {
+        Map<String, String> hash = new HashMap<>();
+        node.fields().forEachRemaining(field -> hash.put(field.getKey(), field.getValue().toString()));
+        return hash;
+    }
+
+    private ObjectNode toNode(Map<?, ?> hash) throws JsonProcessingException {
+        ObjectNode node = hashMapper.createObjectNode();
+        for (Map.Entry<?, ?> field : hash.entrySet()) {
+            node.set((String) field.getKey(), hashMapper.readTree((String) field.getValue()));
+        }
+        return node;
+    }
+
+    private String arenaKey(String roomId) {
+        return RedisKeys.arenaHash(roomId);
+    }
+
+    private String gameKey(String roomId) {
+        return RedisKeys.gameHash(roomId);
+    }
+
+    private String marketKey(String roomId) {
+        return RedisKeys.marketHash(roomId);
+    }
+
+    private String chartKey(String roomId) {
+        return RedisKeys.chartHash(roomId);
+    }
+
+    private String playerKey(String roomId, String nickname) {
+        return RedisKeys.playerHash(roomId, nickname);
+    }
+
+    private String versionKey(String roomId) {
+        return RedisKeys.version(roomId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ssafy.omg.domain.game.repository;
+
+/**
+ * Arena를 Redis Hash로 분해해 저장할 때의 저장 단위
+ */
+public enum ArenaSection {
+    ROOM,       // roomId, message, 대기방 정보
+    GAME,       // 게임/라운드 스칼라 값 (상태, 시간, 라운드, 금리, 경제 이벤트 ...)
+    PLAYERS,    // 모든 플레이어 (플레이어별 Hash)
+    MARKET,     // 주식 시장, 주머니, 매수/매도/금괴 트랙, 금 시세
+    CHART       // 주가 변동 그래프 정보
+}
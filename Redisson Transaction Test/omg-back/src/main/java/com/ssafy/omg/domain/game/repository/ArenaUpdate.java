@@ -0,0 +1,83 @@
+package com.ssafy.omg.domain.game.repository;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Arena 저장 시 변경된 영역(섹션, 플레이어)을 표시
+ * Hash 저장 모드에서는 표시된 영역만 Redis에 기록한다.
+ */
+public class ArenaUpdate {
+
+    private final EnumSet<ArenaSection> sections;
+    private final Set<String> playerNicknames;
+
+    private ArenaUpdate(EnumSet<ArenaSection> sections, Set<String> playerNicknames) {
+        this.sections = sections;
+        this.playerNicknames = playerNicknames;
+    }
+
+    // 변경 없음 (변경 영역을 누적할 때 시작값)
+    public static ArenaUpdate none() {
+        return new ArenaUpdate(EnumSet.noneOf(ArenaSection.class), new HashSet<>());
+    }
+
+    // Arena 전체 변경
+    public static ArenaUpdate all() {
+        return new ArenaUpdate(EnumSet.allOf(ArenaSection.class), new HashSet<>());
+    }
+
+    public static ArenaUpdate of(ArenaSection section, ArenaSection... others) {
+        return new ArenaUpdate(EnumSet.of(section, others), new HashSet<>());
+    }
+
+    // 특정 플레이어 한 명만 변경
+    public static ArenaUpdate player(String nickname) {
+        ArenaUpdate update = new ArenaUpdate(EnumSet.noneOf(ArenaSection.class), new HashSet<>());
+        update.playerNicknames.add(nickname);
+        return update;
+    }
+
+    public ArenaUpdate and(ArenaSection section) {
+        sections.add(section);
+        return this;
+    }
+
+    public ArenaUpdate andPlayer(String nickname) {
+        playerNicknames.add(nickname);
+        return this;
+    }
+
+    // 다른 변경 영역을 현재 변경 영역에 합침
+    public ArenaUpdate merge(ArenaUpdate other) {
+        sections.addAll(other.sections);
+        playerNicknames.addAll(other.playerNicknames);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return sections.isEmpty() && playerNicknames.isEmpty();
+    }
+
+    public boolean includes(ArenaSection section) {
+        return sections.contains(section);
+    }
+
+    public boolean includesPlayer(String nickname) {
+        return sections.contains(ArenaSection.PLAYERS) || playerNicknames.contains(nickname);
+    }
+
+    public boolean isFull() {
+        return sections.size() == ArenaSection.values().length;
+    }
+
+    public Set<ArenaSection> getSections() {
+        return Collections.unmodifiableSet(sections);
+    }
+
+    public Set<String> getPlayerNicknames() {
+        return Collections.unmodifiableSet(playerNicknames);
+    }
+}
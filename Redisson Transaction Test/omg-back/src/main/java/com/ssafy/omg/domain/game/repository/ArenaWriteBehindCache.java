@@ -0,0 +1,135 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.ssafy.omg.domain.arena.entity.Arena;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 중인 Arena를 노드 메모리에 보관하는 write-behind 캐시
+ * - 조회/저장은 메모리의 Arena 인스턴스를 그대로 사용하므로 같은 노드 안에서는 항상 마지막 변경이 보인다.
+ * - 저장 시 변경 영역(ArenaUpdate)만 누적해 두고, GameRepository가 주기적으로/라이프사이클 시점에 Redis로 내보낸다.
+ * 한 방의 요청이 하나의 노드로 모인다는 전제에서만 사용한다. (다른 노드의 변경은 보이지 않음)
+ */
+@Component
+public class ArenaWriteBehindCache {
+
+    private final Map<String, CachedArena> arenas = new ConcurrentHashMap<>();
+
+    public ArenaWriteBehindCache(MeterRegistry meterRegistry) {
+        meterRegistry.gaugeMapSize("omg.arena.cache.size", Tags.empty(), arenas);
+    }
+
+    public Optional<Arena> get(String roomId) {
+        CachedArena cached = arenas.get(roomId);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        cached.touch();
+        return Optional.of(cached.arena);
+    }
+
+    /**
+     * Redis에서 읽어온 Arena를 캐시에 등록
+     * 동시에 여러 요청이 읽어왔다면 먼저 등록된 인스턴스를 반환해 모두 같은 Arena를 사용하게 한다.
+     */
+    public Arena putIfAbsent(String roomId, Arena arena) {
+        return arenas.computeIfAbsent(roomId, id -> new CachedArena(arena, null)).arena;
+    }
+
+    /**
+     * 변경 영역을 누적
+     * 캐시된 것과 다른 Arena 인스턴스가 저장되면(게임 초기화 등) 이전에 쌓인 변경 영역을 유지한 채 교체한다.
+     */
+    public void markDirty(String roomId, Arena arena, ArenaUpdate update) {
+        arenas.compute(roomId, (id, existing) -> {
+            CachedArena cached = existing;
+            if (existing == null) {
+                cached = new CachedArena(arena, null);
+            } else if (existing.arena != arena) {
+                cached = new CachedArena(arena, existing.takeDirty());
+            }
+            cached.markDirty(update);
+            return cached;
+        });
+    }
+
+    /**
+     * 누적된 변경 영역을 꺼내고 비움 (flush 대상이 없으면 empty)
+     */
+    public Optional<DirtyArena> takeDirty(String roomId) {
+        CachedArena cached = arenas.get(roomId);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        ArenaUpdate dirty = cached.takeDirty();
+        return dirty == null ? Optional.empty() : Optional.of(new DirtyArena(cached.arena, dirty));
+    }
+
+    // flush 실패 시 변경 영역을 되돌려 다음 flush에서 다시 기록
+    public void restoreDirty(String roomId, ArenaUpdate update) {
+        CachedArena cached = arenas.get(roomId);
+        if (cached != null) {
+            cached.markDirty(update);
+        }
+    }
+
+    public List<String> roomIds() {
+        return new ArrayList<>(arenas.keySet());
+    }
+
+    public void evict(String roomId) {
+        arenas.remove(roomId);
+    }
+
+    // 일정 시간 접근이 없고 기록할 변경도 없는 Arena 정리
+    public void evictIdle(long idleMillis) {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        for (String roomId : arenas.keySet()) {
+            arenas.computeIfPresent(roomId, (id, cached) -> cached.isIdleSince(threshold) ? null : cached);
+        }
+    }
+
+    public record DirtyArena(Arena arena, ArenaUpdate update) {
+    }
+
+    private static final class CachedArena {
+
+        private final Arena arena;
+        private ArenaUpdate dirty;
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+
+        private CachedArena(Arena arena, ArenaUpdate dirty) {
+            this.arena = arena;
+            this.dirty = dirty;
+        }
+
+        private synchronized void markDirty(ArenaUpdate update) {
+            if (dirty == null) {
+                dirty = ArenaUpdate.none();
+            }
+            dirty.merge(update);
+            touch();
+        }
+
+        private synchronized ArenaUpdate takeDirty() {
+            ArenaUpdate taken = dirty;
+            dirty = null;
+            return taken;
+        }
+
+        private synchronized boolean isIdleSince(long threshold) {
+            return dirty == null && lastAccessMillis < threshold;
+        }
+
+        private void touch() {
+            lastAccessMillis = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.ssafy.omg.domain.game.entity.GameEvent;
+import com.ssafy.omg.domain.game.entity.StockGroup;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경제 이벤트 카탈로그
+ * event 테이블은 게임 중 바뀌지 않는 20여 개의 행이므로 시작할 때 한 번 읽어 메모리에 두고,
+ * 라운드마다 DB를 조회하지 않고 id로 바로 찾는다.
+ * 영향을 받는 주식 그룹은 로딩할 때 비트마스크(affectedStockMask)로 변환해둔다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class GameEventCatalog {
+
+    private final GameEventRepository gameEventRepository;
+
+    // 교체만 하고 수정하지 않는 불변 Map
+    private volatile Map<Long, GameEvent> events = Map.of();
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    /**
+     * event 테이블을 다시 읽어 카탈로그 교체
+     * 유효하지 않은 주식 그룹이 있으면 기존 카탈로그를 유지한다.
+     *
+     * @return 로딩한 이벤트 개수
+     */
+    public int refresh() {
+        List<GameEvent> loaded = gameEventRepository.findAll();
+        for (GameEvent event : loaded) {
+            StockGroup group = StockGroup.from(event.getAffectedStockGroup())
+                    .orElseThrow(() -> new IllegalStateException(
+                            "유효하지 않은 주식 산업 그룹입니다. event_id: " + event.getId() + ", group: " + event.getAffectedStockGroup()));
+            event.setAffectedStockMask(group.getMask());
+        }
+        events = loaded.stream().collect(Collectors.toUnmodifiableMap(GameEvent::getId, Function.identity()));
+        log.info("경제 이벤트 카탈로그 로딩 완료. {}개", events.size());
+        return events.size();
+    }
+
+    public Optional<GameEvent> findById(long eventId) {
+        return Optional.ofNullable(events.get(eventId));
+    }
+
+    /**
+     * 이벤트가 영향을 주는 주식 번호 비트마스크
+     * 카탈로그 도입 전에 저장된 Arena의 이벤트는 마스크가 없으므로 그룹 이름으로 계산한다.
+     */
+    public int stockMaskOf(GameEvent event) {
+        if (event.getAffectedStockMask() != 0) {
+            return event.getAffectedStockMask();
+        }
+        return StockGroup.from(event.getAffectedStockGroup()).map(StockGroup::getMask).orElse(0);
+    }
+}
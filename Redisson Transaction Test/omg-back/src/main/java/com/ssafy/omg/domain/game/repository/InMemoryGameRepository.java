@@ -0,0 +1,180 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.config.RedisKeys;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 메모리 Arena 저장소 (omg.arena.repository=memory)
+ * Redis 없이 단일 노드로 실행하거나 테스트할 때, 그리고 저장소 오버헤드를 측정하는 기준으로 사용한다.
+ * Redis 구현과 같은 의미를 갖도록
+ * - Arena는 직렬화한 값으로 보관해 조회할 때마다 새 인스턴스를 돌려주고
+ * - 저장할 때마다 버전을 1 올리며 TTL이 지난 Arena는 없는 것으로 본다.
+ * 쓰기는 방 코드로 나눈 락 스트라이프로 직렬화하고, 읽기는 락 없이 수행한다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "omg.arena.repository", havingValue = "memory")
+public class InMemoryGameRepository implements GameRepository {
+
+    private static final int LOCK_STRIPES = 64;
+    // 버전 확인 없이 저장
+    private static final long ANY_VERSION = -1;
+
+    private record StoredArena(byte[] value, long version, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, StoredArena> arenas = new ConcurrentHashMap<>();
+    private final Set<String> activeGames = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    // 마지막 저장 시점부터 Arena가 유지되는 시간(초)
+    @Value("${omg.arena.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    public InMemoryGameRepository(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Optional<Arena> findArenaByRoomId(String roomId) {
+        return findStored(roomId).map(stored -> {
+            try {
+                Arena arena = objectMapper.readValue(stored.value(), Arena.class);
+                arena.setVersion(stored.version());
+                return arena;
+            } catch (IOException e) {
+                log.error("메모리에 저장된 Arena를 읽는 중 오류 발생. Room ID: {}", roomId, e);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public boolean existsArena(String roomId) {
+        return findStored(roomId).isPresent();
+    }
+
+    @Override
+    public void saveArena(String roomId, Arena arena, ArenaUpdate update) {
+        writeArena(roomId, arena, ANY_VERSION);
+    }
+
+    @Override
+    public boolean saveArenaIfVersion(String roomId, Arena arena, ArenaUpdate update) {
+        return writeArena(roomId, arena, arena.getVersion());
+    }
+
+    private boolean writeArena(String roomId, Arena arena, long expectedVersion) {
+        byte[] value;
+        try {
+            value = objectMapper.writeValueAsBytes(arena);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Arena 직렬화 실패. Room ID: " + roomId, e);
+        }
+
+        ReentrantLock lock = lockFor(roomId);
+        lock.lock();
+        try {
+            long currentVersion = findStored(roomId).map(StoredArena::version).orElse(0L);
+            if (expectedVersion >= 0 && currentVersion != expectedVersion) {
+                return false;
+            }
+            long nextVersion = currentVersion + 1;
+            long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+            arenas.put(roomId, new StoredArena(value, nextVersion, expiresAt));
+            arena.setVersion(nextVersion);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteArena(String roomId) {
+        ReentrantLock lock = lockFor(roomId);
+        lock.lock();
+        try {
+            arenas.remove(roomId);
+        } finally {
+            lock.unlock();
+        }
+        removeActiveGame(roomId);
+    }
+
+    @Override
+    public List<Arena> findActiveArenas(int shard) {
+        List<Arena> activeArenas = new ArrayList<>();
+        List<String> staleRoomIds = new ArrayList<>();
+        for (String roomId : activeGames) {
+            if (RedisKeys.activeGameShard(roomId) != shard) {
+                continue;
+            }
+            Arena arena = findArenaByRoomId(roomId).orElse(null);
+            if (!GameRepository.isActive(arena)) {
+                staleRoomIds.add(roomId);
+                continue;
+            }
+            activeArenas.add(arena);
+        }
+        staleRoomIds.forEach(activeGames::remove);
+        return activeArenas;
+    }
+
+    @Override
+    public List<String> findActiveGameIds(int shard) {
+        return activeGames.stream()
+                .filter(roomId -> RedisKeys.activeGameShard(roomId) == shard)
+                .toList();
+    }
+
+    @Override
+    public void addActiveGame(String roomId) {
+        activeGames.add(roomId);
+    }
+
+    @Override
+    public void removeActiveGame(String roomId) {
+        activeGames.remove(roomId);
+    }
+
+    // 만료된 Arena는 없는 것으로 보고 제거
+    private Optional<StoredArena> findStored(String roomId) {
+        StoredArena stored = arenas.get(roomId);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        if (stored.isExpired(System.currentTimeMillis())) {
+            arenas.remove(roomId, stored);
+            return Optional.empty();
+        }
+        return Optional.of(stored);
+    }
+
+    private ReentrantLock lockFor(String roomId) {
+        return locks[Math.floorMod(roomId.hashCode(), LOCK_STRIPES)];
+    }
+}
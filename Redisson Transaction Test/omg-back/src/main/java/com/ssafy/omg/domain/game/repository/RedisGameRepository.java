@@ -0,0 +1,453 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.ssafy.omg.config.RedisKeys;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisTemplate 기반 Arena 저장소 (omg.arena.repository=redis, 기본값)
+ * blob/hash 저장 방식과 write-behind 캐시를 지원한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "omg.arena.repository", havingValue = "redis", matchIfMissing = true)
+public class RedisGameRepository implements GameRepository {
+
+    private final RedisTemplate<String, Arena> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ArenaHashRepository arenaHashRepository;
+    private final ArenaWriteBehindCache arenaCache;
+    private final TradeScriptRepository tradeScriptRepository;
+    private final MeterRegistry meterRegistry;
+    private static final RedisScript<Long> BLOB_SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/arena_blob_save.lua"), Long.class);
+    private static final RedisSerializer<Long> VERSION_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+    // 버전 확인 없이 저장
+    private static final long ANY_VERSION = -1;
+    private static final String HASH_STORAGE_MODE = "hash";
+    private static final String ARENA_METRIC = "omg.arena.repository";
+    private static final int ACTIVE_GAME_SCAN_COUNT = 100;
+
+    // Arena 저장 방식 (blob: Arena 전체를 하나의 값으로 저장, hash: 영역별 Redis Hash로 분해해 저장)
+    @Value("${omg.arena.storage-mode:blob}")
+    private String storageMode;
+
+    // 마지막 저장 시점부터 Arena가 유지되는 시간(초)
+    @Value("${omg.arena.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    // 저장 직후 다시 읽어 확인하는 비율 (0.0 ~ 1.0, debug 로그가 켜져 있을 때만 동작)
+    @Value("${omg.arena.verify-sample-rate:0.0}")
+    private double verifySampleRate;
+
+    // 게임 중인 Arena를 메모리에 두고 변경분만 주기적으로 Redis에 기록 (방 요청이 한 노드로 모일 때만 사용)
+    @Value("${omg.arena.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+
+    /**
+     * 진행중인 게임 인덱스 샤드 하나를 커서 단위로 순회하며 IN_GAME 상태의 Arena만 반환
+     * 키가 만료되었거나 더 이상 진행중이 아닌 게임은 인덱스에서 정리한다.
+     * (샤드마다 다른 슬롯에 있을 수 있으므로 샤드 단위로 명령 실행)
+     */
+    @Override
+    public List<Arena> findActiveArenas(int shard) {
+        String indexKey = RedisKeys.activeGameIndexShard(shard);
+        List<Arena> activeArenas = new ArrayList<>();
+        List<String> staleRoomIds = new ArrayList<>();
+
+        ScanOptions options = ScanOptions.scanOptions().count(ACTIVE_GAME_SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(indexKey, options)) {
+            while (cursor.hasNext()) {
+                String roomId = cursor.next();
+                Arena arena = findArenaByRoomId(roomId).orElse(null);
+                if (!GameRepository.isActive(arena)) {
+                    staleRoomIds.add(roomId);
+                    continue;
+                }
+                activeArenas.add(arena);
+            }
+        }
+
+        if (!staleRoomIds.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(indexKey, staleRoomIds.toArray());
+            log.debug("진행중 게임 인덱스({})에서 {}개 방 정리: {}", indexKey, staleRoomIds.size(), staleRoomIds);
+        }
+        return activeArenas;
+    }
+
+    @Override
+    public List<String> findActiveGameIds(int shard) {
+        List<String> roomIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().count(ACTIVE_GAME_SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(RedisKeys.activeGameIndexShard(shard), options)) {
+            cursor.forEachRemaining(roomIds::add);
+        }
+        return roomIds;
+    }
+
+    @Override
+    public void addActiveGame(String roomId) {
+        stringRedisTemplate.opsForSet().add(RedisKeys.activeGameIndex(roomId), roomId);
+    }
+
+    @Override
+    public void removeActiveGame(String roomId) {
+        stringRedisTemplate.opsForSet().remove(RedisKeys.activeGameIndex(roomId), roomId);
+    }
+
+    @Override
+    public Optional<Arena> findArenaByRoomId(String roomId) {
+        if (writeBehindEnabled) {
+            Optional<Arena> cached = arenaCache.get(roomId);
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<Arena> arena;
+        try {
+            arena = loadArena(roomId);
+        } finally {
+            sample.stop(meterRegistry.timer(ARENA_METRIC, "operation", "find", "mode", storageMode));
+        }
+
+        // 대기방 단계의 Arena는 write-behind 대상이 아니므로 게임이 시작된 Arena만 캐시
+        if (writeBehindEnabled && arena.isPresent() && arena.get().getGame() != null) {
+            return Optional.of(arenaCache.putIfAbsent(roomId, arena.get()));
+        }
+        return arena;
+    }
+
+    @Override
+    public boolean existsArena(String roomId) {
+        if (writeBehindEnabled && arenaCache.get(roomId).isPresent()) {
+            return true;
+        }
+        Long count = stringRedisTemplate.countExistingKeys(List.of(RedisKeys.arena(roomId), RedisKeys.gameHash(roomId)));
+        return count != null && count > 0;
+    }
+
+    private Optional<Arena> loadArena(String roomId) {
+        if (isHashMode()) {
+            Optional<Arena> arena = arenaHashRepository.find(roomId);
+            if (arena.isPresent()) {
+                return arena;
+            }
+        }
+        // 대기방 단계의 Arena는 저장 방식과 관계없이 하나의 값으로 저장되어 있음
+        return loadBlobArena(roomId);
+    }
+
+    // Arena 값과 버전을 MGET 한 번으로 조회
+    private Optional<Arena> loadBlobArena(String roomId) {
+        byte[] arenaKey = bytes(RedisKeys.arena(roomId));
+        byte[] versionKey = bytes(RedisKeys.version(roomId));
+        List<byte[]> values = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(arenaKey, versionKey));
+        return toBlobArena(values);
+    }
+
+    // MGET으로 읽은 [Arena 값, 버전]을 Arena로 변환
+    private Optional<Arena> toBlobArena(List<byte[]> values) {
+        if (values == null || values.get(0) == null) {
+            return Optional.empty();
+        }
+        Arena arena = arenaSerializer().deserialize(values.get(0));
+        if (arena == null) {
+            return Optional.empty();
+        }
+        arena.setVersion(values.get(1) == null ? 0 : Long.parseLong(new String(values.get(1), StandardCharsets.UTF_8)));
+        return Optional.of(arena);
+    }
+
+    /**
+     * 여러 방의 Arena 값과 버전을 파이프라인 한 번으로 조회 (방마다 MGET)
+     * 방마다 키 슬롯이 다를 수 있으므로 방 단위 MGET을 파이프라인으로 묶는다.
+     * hash 저장 방식과 write-behind 모드는 방 단위 조회를 그대로 사용한다.
+     */
+    @Override
+    public Map<String, Arena> findArenasByRoomIds(Collection<String> roomIds) {
+        if (isHashMode() || writeBehindEnabled || roomIds.size() <= 1) {
+            return GameRepository.super.findArenasByRoomIds(roomIds);
+        }
+        List<String> ids = List.copyOf(roomIds);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String roomId : ids) {
+                    connection.stringCommands().mGet(bytes(RedisKeys.arena(roomId)), bytes(RedisKeys.version(roomId)));
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+        } finally {
+            sample.stop(meterRegistry.timer(ARENA_METRIC, "operation", "find_batch", "mode", storageMode));
+        }
+
+        Map<String, Arena> arenas = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String roomId = ids.get(i);
+            @SuppressWarnings("unchecked")
+            List<byte[]> values = (List<byte[]>) results.get(i);
+            toBlobArena(values).ifPresent(arena -> arenas.put(roomId, arena));
+        }
+        return arenas;
+    }
+
+    /**
+     * Arena 저장
+     * hash 저장 방식에서는 update에 표시된 영역만 기록하고, blob 저장 방식에서는 Arena 전체를 기록한다.
+     * TTL은 저장할 때마다 ttlSeconds로 다시 설정하므로 기존 TTL을 조회하지 않고 한 번의 요청(파이프라인)으로 끝난다.
+     * write-behind 모드에서는 게임 중인 Arena의 변경 영역만 표시해두고 flush 시점에 기록한다.
+     * 버전을 확인하지 않고 덮어쓰므로, 여러 요청이 동시에 변경할 수 있는 게임 상태는 ArenaCommandExecutor로 저장한다.
+     *
+     * @param roomId 방 코드
+     * @param arena  저장할 Arena
+     * @param update 변경된 영역
+     */
+    @Override
+    public void saveArena(String roomId, Arena arena, ArenaUpdate update) {
+        if (writeBehindEnabled && arena.getGame() != null) {
+            arenaCache.markDirty(roomId, arena, update);
+            return;
+        }
+        writeArena(roomId, arena, update, ANY_VERSION);
+
+        if (shouldVerify()) {
+            log.debug("Arena saved. Room ID: {}, sections: {}, players: {}, stored game: {}", roomId,
+                    update.getSections(), update.getPlayerNicknames(), loadArena(roomId).map(Arena::getGame).orElse(null));
+        }
+    }
+
+    /**
+     * 읽은 이후 다른 요청이 Arena를 저장하지 않았을 때만 저장 (버전 비교 후 저장, 스크립트 1회)
+     * 저장에 성공하면 arena의 버전을 저장된 버전으로 갱신한다.
+     * write-behind 모드에서는 노드 안에서 같은 Arena 인스턴스를 공유하므로 버전 비교 없이 변경 영역만 표시한다.
+     *
+     * @param roomId 방 코드
+     * @param arena  findArenaByRoomId로 읽은 뒤 변경한 Arena
+     * @param update 변경된 영역
+     * @return 저장 여부 (false면 다른 요청이 먼저 저장한 것이므로 다시 읽어서 재시도해야 함)
+     */
+    @Override
+    public boolean saveArenaIfVersion(String roomId, Arena arena, ArenaUpdate update) {
+        if (writeBehindEnabled && arena.getGame() != null) {
+            arenaCache.markDirty(roomId, arena, update);
+            return true;
+        }
+        return writeArena(roomId, arena, update, arena.getVersion());
+    }
+
+    private boolean writeArena(String roomId, Arena arena, ArenaUpdate update, long expectedVersion) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long version;
+        try {
+            if (isHashMode() && arena.getGame() != null) {
+                version = arenaHashRepository.save(roomId, arena, update, ttlSeconds, expectedVersion);
+            } else {
+                version = writeBlobArena(roomId, arena, expectedVersion);
+            }
+        } finally {
+            sample.stop(meterRegistry.timer(ARENA_METRIC, "operation", "save", "mode", storageMode));
+        }
+
+        if (version < 0) {
+            return false;
+        }
+        arena.setVersion(version);
+        return true;
+    }
+
+    /**
+     * 여러 Arena를 저장 스크립트(EVALSHA)를 파이프라인으로 묶어 한 번에 저장 (방마다 버전 확인, TTL 설정)
+     * 스크립트가 Redis에 없으면(재시작 등) 등록한 뒤 한 번 더 실행한다. 이미 저장된 방은 버전이 달라 다시 저장되지 않는다.
+     * hash 저장 방식과 write-behind 모드는 방 단위 저장을 그대로 사용한다.
+     */
+    @Override
+    public Set<String> saveArenasIfVersion(Map<String, ArenaWrite> writes) {
+        if (isHashMode() || writeBehindEnabled || writes.size() <= 1) {
+            return GameRepository.super.saveArenasIfVersion(writes);
+        }
+        List<String> ids = List.copyOf(writes.keySet());
+        List<byte[]> values = new ArrayList<>(ids.size());
+        ids.forEach(roomId -> values.add(arenaSerializer().serialize(writes.get(roomId).arena())));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Object> results;
+        try {
+            try {
+                results = pipelineBlobSaves(ids, writes, values);
+            } catch (DataAccessException e) {
+                log.debug("Arena 저장 스크립트를 다시 등록합니다.", e);
+                redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                        .scriptLoad(bytes(BLOB_SAVE_SCRIPT.getScriptAsString())));
+                results = pipelineBlobSaves(ids, writes, values);
+            }
+        } finally {
+            sample.stop(meterRegistry.timer(ARENA_METRIC, "operation", "save_batch", "mode", storageMode));
+        }
+
+        Set<String> saved = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object version = results.get(i);
+            if (version instanceof Long savedVersion && savedVersion >= 0) {
+                writes.get(ids.get(i)).arena().setVersion(savedVersion);
+                saved.add(ids.get(i));
+            }
+        }
+        return saved;
+    }
+
+    private List<Object> pipelineBlobSaves(List<String> ids, Map<String, ArenaWrite> writes, List<byte[]> values) {
+        byte[] ttl = bytes(Long.toString(ttlSeconds));
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < ids.size(); i++) {
+                String roomId = ids.get(i);
+                connection.scriptingCommands().evalSha(BLOB_SAVE_SCRIPT.getSha1(), ReturnType.INTEGER, 2,
+                        bytes(RedisKeys.arena(roomId)),
+                        bytes(RedisKeys.version(roomId)),
+                        bytes(Long.toString(writes.get(roomId).arena().getVersion())),
+                        ttl,
+                        values.get(i));
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+    }
+
+    private long writeBlobArena(String roomId, Arena arena, long expectedVersion) {
+        Long version = redisTemplate.execute(BLOB_SAVE_SCRIPT, RedisSerializer.byteArray(), VERSION_SERIALIZER,
+                List.of(RedisKeys.arena(roomId), RedisKeys.version(roomId)),
+                Long.toString(expectedVersion).getBytes(StandardCharsets.UTF_8),
+                Long.toString(ttlSeconds).getBytes(StandardCharsets.UTF_8),
+                arenaSerializer().serialize(arena));
+        return version == null ? -1 : version;
+    }
+
+    /**
+     * write-behind 캐시에 쌓인 변경 영역을 주기적으로 Redis에 기록
+     * 오래 접근되지 않은 Arena는 Redis TTL과 같은 기준으로 캐시에서 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${omg.arena.write-behind.flush-interval-ms:200}")
+    public void flushDirtyArenas() {
+        if (!writeBehindEnabled) {
+            return;
+        }
+        arenaCache.roomIds().forEach(this::flushArena);
+        arenaCache.evictIdle(TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * 해당 방의 변경 영역을 즉시 Redis에 기록 (라운드 종료, 게임 종료 시점)
+     * 플레이어 액션과 같은 Arena 모니터로 직렬화해 기록 중에 값이 섞이지 않게 한다.
+     * 기록에 실패하면 변경 영역을 되돌려 다음 flush에서 재시도한다.
+     *
+     * @param roomId 방 코드
+     */
+    @Override
+    public void flushArena(String roomId) {
+        if (!writeBehindEnabled) {
+            return;
+        }
+        arenaCache.takeDirty(roomId).ifPresent(dirty -> {
+            try {
+                synchronized (dirty.arena()) {
+                    writeArena(roomId, dirty.arena(), dirty.update(), ANY_VERSION);
+                }
+            } catch (RuntimeException e) {
+                arenaCache.restoreDirty(roomId, dirty.update());
+                log.error("Arena flush 실패, 다음 주기에 재시도합니다. Room ID: {}", roomId, e);
+            }
+        });
+    }
+
+    // 종료된 게임의 변경 영역을 기록하고 캐시에서 제거
+    @Override
+    public void flushAndEvictArena(String roomId) {
+        flushArena(roomId);
+        arenaCache.evict(roomId);
+    }
+
+    // write-behind 모드에서는 캐시의 Arena를 그대로 변경하므로, 명령이 실패하면 이 사본으로 되돌린다.
+    @Override
+    public Arena rollbackSnapshot(Arena arena) {
+        if (!writeBehindEnabled || arena.getGame() == null) {
+            return null;
+        }
+        return arenaSerializer().deserialize(arenaSerializer().serialize(arena));
+    }
+
+    // 애플리케이션 종료 시 기록되지 않은 변경 영역을 모두 기록
+    @PreDestroy
+    public void flushAllArenas() {
+        if (!writeBehindEnabled) {
+            return;
+        }
+        List<String> roomIds = arenaCache.roomIds();
+        roomIds.forEach(this::flushArena);
+        log.info("종료 전 Arena {}개 flush 완료", roomIds.size());
+    }
+
+    @Override
+    public void deleteArena(String roomId) {
+        arenaCache.evict(roomId);
+        tradeScriptRepository.evict(roomId);
+        redisTemplate.delete(List.of(RedisKeys.arena(roomId), RedisKeys.version(roomId)));
+        if (isHashMode()) {
+            arenaHashRepository.delete(roomId);
+        }
+        removeActiveGame(roomId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Arena> arenaSerializer() {
+        return (RedisSerializer<Arena>) redisTemplate.getValueSerializer();
+    }
+
+    private boolean shouldVerify() {
+        return verifySampleRate > 0
+                && log.isDebugEnabled()
+                && ThreadLocalRandom.current().nextDouble() < verifySampleRate;
+    }
+
+    private boolean isHashMode() {
+        return HASH_STORAGE_MODE.equalsIgnoreCase(storageMode);
+    }
+}
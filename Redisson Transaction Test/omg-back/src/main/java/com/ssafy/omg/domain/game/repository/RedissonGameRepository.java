@@ -0,0 +1,213 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.ssafy.omg.config.ArenaRedisSerializer;
+import com.ssafy.omg.config.RedisKeys;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * RedissonClient 기반 Arena 저장소 (omg.arena.repository=redisson)
+ * redis 구현의 blob 저장 방식과 같은 키/값 형식과 저장 스크립트를 사용하므로 두 구현이 같은 데이터를 읽고 쓸 수 있다.
+ * (hash 저장 방식과 write-behind 캐시는 redis 구현에서만 지원)
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "omg.arena.repository", havingValue = "redisson")
+public class RedissonGameRepository implements GameRepository {
+
+    private static final String BLOB_SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/arena_blob_save.lua"), Long.class).getScriptAsString();
+    // 버전 확인 없이 저장
+    private static final long ANY_VERSION = -1;
+    private static final int ACTIVE_GAME_SCAN_COUNT = 100;
+
+    private final RedissonClient redissonClient;
+    private final ArenaRedisSerializer arenaSerializer;
+
+    // 마지막 저장 시점부터 Arena가 유지되는 시간(초)
+    @Value("${omg.arena.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    public RedissonGameRepository(RedissonClient redissonClient,
+                                  @Value("${omg.arena.codec.format:json}") String codecFormat,
+                                  @Value("${omg.arena.codec.compression-threshold:2048}") int compressionThreshold) {
+        this.redissonClient = redissonClient;
+        this.arenaSerializer = new ArenaRedisSerializer(codecFormat, compressionThreshold);
+    }
+
+    // Arena 값과 버전을 MGET 한 번으로 조회
+    @Override
+    public Optional<Arena> findArenaByRoomId(String roomId) {
+        Map<String, byte[]> values = redissonClient.getBuckets(ByteArrayCodec.INSTANCE)
+                .get(RedisKeys.arena(roomId), RedisKeys.version(roomId));
+
+        return toArena(values.get(RedisKeys.arena(roomId)), values.get(RedisKeys.version(roomId)));
+    }
+
+    // 여러 방의 Arena 값과 버전을 배치(파이프라인) 한 번으로 조회
+    @Override
+    public Map<String, Arena> findArenasByRoomIds(Collection<String> roomIds) {
+        List<String> ids = List.copyOf(roomIds);
+        RBatch batch = redissonClient.createBatch();
+        for (String roomId : ids) {
+            batch.getBucket(RedisKeys.arena(roomId), ByteArrayCodec.INSTANCE).getAsync();
+            batch.getBucket(RedisKeys.version(roomId), ByteArrayCodec.INSTANCE).getAsync();
+        }
+        List<?> responses = batch.execute().getResponses();
+
+        Map<String, Arena> arenas = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String roomId = ids.get(i);
+            toArena((byte[]) responses.get(i * 2), (byte[]) responses.get(i * 2 + 1))
+                    .ifPresent(arena -> arenas.put(roomId, arena));
+        }
+        return arenas;
+    }
+
+    private Optional<Arena> toArena(byte[] value, byte[] version) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        Arena arena = arenaSerializer.deserialize(value);
+        if (arena == null) {
+            return Optional.empty();
+        }
+        arena.setVersion(version == null ? 0 : Long.parseLong(new String(version, StandardCharsets.UTF_8)));
+        return Optional.of(arena);
+    }
+
+    @Override
+    public boolean existsArena(String roomId) {
+        return redissonClient.getKeys().countExists(RedisKeys.arena(roomId)) > 0;
+    }
+
+    @Override
+    public void saveArena(String roomId, Arena arena, ArenaUpdate update) {
+        writeArena(roomId, arena, ANY_VERSION);
+    }
+
+    @Override
+    public boolean saveArenaIfVersion(String roomId, Arena arena, ArenaUpdate update) {
+        return writeArena(roomId, arena, arena.getVersion());
+    }
+
+    // 여러 Arena의 저장 스크립트를 배치(파이프라인) 한 번으로 실행 (방마다 버전 확인, TTL 설정)
+    @Override
+    public Set<String> saveArenasIfVersion(Map<String, ArenaWrite> writes) {
+        List<String> ids = List.copyOf(writes.keySet());
+        RBatch batch = redissonClient.createBatch();
+        for (String roomId : ids) {
+            Arena arena = writes.get(roomId).arena();
+            batch.getScript(ByteArrayCodec.INSTANCE).evalAsync(
+                    RScript.Mode.READ_WRITE,
+                    BLOB_SAVE_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(RedisKeys.arena(roomId), RedisKeys.version(roomId)),
+                    Long.toString(arena.getVersion()).getBytes(StandardCharsets.UTF_8),
+                    Long.toString(ttlSeconds).getBytes(StandardCharsets.UTF_8),
+                    arenaSerializer.serialize(arena));
+        }
+        BatchResult<?> result = batch.execute();
+
+        Set<String> saved = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (result.getResponses().get(i) instanceof Long version && version >= 0) {
+                writes.get(ids.get(i)).arena().setVersion(version);
+                saved.add(ids.get(i));
+            }
+        }
+        return saved;
+    }
+
+    private boolean writeArena(String roomId, Arena arena, long expectedVersion) {
+        Long version = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                BLOB_SAVE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(RedisKeys.arena(roomId), RedisKeys.version(roomId)),
+                Long.toString(expectedVersion).getBytes(StandardCharsets.UTF_8),
+                Long.toString(ttlSeconds).getBytes(StandardCharsets.UTF_8),
+                arenaSerializer.serialize(arena));
+
+        if (version == null || version < 0) {
+            return false;
+        }
+        arena.setVersion(version);
+        return true;
+    }
+
+    @Override
+    public void deleteArena(String roomId) {
+        redissonClient.getKeys().delete(RedisKeys.arena(roomId), RedisKeys.version(roomId));
+        removeActiveGame(roomId);
+    }
+
+    // 인덱스 샤드 하나를 SSCAN으로 순회하며 진행중이 아닌 게임은 정리
+    @Override
+    public List<Arena> findActiveArenas(int shard) {
+        String indexKey = RedisKeys.activeGameIndexShard(shard);
+        RSet<String> index = redissonClient.getSet(indexKey, StringCodec.INSTANCE);
+        List<Arena> activeArenas = new ArrayList<>();
+        List<String> staleRoomIds = new ArrayList<>();
+
+        Iterator<String> roomIds = index.iterator(ACTIVE_GAME_SCAN_COUNT);
+        while (roomIds.hasNext()) {
+            String roomId = roomIds.next();
+            Arena arena = findArenaByRoomId(roomId).orElse(null);
+            if (!GameRepository.isActive(arena)) {
+                staleRoomIds.add(roomId);
+                continue;
+            }
+            activeArenas.add(arena);
+        }
+
+        if (!staleRoomIds.isEmpty()) {
+            index.removeAll(staleRoomIds);
+            log.debug("진행중 게임 인덱스({})에서 {}개 방 정리: {}", indexKey, staleRoomIds.size(), staleRoomIds);
+        }
+        return activeArenas;
+    }
+
+    @Override
+    public List<String> findActiveGameIds(int shard) {
+        List<String> roomIds = new ArrayList<>();
+        redissonClient.<String>getSet(RedisKeys.activeGameIndexShard(shard), StringCodec.INSTANCE)
+                .iterator(ACTIVE_GAME_SCAN_COUNT)
+                .forEachRemaining(roomIds::add);
+        return roomIds;
+    }
+
+    @Override
+    public void addActiveGame(String roomId) {
+        redissonClient.getSet(RedisKeys.activeGameIndex(roomId), StringCodec.INSTANCE).add(roomId);
+    }
+
+    @Override
+    public void removeActiveGame(String roomId) {
+        redissonClient.getSet(RedisKeys.activeGameIndex(roomId), StringCodec.INSTANCE).remove(roomId);
+    }
+}
@@ -0,0 +1,178 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.config.RedisKeys;
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.domain.game.dto.TradeResult;
+import com.ssafy.omg.domain.game.entity.StockState;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.SERVER_ERROR;
+
+/**
+ * 거래(주식 매수/매도, 금괴 매입)를 Redis 스크립트(scripts/trade.lua)로 실행하는 저장소
+ * 검증과 반영을 Redis 안에서 한 번에 처리하므로 Arena 조회/저장 왕복과 버전 충돌 재시도가 없다.
+ * Hash 저장 방식에서만 사용할 수 있다. (write-behind 모드에서는 메모리의 Arena가 기준이므로 사용하지 않음)
+ */
+@Slf4j
+@Repository
+public class TradeScriptRepository {
+
+    public enum TradeType {
+        BUY_STOCK, SELL_STOCK, PURCHASE_GOLD
+    }
+
+    private static final RedisScript<String> TRADE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/trade.lua"), String.class);
+    private static final String SCRIPT_EXECUTION = "script";
+    private static final String HASH_STORAGE_MODE = "hash";
+    private static final String REDIS_REPOSITORY = "redis";
+    // 방별 플레이어 목록 캐시 상한 (넘으면 비우고 다시 채움)
+    private static final int MAX_CACHED_ROOMS = 1024;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String stockTablesJson;
+    // 주가 변동 시 주머니에서 뽑는 최대 토큰 개수 (매수 때마다 이만큼 난수를 넘긴다)
+    private final int maxDrawCount;
+    // 방별 플레이어 닉네임 목록, 스크립트가 플레이어 Hash 키를 미리 알아야 하므로 캐시해두고 다르면 스크립트가 알려준다.
+    private final Map<String, List<String>> playerNicknames = new ConcurrentHashMap<>();
+
+    // 거래 실행 방식 (java: Arena를 읽고 변경해 저장, script: Redis 스크립트로 실행)
+    @Value("${omg.game.trade.execution:java}")
+    private String execution;
+
+    @Value("${omg.arena.repository:redis}")
+    private String repository;
+
+    @Value("${omg.arena.storage-mode:blob}")
+    private String storageMode;
+
+    @Value("${omg.arena.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+
+    @Value("${omg.arena.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private boolean enabled;
+
+    public TradeScriptRepository(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper, StockState stockState) throws JsonProcessingException {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.stockTablesJson = objectMapper.writeValueAsString(Map.of(
+                "prices", Arrays.stream(stockState.getStockStandard())
+                        .map(row -> Arrays.stream(row).mapToInt(StockState.Stock::getPrice).toArray())
+                        .toList(),
+                "levels", Arrays.stream(stockState.getStockStandard())
+                        .map(row -> Arrays.stream(row).mapToInt(StockState.Stock::getLevel).toArray())
+                        .toList(),
+                "tradable", Arrays.stream(stockState.getStockLevelCards()).mapToInt(card -> card[0]).toArray(),
+                "drawCounts", Arrays.stream(stockState.getStockLevelCards()).mapToInt(card -> card[1]).toArray(),
+                "dr", stockState.getStockDr(),
+                "dc", stockState.getStockDc()));
+        this.maxDrawCount = Arrays.stream(stockState.getStockLevelCards()).mapToInt(card -> card[1]).max().orElse(0);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!SCRIPT_EXECUTION.equals(execution)) {
+            return;
+        }
+        if (!REDIS_REPOSITORY.equals(repository) || !HASH_STORAGE_MODE.equals(storageMode) || writeBehindEnabled) {
+            log.warn("거래 스크립트는 redis 저장소의 hash 저장 방식(write-behind 미사용)에서만 사용할 수 있어 java 방식으로 실행합니다.");
+            return;
+        }
+        enabled = true;
+        // 첫 거래부터 EVALSHA로 실행되도록 스크립트를 미리 등록
+        String sha = stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                .scriptLoad(TRADE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+        log.info("거래 스크립트 등록 완료. SHA1: {}", sha);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 거래 스크립트 실행 (보통 1회 왕복, 플레이어 목록이 캐시와 다르면 1회 더)
+     * 매수로 매수 트랙이 가득 찬 경우의 주가 변동도 같은 스크립트 안에서 처리한다.
+     *
+     * @param roomId 방 코드
+     * @param type   거래 종류
+     * @param sender 거래하는 플레이어 닉네임
+     * @param amount 주식 종류별 개수(int[]) 또는 금괴 개수(Integer)
+     * @return 거래 결과, 실패한 경우 status에 응답 상태 이름
+     * @throws BaseException 스크립트 응답을 읽지 못한 경우 SERVER_ERROR
+     */
+    public TradeResult execute(String roomId, TradeType type, String sender, Object amount) throws BaseException {
+        try {
+            String amountJson = objectMapper.writeValueAsString(amount);
+            TradeResult result = execute(roomId, type, sender, amountJson);
+            if (TradeResult.STALE_PLAYERS.equals(result.status())) {
+                cachePlayerNicknames(roomId, result.playerNicknames());
+                result = execute(roomId, type, sender, amountJson);
+            }
+            if (!result.isSuccess() && !TradeResult.STALE_PLAYERS.equals(result.status())) {
+                log.debug("거래 스크립트 실패. Room ID: {}, 종류: {}, 상태: {}", roomId, type, result.status());
+            }
+            return result;
+        } catch (JsonProcessingException e) {
+            log.error("거래 스크립트 응답을 읽는 중 오류 발생. Room ID: {}", roomId, e);
+            throw new BaseException(SERVER_ERROR);
+        }
+    }
+
+    // 게임 종료 등으로 방이 정리될 때 캐시에서 제거
+    public void evict(String roomId) {
+        playerNicknames.remove(roomId);
+    }
+
+    private TradeResult execute(String roomId, TradeType type, String sender, String amountJson) throws JsonProcessingException {
+        List<String> nicknames = playerNicknames.getOrDefault(roomId, List.of());
+        String reply = stringRedisTemplate.execute(TRADE_SCRIPT, keys(roomId, nicknames),
+                type.name(),
+                sender,
+                objectMapper.writeValueAsString(nicknames),
+                amountJson,
+                Integer.toString(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE)),
+                Long.toString(ttlSeconds),
+                stockTablesJson,
+                type == TradeType.BUY_STOCK ? drawsJson() : "[]");
+        return objectMapper.readValue(reply, TradeResult.class);
+    }
+
+    // 매수로 매수 트랙이 가득 차면 스크립트 안에서 주가 변동까지 처리하므로, 토큰 추첨에 쓸 난수를 함께 넘긴다.
+    private String drawsJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ThreadLocalRandom.current().ints(maxDrawCount, 0, Integer.MAX_VALUE).toArray());
+    }
+
+    private void cachePlayerNicknames(String roomId, List<String> nicknames) {
+        if (playerNicknames.size() >= MAX_CACHED_ROOMS) {
+            playerNicknames.clear();
+        }
+        playerNicknames.put(roomId, List.copyOf(nicknames));
+    }
+
+    private List<String> keys(String roomId, List<String> nicknames) {
+        List<String> keys = new ArrayList<>(List.of(
+                RedisKeys.version(roomId), RedisKeys.gameHash(roomId), RedisKeys.marketHash(roomId), RedisKeys.chartHash(roomId)));
+        nicknames.forEach(nickname -> keys.add(RedisKeys.playerHash(roomId, nickname)));
+        return keys;
+    }
+}
@@ -0,0 +1,148 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import com.ssafy.omg.domain.game.repository.ArenaUpdate;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
+import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_UPDATE_CONFLICT;
+
+/**
+ * Arena 변경 명령을 낙관적 동시성 제어로 실행
+ * 1. Arena를 버전과 함께 읽고
+ * 2. 명령으로 Arena를 변경한 뒤
+ * 3. 읽은 버전이 그대로일 때만 저장하고, 그 사이 다른 요청이 저장했다면 처음부터 다시 실행한다. (최대 maxAttempts회)
+ * 명령은 재실행될 수 있으므로 메세지 전송 같은 부수 효과는 명령이 끝난 뒤에 수행해야 한다.
+ * write-behind 모드에서는 명령이 공유 Arena를 직접 변경하므로, 명령이 예외로 끝나면 실행 전 사본으로 되돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArenaCommandExecutor {
+
+    private static final String CAS_METRIC = "omg.arena.cas";
+
+    private final GameRepository gameRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 버전 충돌 시 명령을 실행하는 최대 횟수
+    @Value("${omg.arena.cas.max-attempts:5}")
+    private int maxAttempts;
+
+    // 재시도 전 대기 시간 상한(ms), 시도 횟수만큼 늘어나며 실제 대기 시간은 0 ~ 상한 사이에서 무작위로 정함
+    @Value("${omg.arena.cas.backoff-ms:2}")
+    private long backoffMillis;
+
+    @FunctionalInterface
+    public interface ArenaCommand<T, E extends Exception> {
+        // arena를 변경하고 변경한 영역을 update에 표시, 변경이 없으면 update를 비워둔다.
+        T apply(Arena arena, ArenaUpdate update) throws BaseException, E;
+    }
+
+    @FunctionalInterface
+    public interface ArenaAction<E extends Exception> {
+        void apply(Arena arena, ArenaUpdate update) throws BaseException, E;
+    }
+
+    public <E extends Exception> void run(String roomId, String action, ArenaAction<E> command) throws BaseException, E {
+        execute(roomId, action, (arena, update) -> {
+            command.apply(arena, update);
+            return null;
+        });
+    }
+
+    /**
+     * @param roomId  방 코드
+     * @param action  메트릭에 기록할 명령 이름
+     * @param command Arena 변경 명령
+     * @return 명령의 반환값
+     * @throws BaseException ARENA_NOT_FOUND, 재시도 횟수를 모두 사용한 경우 ARENA_UPDATE_CONFLICT
+     */
+    public <T, E extends Exception> T execute(String roomId, String action, ArenaCommand<T, E> command) throws BaseException, E {
+        return execute(roomId, action, new RedisOpCounter(), command);
+    }
+
+    /**
+     * @param ops 시도마다 Arena 조회/저장 횟수를 기록할 카운터
+     */
+    public <T, E extends Exception> T execute(String roomId, String action, RedisOpCounter ops, ArenaCommand<T, E> command) throws BaseException, E {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            ops.read();
+            Arena arena = gameRepository.findArenaByRoomId(roomId)
+                    .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
+            ArenaUpdate update = ArenaUpdate.none();
+
+            T result;
+            boolean saved;
+            // write-behind 모드에서는 노드 안의 요청이 같은 Arena 인스턴스를 공유하므로 인스턴스 단위로 직렬화
+            synchronized (arena) {
+                Arena snapshot = gameRepository.rollbackSnapshot(arena);
+                boolean applied = false;
+                try {
+                    result = command.apply(arena, update);
+                    applied = true;
+                } finally {
+                    if (!applied && snapshot != null) {
+                        restore(arena, snapshot);
+                    }
+                }
+                if (update.isEmpty()) {
+                    saved = true;
+                } else {
+                    ops.write();
+                    saved = gameRepository.saveArenaIfVersion(roomId, arena, update);
+                }
+            }
+
+            if (saved) {
+                recordAttempts(action, "success", attempt);
+                return result;
+            }
+            meterRegistry.counter(CAS_METRIC, "action", action, "result", "conflict").increment();
+            if (attempt < maxAttempts) {
+                backoff(attempt);
+            }
+        }
+
+        recordAttempts(action, "exhausted", maxAttempts);
+        log.warn("Arena 버전 충돌로 {}회 시도 후 {} 실패. Room ID: {}", maxAttempts, action, roomId);
+        throw new BaseException(ARENA_UPDATE_CONFLICT);
+    }
+
+    // 일부만 변경된 공유 Arena를 실행 전 상태로 되돌림 (같은 인스턴스를 계속 쓰도록 내용만 교체, GameScheduler의 일괄 틱도 사용)
+    static void restore(Arena arena, Arena snapshot) {
+        arena.setMessage(snapshot.getMessage());
+        arena.setGame(snapshot.getGame());
+        arena.setRoom(snapshot.getRoom());
+    }
+
+    private void recordAttempts(String action, String result, int attempts) {
+        meterRegistry.counter(CAS_METRIC, "action", action, "result", result).increment();
+        DistributionSummary.builder(CAS_METRIC + ".attempts")
+                .tags("action", action)
+                .register(meterRegistry)
+                .record(attempts);
+    }
+
+    private void backoff(int attempt) throws BaseException {
+        long bound = backoffMillis * attempt;
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(ARENA_UPDATE_CONFLICT);
+        }
+    }
+}
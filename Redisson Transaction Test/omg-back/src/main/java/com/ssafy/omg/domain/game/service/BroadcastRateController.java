@@ -0,0 +1,56 @@
+package com.ssafy.omg.domain.game.service;
+
+/**
+ * 브로드캐스트 샤드 하나의 방별 프레임 간격 결정
+ * - 최근에 실제로 움직인(기준 상태에서 epsilon 이상 바뀐) 방은 activeIntervalMillis 간격
+ * - 움직임이 없거나 모든 플레이어가 거래소 화면에 있는 방은 idleIntervalMillis 간격
+ * - 샤드 루프가 프레임 간격을 넘기면(overrun) 모든 방의 간격을 두 배씩(최대 maxDegrade배) 늘리고,
+ *   루프가 간격의 절반 안에 끝나는 상태가 recoverLoops번 이어지면 절반씩 되돌린다.
+ * 샤드 스레드 하나에서만 사용한다.
+ */
+public class BroadcastRateController {
+
+    private final long activeIntervalMillis;
+    private final long idleIntervalMillis;
+    private final long activeWindowMillis;
+    private final int maxDegrade;
+    private final int recoverLoops;
+
+    private int degrade = 1;
+    private int calmLoops;
+
+    public BroadcastRateController(long activeIntervalMillis, long idleIntervalMillis, long activeWindowMillis,
+                                   int maxDegrade, int recoverLoops) {
+        this.activeIntervalMillis = activeIntervalMillis;
+        this.idleIntervalMillis = Math.max(activeIntervalMillis, idleIntervalMillis);
+        this.activeWindowMillis = activeWindowMillis;
+        this.maxDegrade = Math.max(1, maxDegrade);
+        this.recoverLoops = recoverLoops;
+    }
+
+    /**
+     * @param lastMovedAt 방이 마지막으로 움직인 시각(ms)
+     * @param exchanging  모든 플레이어가 거래소 화면에 있는지 여부
+     * @param now         현재 시각(ms)
+     * @return 방의 프레임 간격(ms)
+     */
+    public long intervalFor(long lastMovedAt, boolean exchanging, long now) {
+        boolean active = !exchanging && now - lastMovedAt < activeWindowMillis;
+        return (active ? activeIntervalMillis : idleIntervalMillis) * degrade;
+    }
+
+    // 샤드 루프 한 번이 끝난 뒤 호출
+    public void onLoop(long elapsedMillis, long loopIntervalMillis) {
+        if (elapsedMillis > loopIntervalMillis) {
+            degrade = Math.min(maxDegrade, degrade * 2);
+            calmLoops = 0;
+        } else if (degrade > 1 && elapsedMillis * 2 < loopIntervalMillis && ++calmLoops >= recoverLoops) {
+            degrade = Math.max(1, degrade / 2);
+            calmLoops = 0;
+        }
+    }
+
+    public int getDegrade() {
+        return degrade;
+    }
+}
@@ -3,21 +3,22 @@ package com.ssafy.omg.domain.game.service;
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.domain.arena.entity.Arena;
 import com.ssafy.omg.domain.game.GameRepository;
-import com.ssafy.omg.domain.game.dto.GameStatusDto;
-import com.ssafy.omg.domain.game.dto.PlayerResponse;
 import com.ssafy.omg.domain.game.dto.PlayerStateDto;
 import com.ssafy.omg.domain.game.entity.Game;
 import com.ssafy.omg.domain.game.entity.GameStatus;
-import com.ssafy.omg.domain.player.entity.Player;
-import com.ssafy.omg.domain.socket.dto.StompPayload;
+import com.ssafy.omg.domain.player.entity.PlayerStatus;
+import com.ssafy.omg.domain.socket.StompFrameEncoder;
 import com.ssafy.omg.domain.socket.dto.StompResponsePayload;
-import lombok.Getter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,60 +29,252 @@ import java.util.stream.Collectors;
 
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.GAME_NOT_FOUND;
-import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.PLAYER_NOT_FOUND;
 
+/**
+ * 플레이어 상태(PLAYER_STATE) 브로드캐스트
+ * 방마다 스레드를 두지 않고, 고정된 개수의 샤드(기본 CPU 코어 수)가 방 코드로 나눈 방들을 맡아
+ * 샤드마다 스레드 하나가 프레임 간격마다 맡은 모든 방의 프레임을 전송한다.
+ * 방은 게임 초기화 시 등록되고, Arena가 없어지거나 게임이 종료되면 다음 프레임에서 스스로 등록 해제된다.
+ * 델타 모드에서는 주기적으로(또는 새 구독자가 생기면) 전체 상태 키프레임(PLAYER_STATE)을 보내고,
+ * 그 사이 프레임은 바뀐 플레이어만 담은 PLAYER_STATE_DELTA를 보내며 바뀐 플레이어가 없으면 보내지 않는다.
+ * 이동(movePlayer)이 없던 방은 Arena를 읽지 않고 건너뛰며, 하트비트 간격마다 키프레임만 보낸다.
+ * 방별 프레임 간격은 BroadcastRateController가 움직임, 거래소 화면 여부, 샤드 루프 부하에 따라 정한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Getter
 public class GameBroadcastService {
 
-    private final Map<String, ScheduledExecutorService> schedulerMap = new ConcurrentHashMap<>();
+    private static final String BROADCAST_METRIC = "omg.game.broadcast";
+
     private final SimpMessageSendingOperations messagingTemplate;
     private final GameRepository gameRepository;
+    private final MeterRegistry meterRegistry;
+    private final RoomMovementTracker roomMovementTracker;
+    private final StompFrameEncoder stompFrameEncoder;
+
+    // 브로드캐스트 샤드 개수 (0 이하면 CPU 코어 수)
+    @Value("${omg.game.broadcast.shards:0}")
+    private int shardCount;
+
+    // 프레임 간격(ms)
+    @Value("${omg.game.broadcast.interval-ms:16}")
+    private long intervalMillis;
+
+    // 이동이 없는 방에 키프레임을 보내는 간격(ms), 0이면 이동 여부와 관계없이 매 프레임 전송
+    @Value("${omg.game.broadcast.heartbeat-ms:1000}")
+    private long heartbeatMillis;
+
+    // 바뀐 플레이어만 보내는 델타 프레임 사용 여부
+    @Value("${omg.game.broadcast.delta.enabled:true}")
+    private boolean deltaEnabled;
+
+    // 위치/방향 좌표가 이 값보다 많이 바뀌어야 바뀐 것으로 본다.
+    @Value("${omg.game.broadcast.delta.epsilon:0.001}")
+    private double epsilon;
+
+    // 키프레임 사이의 최대 프레임 수
+    @Value("${omg.game.broadcast.delta.keyframe-interval:60}")
+    private int keyframeInterval;
+
+    // 최근에 움직인 방의 프레임 간격(ms)
+    @Value("${omg.game.broadcast.rate.active-interval-ms:16}")
+    private long activeIntervalMillis;
+
+    // 움직임이 없거나 모든 플레이어가 거래소 화면에 있는 방의 프레임 간격(ms)
+    @Value("${omg.game.broadcast.rate.idle-interval-ms:250}")
+    private long idleIntervalMillis;
+
+    // 마지막 움직임 후 이 시간(ms) 동안은 움직이는 방으로 본다.
+    @Value("${omg.game.broadcast.rate.active-window-ms:500}")
+    private long activeWindowMillis;
+
+    // 샤드 루프가 밀릴 때 프레임 간격을 늘리는 최대 배수
+    @Value("${omg.game.broadcast.rate.max-degrade:4}")
+    private int maxDegrade;
+
+    // 루프가 여유 있게 끝나는 상태가 이 횟수만큼 이어지면 늘린 간격을 절반씩 되돌린다.
+    @Value("${omg.game.broadcast.rate.recover-loops:60}")
+    private int recoverLoops;
+
+    private BroadcastShard[] shards;
+
+    /**
+     * 브로드캐스트 샤드 하나
+     * 맡은 방 목록과 프레임 루프를 실행할 스레드 하나를 가진다.
+     */
+    private class BroadcastShard {
+        private final int index;
+        // 방 코드 -> 기준 상태
+        private final Map<String, PlayerStateBaseline> rooms = new ConcurrentHashMap<>();
+        private final ScheduledExecutorService executor;
+        private final BroadcastRateController rateController = new BroadcastRateController(
+                activeIntervalMillis, idleIntervalMillis, activeWindowMillis, maxDegrade, recoverLoops);
+        // 맡은 방들의 프레임 간격으로 계산한 초당 프레임 수의 합 (마지막 루프 기준)
+        private volatile double effectiveRate;
+
+        BroadcastShard(int index) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-broadcast-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+            Tags tags = Tags.of("shard", Integer.toString(index));
+            meterRegistry.gauge(BROADCAST_METRIC + ".rooms", tags, rooms, Map::size);
+            meterRegistry.gauge(BROADCAST_METRIC + ".rate", tags, this, shard -> shard.effectiveRate);
+            meterRegistry.gauge(BROADCAST_METRIC + ".degrade", tags, rateController, BroadcastRateController::getDegrade);
+            executor.scheduleAtFixedRate(this::emitFrames, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        // 맡은 모든 방의 프레임 전송, 프레임 간격을 넘기면 다음 프레임이 밀리므로 overrun으로 기록
+        private void emitFrames() {
+            long startedAt = System.nanoTime();
+            long now = System.currentTimeMillis();
+            double rate = 0;
+            for (Map.Entry<String, PlayerStateBaseline> room : rooms.entrySet()) {
+                String roomId = room.getKey();
+                PlayerStateBaseline baseline = room.getValue();
+                long sequence = roomMovementTracker.sequence(roomId);
+                long roomInterval = Math.max(intervalMillis,
+                        rateController.intervalFor(baseline.getLastMovedAt(), baseline.isExchanging(), now));
+                rate += 1000.0 / roomInterval;
+                // 루프 실행 시각이 흔들려도 프레임을 놓치지 않도록 루프 간격의 절반만큼 여유를 둔다.
+                if (!baseline.shouldEmit(sequence, now, heartbeatMillis, roomInterval - intervalMillis / 2)) {
+                    continue;
+                }
+                try {
+                    boolean running = broadcastGameState(roomId, baseline, now);
+                    baseline.emitted(sequence, now);
+                    if (!running) {
+                        deregister(roomId);
+                        log.info("게임이 종료되어 브로드캐스트를 중단합니다. roomId: {}", roomId);
+                    }
+                } catch (BaseException e) {
+                    log.error("방 {} 브로드캐스트 실패", roomId, e);
+                    deregister(roomId);
+                } catch (Exception e) {
+                    log.error("방 {} 브로드캐스트 중 오류 발생", roomId, e);
+                }
+            }
+            effectiveRate = rate;
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            rateController.onLoop(elapsedMillis, intervalMillis);
+            if (elapsedMillis > intervalMillis) {
+                meterRegistry.counter(BROADCAST_METRIC + ".overrun", "shard", Integer.toString(index)).increment();
+                log.debug("브로드캐스트 샤드 {}의 프레임이 {}ms 걸려 간격({}ms)을 넘겼습니다. 방 수: {}",
+                        index, elapsedMillis, intervalMillis, rooms.size());
+            }
+        }
+    }
 
+    @PostConstruct
+    void startShards() {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        shards = new BroadcastShard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new BroadcastShard(i);
+        }
+        log.info("브로드캐스트 샤드 {}개로 시작 (프레임 간격 {}ms)", count, intervalMillis);
+    }
+
+    @PreDestroy
+    void stopShards() {
+        for (BroadcastShard shard : shards) {
+            shard.executor.shutdownNow();
+        }
+    }
 
     public void startBroadcast(String roomId) {
         log.info("Starting broadcast for roomId: {}", roomId);
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-        scheduler.scheduleWithFixedDelay(() -> {
-            try {
-                broadcastGameState(roomId);
-            } catch (BaseException e) {
-                log.error("방 {} 브로드캐스트 실패", roomId, e);
-                stopBroadcast(roomId);
-            }
-         }, 0, 16, TimeUnit.MILLISECONDS);
-//        }, 0, 20000, TimeUnit.MILLISECONDS);
-        schedulerMap.put(roomId, scheduler);
+        roomMovementTracker.register(roomId);
+        shardOf(roomId).rooms.putIfAbsent(roomId, new PlayerStateBaseline());
     }
 
     public void stopBroadcast(String roomId) {
         log.info("Stopping broadcast for roomId: {}", roomId);
-        ScheduledExecutorService scheduler = schedulerMap.get(roomId);
-        if(scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            schedulerMap.remove(roomId);
+        deregister(roomId);
+    }
+
+    private void deregister(String roomId) {
+        shardOf(roomId).rooms.remove(roomId);
+        roomMovementTracker.forget(roomId);
+    }
+
+    public boolean isBroadcasting(String roomId) {
+        return shardOf(roomId).rooms.containsKey(roomId);
+    }
+
+    // 다음 프레임을 전체 상태 키프레임으로 전송 (새 구독자가 기준 상태를 받도록)
+    public void requestKeyframe(String roomId) {
+        PlayerStateBaseline baseline = shardOf(roomId).rooms.get(roomId);
+        if (baseline != null) {
+            baseline.requestKeyframe();
         }
     }
 
-    private void broadcastGameState(String roomId) throws BaseException {
+    private BroadcastShard shardOf(String roomId) {
+        return shards[Math.floorMod(roomId.hashCode(), shards.length)];
+    }
+
+    /**
+     * 방 하나의 프레임 전송
+     *
+     * @return 계속 브로드캐스트할지 여부 (게임이 종료되었으면 false)
+     * @throws BaseException Arena나 게임이 없는 경우
+     */
+    private boolean broadcastGameState(String roomId, PlayerStateBaseline baseline, long now) throws BaseException {
         Arena arena = gameRepository.findArenaByRoomId(roomId)
                 .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
 
-        Game game = arena.getGame();
-        if (game == null) {
-            log.warn("No found for roomId: {}", roomId);
-            throw new BaseException(GAME_NOT_FOUND);
+        List<PlayerStateDto> playerStateDtos;
+        boolean exchanging;
+        // write-behind 모드에서는 플레이어 액션이 변경 중인 Arena 인스턴스를 그대로 읽으므로 ArenaCommandExecutor와 같은 모니터로 읽고,
+        // 좌표는 복사해 모니터 밖에서는 바뀌지 않는 값만 사용한다. (sendActionToggle도 플레이어를 변경함)
+        synchronized (arena) {
+            Game game = arena.getGame();
+            if (game == null) {
+                log.warn("No found for roomId: {}", roomId);
+                throw new BaseException(GAME_NOT_FOUND);
+            }
+            if (game.getGameStatus() == GameStatus.GAME_FINISHED) {
+                return false;
+            }
+            // TODO 필요에 따라 데이터 수정
+            playerStateDtos = game.getPlayers().stream()
+                    .map(p -> new PlayerStateDto(p.getNickname(), copyOf(p.getPosition()), copyOf(p.getDirection()), p.sendActionToggle()))
+                    .collect(Collectors.toList());
+            exchanging = !game.getPlayers().isEmpty()
+                    && game.getPlayers().stream().allMatch(p -> p.getState() == PlayerStatus.IN_PROGRESS);
+        }
+        baseline.setExchanging(exchanging);
+
+        String type = "PLAYER_STATE";
+        boolean keyframe = !deltaEnabled || baseline.needsKeyframe(playerStateDtos, keyframeInterval);
+        // 키프레임이어도 방의 움직임을 기록하도록 바뀐 플레이어를 먼저 고른다.
+        List<PlayerStateDto> changed = baseline.delta(playerStateDtos, epsilon, now);
+        if (keyframe) {
+            baseline.keyframe(playerStateDtos);
+        } else {
+            playerStateDtos = changed;
+            if (playerStateDtos.isEmpty()) {
+                meterRegistry.counter(BROADCAST_METRIC + ".frames", "type", "skipped").increment();
+                return true;
+            }
+            type = "PLAYER_STATE_DELTA";
         }
-        // TODO 필요에 따라 데이터 수정
-        List<PlayerStateDto> playerStateDtos = game.getPlayers().stream()
-                .map(p -> new PlayerStateDto(p.getNickname(), p.getPosition(), p.getDirection(), p.sendActionToggle()))
-                .collect(Collectors.toList());
+        meterRegistry.counter(BROADCAST_METRIC + ".frames", "type", type).increment();
 
-        StompResponsePayload<List<PlayerStateDto>> payload = new StompResponsePayload<>("PLAYER_STATE", playerStateDtos);
+        StompResponsePayload<List<PlayerStateDto>> payload = new StompResponsePayload<>(type, playerStateDtos);
 
         log.debug("send payload roomId = {}", roomId);
-        messagingTemplate.convertAndSend("/sub/" + roomId + "/game", payload);
+        // 한 번 직렬화한 본문을 구독 세션 모두가 공유
+        messagingTemplate.send("/sub/" + roomId + "/game", stompFrameEncoder.encode(payload));
+        return true;
+    }
+
+    // 프레임에 담을 좌표 복사 (모니터 밖에서 플레이어 액션이 바꾸지 못하도록)
+    private static double[] copyOf(double[] values) {
+        return values == null ? null : values.clone();
     }
 }
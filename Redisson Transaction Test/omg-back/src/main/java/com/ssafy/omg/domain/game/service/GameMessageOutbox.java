@@ -0,0 +1,38 @@
+package com.ssafy.omg.domain.game.service;
+
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 상태 변경 중 발생한 메세지 전송/후처리를 모아두었다가 저장에 성공한 뒤 한 번에 실행
+ * 버전 충돌로 변경이 재실행되면 clear()로 이전 시도의 메세지를 버린다.
+ */
+public class GameMessageOutbox {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final List<Runnable> pending = new ArrayList<>();
+
+    public GameMessageOutbox(SimpMessageSendingOperations messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    public void send(String destination, Object payload) {
+        pending.add(() -> messagingTemplate.convertAndSend(destination, payload));
+    }
+
+    // 메세지 외에 저장 후 실행해야 하는 작업 (인덱스 정리, 이벤트 발행 등)
+    public void afterSave(Runnable task) {
+        pending.add(task);
+    }
+
+    public void clear() {
+        pending.clear();
+    }
+
+    public void flush() {
+        pending.forEach(Runnable::run);
+        pending.clear();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.RedisKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 살아있는 애플리케이션 노드 목록
+ * 노드마다 주기적으로 자기 항목을 TTL과 함께 갱신하고, TTL 안에 갱신하지 않은 노드는 목록에서 빠진다.
+ */
+@Slf4j
+@Component
+public class GameNodeRegistry {
+
+    private final RMapCache<String, String> nodes;
+    private final String nodeId;
+
+    public GameNodeRegistry(RedissonClient redissonClient, @Value("${omg.cluster.node-id:}") String nodeId) {
+        this.nodes = redissonClient.getMapCache(RedisKeys.gameNodes(), StringCodec.INSTANCE);
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+        log.info("노드 ID: {}", this.nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 이 노드를 ttlMillis 동안 살아있는 노드로 등록
+    public void heartbeat(long ttlMillis) {
+        nodes.fastPut(nodeId, Long.toString(System.currentTimeMillis()), ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void leave() {
+        nodes.fastRemove(nodeId);
+    }
+
+    // 살아있는 노드 ID 목록 (모든 노드가 같은 순서로 보도록 정렬)
+    public SortedSet<String> liveNodes() {
+        SortedSet<String> liveNodes = new TreeSet<>(nodes.readAllKeySet());
+        liveNodes.add(nodeId);
+        return liveNodes;
+    }
+
+    // 호스트 이름과 무작위 값 (같은 호스트에서 여러 프로세스를 띄워도 겹치지 않게)
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
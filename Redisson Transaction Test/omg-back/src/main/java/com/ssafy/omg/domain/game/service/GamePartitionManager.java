@@ -0,0 +1,189 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.RedisKeys;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 게임 틱 소유권을 노드별로 나누는 파티션 관리자
+ * 게임 파티션은 진행중인 게임 인덱스 샤드(RedisKeys.activeGameShard)와 같으므로, 노드는 자기 파티션의 인덱스만 조회하면 된다.
+ * 1. 살아있는 노드 목록으로 일관된 해시 링을 만들어 파티션마다 맡을 노드를 정하고 (모든 노드가 같은 결과를 계산)
+ * 2. 맡을 파티션의 리스를 Redis에 획득/갱신하고 맡지 않을 파티션의 리스는 반납한다. (scripts/partition_lease.lua)
+ * 노드가 추가/제거되면 링이 바뀌어 일부 파티션만 다른 노드로 옮겨지고, 새 노드는 이전 노드가 반납하거나 리스가 만료된 뒤에 파티션을 맡는다.
+ * 리스를 가진 파티션의 게임만 틱하므로 한 게임은 한 노드에서만 틱된다.
+ */
+@Slf4j
+@Component
+public class GamePartitionManager {
+
+    private static final String LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/partition_lease.lua"), List.class).getScriptAsString();
+    // 노드 하나가 링에 차지하는 가상 노드 개수, 많을수록 파티션이 고르게 나뉜다.
+    private static final int VIRTUAL_NODES = 64;
+
+    private final RedissonClient redissonClient;
+    private final GameNodeRegistry nodeRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // false면 파티션을 나누지 않고 모든 노드가 모든 게임을 틱한다. (게임 락으로 경쟁)
+    @Value("${omg.cluster.partitioning:true}")
+    private boolean partitioning;
+
+    // 파티션 리스 시간(ms), 이 시간 안에 갱신하지 못한 노드의 파티션은 다른 노드가 가져간다.
+    @Value("${omg.cluster.lease-ms:6000}")
+    private long leaseMillis;
+
+    private volatile Set<Integer> ownedShards = Set.of();
+    // 리스가 유효하다고 확신할 수 있는 시각 (갱신 요청을 보낸 시각 + 리스 시간)
+    private volatile long leaseValidUntil;
+
+    /**
+     * 파티션 소유권이 바뀐 뒤 발행하는 이벤트
+     *
+     * @param acquiredShards 새로 맡게 된 파티션
+     */
+    public record PartitionsAcquiredEvent(Set<Integer> acquiredShards) {
+    }
+
+    public GamePartitionManager(RedissonClient redissonClient, GameNodeRegistry nodeRegistry, ApplicationEventPublisher eventPublisher) {
+        this.redissonClient = redissonClient;
+        this.nodeRegistry = nodeRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 노드 등록을 갱신하고 파티션 리스를 다시 계산
+    @Scheduled(fixedDelayString = "${omg.cluster.heartbeat-ms:2000}")
+    public void rebalance() {
+        if (!partitioning) {
+            return;
+        }
+        try {
+            long requestedAt = System.currentTimeMillis();
+            nodeRegistry.heartbeat(leaseMillis);
+            Map<Integer, String> assignment = assign(nodeRegistry.liveNodes(), RedisKeys.ACTIVE_GAME_INDEX_SHARDS);
+            Set<Integer> desired = assignment.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(nodeRegistry.getNodeId()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            updateLeases(desired, requestedAt);
+        } catch (Exception e) {
+            log.error("게임 파티션 리스 갱신 중 오류 발생", e);
+        }
+    }
+
+    public boolean isPartitioning() {
+        return partitioning;
+    }
+
+    // 이 노드가 틱해야 하는 게임인지 여부
+    public boolean owns(String roomId) {
+        if (!partitioning) {
+            return true;
+        }
+        return System.currentTimeMillis() < leaseValidUntil && ownedShards.contains(RedisKeys.activeGameShard(roomId));
+    }
+
+    // 이 노드가 맡은 파티션 (진행중인 게임 인덱스 샤드 번호)
+    public Collection<Integer> ownedShards() {
+        if (!partitioning) {
+            return RedisKeys.activeGameIndexShards().boxed().toList();
+        }
+        return System.currentTimeMillis() < leaseValidUntil ? ownedShards : Set.of();
+    }
+
+    @PreDestroy
+    void release() {
+        if (!partitioning) {
+            return;
+        }
+        try {
+            updateLeases(Set.of(), System.currentTimeMillis());
+            nodeRegistry.leave();
+        } catch (Exception e) {
+            log.warn("게임 파티션 리스 반납 중 오류 발생", e);
+        }
+    }
+
+    private void updateLeases(Set<Integer> desired, long requestedAt) {
+        List<Object> keys = new ArrayList<>();
+        List<Object> args = new ArrayList<>(List.of(nodeRegistry.getNodeId(), Long.toString(leaseMillis)));
+        for (int shard = 0; shard < RedisKeys.ACTIVE_GAME_INDEX_SHARDS; shard++) {
+            keys.add(RedisKeys.partitionLease(shard));
+            args.add(desired.contains(shard) ? "1" : "0");
+        }
+
+        List<Long> owned = redissonClient.getScript(StringCodec.INSTANCE)
+                .eval(RScript.Mode.READ_WRITE, LEASE_SCRIPT, RScript.ReturnType.MULTI, keys, args.toArray());
+        Set<Integer> nowOwned = owned.stream().map(Long::intValue).collect(Collectors.toUnmodifiableSet());
+
+        Set<Integer> acquired = new HashSet<>(nowOwned);
+        acquired.removeAll(ownedShards);
+        if (!nowOwned.equals(ownedShards)) {
+            log.info("게임 파티션 소유권 변경. 노드: {}, 파티션: {} -> {}", nodeRegistry.getNodeId(), ownedShards, nowOwned);
+        }
+        ownedShards = nowOwned;
+        leaseValidUntil = requestedAt + leaseMillis;
+        if (!acquired.isEmpty()) {
+            eventPublisher.publishEvent(new PartitionsAcquiredEvent(Set.copyOf(acquired)));
+        }
+    }
+
+    /**
+     * 일관된 해시 링으로 파티션마다 맡을 노드를 정한다.
+     * 노드 목록이 같으면 모든 노드에서 같은 결과가 나오고, 노드 하나가 추가/제거되면 그 노드 몫의 파티션만 옮겨진다.
+     *
+     * @param nodes      살아있는 노드 ID 목록
+     * @param partitions 파티션 개수
+     * @return 파티션 번호별 노드 ID
+     */
+    static Map<Integer, String> assign(Collection<String> nodes, int partitions) {
+        NavigableMap<Long, String> ring = new TreeMap<>();
+        for (String node : nodes) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+
+        Map<Integer, String> assignment = new TreeMap<>();
+        if (ring.isEmpty()) {
+            return assignment;
+        }
+        for (int partition = 0; partition < partitions; partition++) {
+            Map.Entry<Long, String> owner = ring.ceilingEntry(hash("partition-" + partition));
+            assignment.put(partition, owner != null ? owner.getValue() : ring.firstEntry().getValue());
+        }
+        return assignment;
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.ssafy.omg.domain.game.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.config.RedisKeys;
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.domain.arena.entity.Arena;
 import com.ssafy.omg.domain.game.GameRepository;
@@ -15,22 +15,35 @@ import com.ssafy.omg.domain.game.entity.GameEvent;
 import com.ssafy.omg.domain.game.entity.GameStatus;
 import com.ssafy.omg.domain.game.entity.RoundStatus;
 import com.ssafy.omg.domain.game.entity.StockState;
+import com.ssafy.omg.domain.game.repository.ArenaUpdate;
 import com.ssafy.omg.domain.socket.dto.StompPayload;
+import com.ssafy.omg.util.HashedTimerWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.EVENT_APPLICATION_FAILED;
@@ -43,16 +56,13 @@ import static com.ssafy.omg.domain.game.entity.RoundStatus.ROUND_END;
 import static com.ssafy.omg.domain.game.entity.RoundStatus.ROUND_IN_PROGRESS;
 import static com.ssafy.omg.domain.game.entity.RoundStatus.ROUND_START;
 import static com.ssafy.omg.domain.game.entity.RoundStatus.STOCK_FLUCTUATION;
+import static com.ssafy.omg.domain.game.entity.RoundStatus.TUTORIAL;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@Transactional
 public class GameScheduler {
 
-    @Autowired
-    private RedisTemplate<String, Arena> redisTemplate;
-
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -65,170 +75,660 @@ public class GameScheduler {
     private GameRepository gameRepository;
 
     private final RedissonClient redissonClient;
-    private final ObjectMapper objectMapper;
-
-    @Scheduled(fixedRate = 1000)
-    public void updateGameState() throws BaseException {
-        List<Game> activeGames = gameService.getAllActiveGames();
-        for (Game game : activeGames) {
-            String lockKey = "lock:game:" + game.getGameId();
-            RLock lock = redissonClient.getLock(lockKey);
+    private final ArenaCommandExecutor arenaCommandExecutor;
+    private final MeterRegistry meterRegistry;
+    private final GamePartitionManager partitionManager;
+
+    private static final String TICK_METRIC = "omg.game.tick";
+    // 틱 결과: 게임이 더 이상 진행중이 아님
+    private static final long GAME_NOT_IN_PROGRESS = -1;
+    // 주가 변동으로 라운드가 정지하는 시간(초)
+    private static final int STOCK_FLUCTUATION_PAUSE_SECONDS = 5;
+
+    // 게임 하나의 틱 간격(ms)
+    @Value("${omg.game.tick.interval-ms:1000}")
+    private long tickIntervalMillis;
+
+    // 타이머 휠 슬롯 하나의 시간 간격(ms), 틱은 예정 시각 이후 이 간격 안에 실행된다.
+    @Value("${omg.game.tick.wheel-tick-ms:10}")
+    private long wheelTickMillis;
+
+    // 타이머 휠 슬롯 개수
+    @Value("${omg.game.tick.wheel-size:512}")
+    private int wheelSize;
+
+    // 틱을 실행할 워커 스레드 개수 (0 이하면 CPU 코어 수)
+    @Value("${omg.game.tick.workers:0}")
+    private int workers;
+
+    // 게임 하나의 틱 예산(ms), 게임 락의 임대 시간이기도 하다.
+    @Value("${omg.game.tick.budget-ms:500}")
+    private long tickBudgetMillis;
+
+    // 파티션 단위로 게임을 모아 Arena를 일괄 조회/저장 (파티셔닝을 사용할 때만, 아니면 게임마다 락을 잡고 틱)
+    @Value("${omg.game.tick.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    // 일괄 조회/저장 한 번에 처리할 최대 게임 수
+    @Value("${omg.game.tick.batch.max-size:200}")
+    private int batchMaxSize;
+
+    // 타이머 휠에 등록된 게임별 다음 틱과 틱 통계
+    private final Map<String, HashedTimerWheel.Timeout> scheduledGames = new ConcurrentHashMap<>();
+    // 일괄 모드: 타이머 휠에 등록된 파티션별 다음 패스와 파티션별 게임의 다음 처리 시각
+    private final Map<Integer, HashedTimerWheel.Timeout> scheduledPasses = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<String, Long>> partitionGames = new ConcurrentHashMap<>();
+    private final Map<String, GameTickStats> tickStats = new ConcurrentHashMap<>();
+    // 게임별로 이 노드가 마지막으로 틱을 처리한 시각 (저장하지 않은 초의 메세지를 다시 보내지 않기 위함)
+    private final Map<String, Long> processedUntil = new ConcurrentHashMap<>();
+    private HashedTimerWheel timerWheel;
+    private ThreadPoolExecutor tickExecutor;
+
+    /**
+     * 라운드 진행 표
+     * 라운드 상태마다 진행 시간은 RoundStatus.getDuration()을 따르고, 남은 시간(초)별 동작과 끝난 뒤 넘어갈 상태를 선언한다.
+     */
+    private final RoundTimeline roundTimeline = RoundTimeline.builder()
+            .phase(TUTORIAL)
+            .then(ROUND_START)
+            .phase(ROUND_START)
+            .at(this::announceRoundStart, 2)
+            .then(APPLY_PREVIOUS_EVENT)
+            .phase(APPLY_PREVIOUS_EVENT)
+            .at(this::applyPreviousEvent, 4)
+            .then(ECONOMIC_EVENT_NEWS)
+            .phase(ECONOMIC_EVENT_NEWS)
+            .at(this::announceEconomicEvent, 4)
+            .then(ROUND_IN_PROGRESS)
+            .phase(ROUND_IN_PROGRESS)
+            .everySecond(this::notifyRemainingTime)
+            .at(this::warnRemainingTime, 30, 10)
+            .at(this::sendStockMarketInfo, 120, 100, 80, 60, 40, 20)
+            .then(ROUND_END)
+            .phase(ROUND_END)
+            .at(this::announceRoundEnd, 2)
+            .then(PREPARING_NEXT_ROUND)
+            .phase(PREPARING_NEXT_ROUND)
+            .at(this::advanceRound, 4)
+            .at(this::initializePlayersForNextRound, 0)
+            .then(ROUND_START)
+            .build();
+
+    /**
+     * 만료된 틱은 워커 풀에서 병렬로 실행한다.
+     * 한 게임의 다음 틱은 이전 틱이 끝난 뒤에 등록되므로 같은 게임의 틱이 동시에 실행되지는 않는다.
+     */
+    @PostConstruct
+    void startTimerWheel() {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        tickExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "game-tick-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        meterRegistry.gauge(TICK_METRIC + ".queue", tickExecutor, executor -> executor.getQueue().size());
+        meterRegistry.gauge(TICK_METRIC + ".active", tickExecutor, ThreadPoolExecutor::getActiveCount);
+        timerWheel = new HashedTimerWheel("game-timer-wheel", wheelTickMillis, wheelSize, tickExecutor);
+        log.info("게임 틱 워커 {}개로 시작", poolSize);
+    }
+
+    @PreDestroy
+    void stopTimerWheel() {
+        timerWheel.close();
+        tickExecutor.shutdownNow();
+    }
+
+    // 이 노드에서 실행한 게임의 틱 통계, 등록되지 않은 게임이면 null
+    public GameTickStats.Snapshot getTickStats(String roomId) {
+        GameTickStats stats = tickStats.get(roomId);
+        return stats == null ? null : stats.snapshot();
+    }
+
+    /**
+     * 게임의 틱을 타이머 휠에 등록 (이미 등록된 게임이나 이 노드가 맡지 않은 파티션의 게임은 무시)
+     * 게임마다 방 코드로 정해지는 위상(초 안의 오프셋)에 틱을 실행하므로 게임들의 틱이 1초 안에 고르게 흩어지고,
+     * 파티션이 다른 노드로 옮겨져도 같은 시각에 틱을 이어간다.
+     * 일괄 모드에서는 게임을 파티션에 등록하고, 파티션마다 정해지는 위상의 패스에서 파티션의 게임들을 모아 처리한다.
+     *
+     * @param roomId 방 코드
+     */
+    public void schedule(String roomId) {
+        if (!partitionManager.owns(roomId)) {
+            return;
+        }
+        if (isBatching()) {
+            int shard = RedisKeys.activeGameShard(roomId);
+            // 다음 처리 시각 0: 다음 패스에서 바로 처리
+            partitionGames.computeIfAbsent(shard, id -> new ConcurrentHashMap<>()).putIfAbsent(roomId, 0L);
+            schedulePass(shard);
+            return;
+        }
+        scheduledGames.computeIfAbsent(roomId, id -> {
+            long deadline = firstDeadline(id, System.currentTimeMillis());
+            return timerWheel.schedule(() -> tick(id, deadline), deadline);
+        });
+    }
+
+    /**
+     * 이 노드가 맡은 파티션의 진행중인 게임 인덱스에서 아직 등록되지 않은 게임을 찾아 등록
+     * 다른 노드에서 시작된 게임, 다른 노드에서 옮겨온 파티션의 게임, 재시작 전에 진행중이던 게임을 위한 것이다.
+     */
+    @Scheduled(fixedDelayString = "${omg.game.tick.discovery-interval-ms:5000}")
+    public void discoverActiveGames() {
+        discoverActiveGames(partitionManager.ownedShards());
+    }
+
+    // 새로 맡은 파티션의 게임은 다음 탐색 주기를 기다리지 않고 바로 등록
+    @EventListener
+    public void onPartitionsAcquired(GamePartitionManager.PartitionsAcquiredEvent event) {
+        discoverActiveGames(event.acquiredShards());
+    }
+
+    // Arena는 읽지 않고 인덱스의 방 코드만 조회, 진행중인지는 첫 틱에서 Arena를 읽을 때 확인한다.
+    private void discoverActiveGames(Collection<Integer> shards) {
+        for (int shard : shards) {
+            try {
+                gameRepository.findActiveGameIds(shard).stream()
+                        .filter(roomId -> !isScheduled(roomId))
+                        .forEach(this::schedule);
+            } catch (Exception e) {
+                log.error("진행중인 게임 목록 조회 중 오류 발생. 파티션: {}", shard, e);
+            }
+        }
+    }
+
+    private boolean isScheduled(String roomId) {
+        if (isBatching()) {
+            Map<String, Long> games = partitionGames.get(RedisKeys.activeGameShard(roomId));
+            return games != null && games.containsKey(roomId);
+        }
+        return scheduledGames.containsKey(roomId);
+    }
+
+    // 게임 파티션은 한 노드만 틱하므로 파티션의 게임들을 모아 일괄 처리해도 다른 노드와 경쟁하지 않는다.
+    private boolean isBatching() {
+        return batchEnabled && partitionManager.isPartitioning();
+    }
+
+    // 방 코드(일괄 모드에서는 파티션)로 정한 위상에 맞춘, now 이후 첫 틱 시각
+    private long firstDeadline(String key, long now) {
+        long phase = Math.floorMod(key.hashCode(), tickIntervalMillis);
+        long deadline = now - Math.floorMod(now, tickIntervalMillis) + phase;
+        return deadline > now ? deadline : deadline + tickIntervalMillis;
+    }
+
+    /**
+     * 틱을 실행하고 게임이 계속 진행중이면 같은 위상의 다음 틱을 등록
+     * 게임 락은 기다리지 않고 바로 시도해서, 다른 노드가 틱 중인 게임 때문에 워커가 멈추지 않게 한다. (못 얻으면 이번 틱은 건너뜀)
+     * 락 임대 시간을 틱 예산으로 두므로 예산을 넘긴 틱의 락은 자동으로 풀린다. (Arena 저장은 버전 확인으로 보호됨)
+     * 틱 하나가 저장소에 보낸 명령 수는 틱 통계와 omg.game.tick.redis.ops 메트릭으로 기록한다.
+     */
+    private void tick(String roomId, long deadline) {
+        // 파티션이 다른 노드로 옮겨졌으면 더 이상 틱하지 않음 (새 소유 노드가 이어서 틱)
+        if (!partitionManager.owns(roomId)) {
+            scheduledGames.remove(roomId);
+            tickStats.remove(roomId);
+            processedUntil.remove(roomId);
+            meterRegistry.counter(TICK_METRIC, "result", "not_owner").increment();
+            log.debug("이 노드가 맡지 않은 게임이라 틱을 중단합니다. Game ID: {}", roomId);
+            return;
+        }
+        GameTickStats stats = tickStats.computeIfAbsent(roomId, id -> new GameTickStats());
+        long startedAt = System.currentTimeMillis();
+        long lag = Math.max(0, startedAt - deadline);
+        boolean late = lag > tickBudgetMillis;
+        stats.recordStart(lag, late);
+        meterRegistry.timer(TICK_METRIC + ".lag").record(lag, TimeUnit.MILLISECONDS);
+        if (late) {
+            log.warn("게임 틱이 예정보다 {}ms 늦게 시작되었습니다. Game ID: {}", lag, roomId);
+        }
+
+        long nextDueAt = deadline + tickIntervalMillis;
+        String result;
+        RedisOpCounter ops = new RedisOpCounter();
+        RLock lock = redissonClient.getLock(RedisKeys.gameLock(roomId));
+        try {
+            ops.lock();
+            if (lock.tryLock(0, tickBudgetMillis, TimeUnit.MILLISECONDS)) {
+                try {
+                    nextDueAt = updateGameState(roomId, ops, System.currentTimeMillis());
+                } finally {
+                    unlock(lock, roomId, ops);
+                }
+                long duration = System.currentTimeMillis() - startedAt;
+                boolean overBudget = duration > tickBudgetMillis;
+                stats.recordExecution(duration, overBudget);
+                meterRegistry.timer(TICK_METRIC + ".duration").record(duration, TimeUnit.MILLISECONDS);
+                if (overBudget) {
+                    log.warn("게임 틱이 예산({}ms)을 넘겨 {}ms 걸렸습니다. Game ID: {}", tickBudgetMillis, duration, roomId);
+                }
+                result = nextDueAt != GAME_NOT_IN_PROGRESS ? "success" : "finished";
+            } else {
+                stats.recordSkipped(1);
+                result = "lock_busy";
+                log.debug("다른 요청이 게임 락을 가지고 있어 틱을 건너뜁니다. Game ID: {}", roomId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = "error";
+            log.error("Lock interrupted for game: {}", roomId, e);
+        } catch (Exception e) {
+            result = "error";
+            log.error("Error updating game state for game: {}", roomId, e);
+        }
+        meterRegistry.counter(TICK_METRIC, "result", result).increment();
+        recordRedisOps(stats, ops);
+
+        if (nextDueAt == GAME_NOT_IN_PROGRESS) {
+            scheduledGames.remove(roomId);
+            tickStats.remove(roomId);
+            processedUntil.remove(roomId);
+            return;
+        }
+
+        // 다음 초가 처리될 시각에 틱 (이미 지났으면 바로 실행해 따라잡음)
+        long next = Math.max(nextDueAt, System.currentTimeMillis());
+        scheduledGames.put(roomId, timerWheel.schedule(() -> tick(roomId, next), next));
+    }
+
+    // 파티션의 패스를 타이머 휠에 등록 (이미 등록된 파티션은 무시)
+    private void schedulePass(int shard) {
+        scheduledPasses.computeIfAbsent(shard, id -> {
+            long deadline = firstDeadline("partition-" + id, System.currentTimeMillis());
+            return timerWheel.schedule(() -> pass(id, deadline), deadline);
+        });
+    }
+
+    /**
+     * 일괄 모드의 파티션 패스: 파티션의 게임 중 처리할 시각이 된 게임만 모아
+     * batchMaxSize개씩 Arena를 한 번에 조회하고, 변경된 Arena를 한 번에 버전 확인 후 저장한다.
+     * 게임이 1,000개여도 저장소 왕복은 파티션마다 초당 (조회 1회 + 저장 1회) x 묶음 수로 줄어든다.
+     * 파티션 리스를 가진 노드만 패스를 실행하므로 게임 락은 잡지 않는다. (플레이어 요청과는 버전 확인으로 경쟁)
+     */
+    private void pass(int shard, long deadline) {
+        Map<String, Long> games = partitionGames.get(shard);
+        if (!partitionManager.ownedShards().contains(shard)) {
+            scheduledPasses.remove(shard);
+            Map<String, Long> released = partitionGames.remove(shard);
+            if (released != null) {
+                released.keySet().forEach(this::forget);
+            }
+            meterRegistry.counter(TICK_METRIC, "result", "not_owner").increment();
+            log.debug("이 노드가 맡지 않은 파티션이라 패스를 중단합니다. 파티션: {}", shard);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long lag = Math.max(0, startedAt - deadline);
+        meterRegistry.timer(TICK_METRIC + ".lag").record(lag, TimeUnit.MILLISECONDS);
+        if (lag > tickBudgetMillis) {
+            log.warn("파티션 패스가 예정보다 {}ms 늦게 시작되었습니다. 파티션: {}", lag, shard);
+        }
+
+        if (games != null) {
+            // 처리 시각이 다음 패스보다 이번 패스에 가까운 게임까지 처리 (패스 시작 시각의 흔들림으로 1초씩 밀리지 않도록)
+            long horizon = startedAt + tickIntervalMillis / 2;
+            List<String> due = games.entrySet().stream()
+                    .filter(entry -> entry.getValue() <= horizon)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            for (int from = 0; from < due.size(); from += batchMaxSize) {
+                List<String> batch = due.subList(from, Math.min(from + batchMaxSize, due.size()));
+                try {
+                    tickBatch(games, batch, lag);
+                } catch (Exception e) {
+                    log.error("파티션 패스 처리 중 오류 발생. 파티션: {}, 게임 수: {}", shard, batch.size(), e);
+                }
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startedAt;
+        meterRegistry.timer(TICK_METRIC + ".pass.duration").record(duration, TimeUnit.MILLISECONDS);
+        if (duration > tickBudgetMillis) {
+            log.warn("파티션 패스가 예산({}ms)을 넘겨 {}ms 걸렸습니다. 파티션: {}", tickBudgetMillis, duration, shard);
+        }
+
+        // 같은 위상의 다음 패스 (밀렸으면 지난 패스는 건너뜀)
+        long next = deadline + tickIntervalMillis;
+        long now = System.currentTimeMillis();
+        if (next <= now) {
+            next += ((now - next) / tickIntervalMillis + 1) * tickIntervalMillis;
+        }
+        long nextDeadline = next;
+        scheduledPasses.put(shard, timerWheel.schedule(() -> pass(shard, nextDeadline), nextDeadline));
+    }
+
+    /**
+     * 게임 묶음 하나의 틱: Arena 일괄 조회 -> 게임마다 메모리에서 처리 -> 변경된 Arena 일괄 저장
+     * 게임마다 처리 시각이 조금 남았으면 그 시각 기준으로 처리한다.
+     * 저장 중 버전 충돌이 난 게임(그 사이 플레이어 요청이 저장한 게임)은 게임 단위로 다시 읽어서 처리한다.
+     */
+    private void tickBatch(Map<String, Long> games, List<String> roomIds, long lag) {
+        long startedAt = System.currentTimeMillis();
+        Map<String, Long> nows = new HashMap<>();
+        roomIds.forEach(roomId -> nows.put(roomId, Math.max(startedAt, games.getOrDefault(roomId, 0L))));
+        RedisOpCounter ops = new RedisOpCounter();
+        ops.read();
+        Map<String, Arena> arenas = gameRepository.findArenasByRoomIds(roomIds);
+
+        Map<String, GameRepository.ArenaWrite> writes = new LinkedHashMap<>();
+        Map<String, GameMessageOutbox> outboxes = new HashMap<>();
+        Map<String, Long> nextDueAts = new HashMap<>();
+        for (String roomId : roomIds) {
+            Arena arena = arenas.get(roomId);
+            long now = nows.get(roomId);
+            if (arena == null) {
+                removeActiveGame(roomId, ops);
+                nextDueAts.put(roomId, GAME_NOT_IN_PROGRESS);
+                continue;
+            }
+            GameMessageOutbox outbox = new GameMessageOutbox(messagingTemplate);
+            ArenaUpdate update = ArenaUpdate.none();
             try {
-                if (lock.tryLock(5, 10, TimeUnit.SECONDS)) {
+                // write-behind 모드에서는 노드 안의 요청이 같은 Arena 인스턴스를 공유하므로 인스턴스 단위로 직렬화
+                synchronized (arena) {
+                    // 처리 중 예외가 나면 일부만 진행된 Arena가 캐시에 남지 않도록 되돌림 (ArenaCommandExecutor와 같은 방식)
+                    Arena snapshot = gameRepository.rollbackSnapshot(arena);
+                    boolean advanced = false;
                     try {
-                        updateGameStateWithLock(game);
+                        nextDueAts.put(roomId, advance(roomId, arena, update, outbox, ops, now));
+                        advanced = true;
                     } finally {
-                        lock.unlock();
+                        if (!advanced && snapshot != null) {
+                            ArenaCommandExecutor.restore(arena, snapshot);
+                        }
                     }
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Lock interrupted for game: {}", game.getGameId(), e);
             } catch (Exception e) {
-                log.error("Error updating game state for game: {}", game.getGameId(), e);
+                log.error("Error updating game state for game: {}", roomId, e);
+                nextDueAts.put(roomId, now + tickIntervalMillis);
+                continue;
+            }
+            outboxes.put(roomId, outbox);
+            if (!update.isEmpty()) {
+                writes.put(roomId, new GameRepository.ArenaWrite(arena, update));
             }
         }
+
+        Set<String> saved = Set.of();
+        if (!writes.isEmpty()) {
+            ops.write();
+            saved = gameRepository.saveArenasIfVersion(writes);
+        }
+        for (Map.Entry<String, GameMessageOutbox> entry : outboxes.entrySet()) {
+            String roomId = entry.getKey();
+            if (writes.containsKey(roomId) && !saved.contains(roomId)) {
+                meterRegistry.counter(TICK_METRIC, "result", "conflict").increment();
+                nextDueAts.put(roomId, updateGameState(roomId, ops, nows.get(roomId)));
+                continue;
+            }
+            processedUntil.put(roomId, nows.get(roomId));
+            entry.getValue().flush();
+        }
+
+        long duration = System.currentTimeMillis() - startedAt;
+        boolean overBudget = duration > tickBudgetMillis;
+        nextDueAts.forEach((roomId, nextDueAt) -> {
+            GameTickStats stats = tickStats.computeIfAbsent(roomId, id -> new GameTickStats());
+            stats.recordStart(lag, lag > tickBudgetMillis);
+            stats.recordExecution(duration, overBudget);
+            meterRegistry.counter(TICK_METRIC, "result", nextDueAt != GAME_NOT_IN_PROGRESS ? "success" : "finished").increment();
+            if (nextDueAt == GAME_NOT_IN_PROGRESS) {
+                games.remove(roomId);
+                forget(roomId);
+            } else {
+                games.replace(roomId, nextDueAt);
+            }
+        });
+        meterRegistry.summary(TICK_METRIC + ".batch.size").record(roomIds.size());
+        recordRedisOps(null, ops);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateGameStateWithLock(Game game) {
-        String redisKey = "room" + game.getGameId();
-        try {
-            Arena arena = gameRepository.findArenaByRoomId(game.getGameId())
-                    .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
+    // 더 이상 이 노드에서 틱하지 않는 게임의 통계와 처리 시각 정리
+    private void forget(String roomId) {
+        tickStats.remove(roomId);
+        processedUntil.remove(roomId);
+    }
 
-            updateRoundStatus(game);
+    // 락 임대 시간(틱 예산)이 지나 이미 풀린 락이면 해제하지 않음 (보유 여부를 따로 조회하지 않아 왕복 1회를 줄임)
+    private void unlock(RLock lock, String roomId, RedisOpCounter ops) {
+        ops.lock();
+        try {
+            lock.unlock();
+        } catch (IllegalMonitorStateException e) {
+            log.debug("틱 예산이 지나 게임 락이 이미 풀렸습니다. Game ID: {}", roomId);
+        }
+    }
 
-            arena.setGame(game);
-            gameRepository.saveArena(game.getGameId(), arena);
+    // 틱(일괄 모드에서는 게임 묶음) 하나가 저장소에 보낸 명령 수 기록
+    private void recordRedisOps(GameTickStats stats, RedisOpCounter ops) {
+        if (stats != null) {
+            stats.recordRedisOps(ops.total());
+        }
+        meterRegistry.summary(TICK_METRIC + ".redis.ops", "type", "lock").record(ops.getLocks());
+        meterRegistry.summary(TICK_METRIC + ".redis.ops", "type", "read").record(ops.getReads());
+        meterRegistry.summary(TICK_METRIC + ".redis.ops", "type", "write").record(ops.getWrites());
+    }
 
+    /**
+     * 게임 진행 1틱 처리
+     * Arena를 한 번 읽어 이번 틱의 모든 라운드 처리를 메모리에서 수행하고, 변경이 있을 때만 한 번 저장한다. (DB 트랜잭션 없음)
+     * 읽은 이후 플레이어 요청이 먼저 저장했다면 버전 확인으로 저장이 거부되고 다시 읽어서 실행한다.
+     * 버전 충돌로 재실행될 수 있으므로 메세지는 outbox에 모아두었다가 저장에 성공한 뒤 전송한다.
+     *
+     * @param roomId 방 코드
+     * @param ops    저장소 명령 수를 기록할 카운터
+     * @param now    처리 기준 시각(epoch ms)
+     * @return 다음 틱을 실행할 시각, 게임이 더 이상 진행중이 아니면 GAME_NOT_IN_PROGRESS
+     */
+    private long updateGameState(String roomId, RedisOpCounter ops, long now) {
+        GameMessageOutbox outbox = new GameMessageOutbox(messagingTemplate);
+        try {
+            long nextDueAt = arenaCommandExecutor.execute(roomId, "tick", ops,
+                    (arena, update) -> advance(roomId, arena, update, outbox, ops, now));
+            processedUntil.put(roomId, now);
+            outbox.flush();
+            return nextDueAt;
+        } catch (BaseException e) {
+            if (e.getStatus() == ARENA_NOT_FOUND) {
+                removeActiveGame(roomId, ops);
+                return GAME_NOT_IN_PROGRESS;
+            }
+            log.error("Error updating game state for game: {}", roomId, e);
         } catch (Exception e) {
-            log.error("Error updating game state for game: {}", game.getGameId(), e);
+            log.error("Error updating game state for game: {}", roomId, e);
         }
+        return now + tickIntervalMillis;
     }
 
+    /**
+     * 읽어온 Arena 하나의 이번 틱 처리 (메모리에서만 변경하고 저장할 변경은 update에 표시)
+     *
+     * @return 다음 틱을 실행할 시각, 게임이 더 이상 진행중이 아니면 GAME_NOT_IN_PROGRESS
+     */
+    private long advance(String roomId, Arena arena, ArenaUpdate update, GameMessageOutbox outbox, RedisOpCounter ops, long now) throws BaseException {
+        outbox.clear();
+        Game current = arena.getGame();
+        if (current == null || current.getGameStatus() != GameStatus.IN_GAME) {
+            // 시작 전인 게임은 게임 상태가 IN_GAME으로 바뀔 때 다시 등록되므로 인덱스에 남겨둔다.
+            if (current == null || current.getGameStatus() == GameStatus.GAME_FINISHED) {
+                outbox.afterSave(() -> removeActiveGame(roomId, ops));
+            }
+            return GAME_NOT_IN_PROGRESS;
+        }
+
+        RoundStatus previousRoundStatus = current.getRoundStatus();
+        if (updateRoundStatus(current, outbox, now, processedUntil.getOrDefault(roomId, 0L))) {
+            update.merge(ArenaUpdate.all());
+        }
 
-//    @Scheduled(fixedRate = 1000)  // 1초마다 실행
-//    public void updateGameState() throws BaseException {
-//        try {
-//            List<Game> activeGames = gameService.getAllActiveGames();
-//            for (Game game : activeGames) {
-//                updateRoundStatus(game);
-//                gameService.saveGame(game);
-//            }
-//        } catch (BaseException e) {
-//            log.info("라운드 진행 상태 업데이트 중 오류가 발생하였습니다.");
-//            throw new BaseException(ROUND_STATUS_ERROR);
-//        }
-//    }
+        // 게임 종료 시 진행중인 게임 인덱스에서 제거, write-behind 모드에서 라운드 종료/게임 종료 시점의 상태는 바로 Redis에 기록
+        if (current.getGameStatus() == GameStatus.GAME_FINISHED) {
+            outbox.afterSave(() -> removeActiveGame(roomId, ops));
+            outbox.afterSave(() -> gameRepository.flushAndEvictArena(roomId));
+        } else if (previousRoundStatus != ROUND_END && current.getRoundStatus() == ROUND_END) {
+            outbox.afterSave(() -> gameRepository.flushArena(roomId));
+        }
+        return current.getGameStatus() == GameStatus.IN_GAME ? nextDueAt(current, now) : GAME_NOT_IN_PROGRESS;
+    }
+
+    private void removeActiveGame(String roomId, RedisOpCounter ops) {
+        ops.write();
+        gameRepository.removeActiveGame(roomId);
+    }
 
     /**
      * 시스템 상에서 자동적으로 라운드 진행 및 라운드 상태 변경
+     * 라운드 상태마다 끝나는 시각(phaseEndsAt)을 저장해두고, 남은 시간(time)은 마지막으로 처리한 초를 뜻한다.
+     * 틱마다 now까지 지난 초 중 진행 표에 동작이 있는 초만 차례로 처리하므로 틱이 늦어지거나 건너뛰어도 라운드가 늘어나지 않고 밀린 동작을 따라잡는다.
+     * 남은 시간이 줄어드는 것만으로는 Arena를 저장하지 않고, 상태 전환이나 게임 정보 변경이 있을 때만 저장한다.
+     * 거래로 바뀐 주가 변동 상태는 다음으로 동작이 있는 초의 틱에서 반영된다. (라운드 진행 중에는 매 초 동작이 있어 1초 안에 반영)
+     * 정지는 반영한 시각부터 시작하고, 라운드 남은 시간은 마지막으로 처리한 초부터 이어서 줄어든다.
      *
-     * @param game game 정보
+     * @param game           game 정보
+     * @param outbox         저장 후 전송할 메세지
+     * @param now            현재 시각(epoch ms)
+     * @param processedUntil 이 노드가 이미 처리한 시각, 그 이전의 초는 메세지 없이 남은 시간만 맞춘다. (처음 틱하는 게임이면 0)
+     * @return Arena에 저장할 변경이 있는지 여부
      * @throws BaseException
      */
-    @Transactional
-    protected void updateRoundStatus(Game game) throws BaseException {
-
-        switch (game.getRoundStatus()) {
-            case TUTORIAL:
-                handleTutorial(game);
-                break;
-            case ROUND_START:
-                handleRoundStart(game);
-                break;
-            case APPLY_PREVIOUS_EVENT:
-                handleApplyPreviousEvent(game);
-                break;
-            case ECONOMIC_EVENT_NEWS:
-                handleEconomicEvent(game);
-                break;
-            case ROUND_IN_PROGRESS:
-                handleRoundInProgress(game);
-                break;
-            case STOCK_FLUCTUATION:
-                handleStockFluctuation(game);
-                break;
-            case ROUND_END:
-                handleRoundEnd(game);
-                break;
-            case PREPARING_NEXT_ROUND:
-                handlePreparingNextRound(game);
-                break;
-            default:
-                throw new BaseException(INVALID_ROUND_STATUS);
+    protected boolean updateRoundStatus(Game game, GameMessageOutbox outbox, long now, long processedUntil) throws BaseException {
+        boolean changed = false;
+        // 마감 시각이 없는 게임(게임 시작 직후, 대기 상태에서 바뀐 게임)은 지금부터 남은 시간만큼 진행
+        if (game.getPhaseEndsAt() == 0) {
+            game.setPhaseEndsAt(now + game.getTime() * 1000L);
+            changed = true;
         }
-        if (game.getRoundStatus() != STOCK_FLUCTUATION) {
-            decreaseTime(game);
-        } else {
-            decreasePauseTime(game);
-        }
-    }
 
-    private void decreaseTime(Game game) {
-        if (!game.isPaused() && game.getTime() > 0) {
-            game.setTime(game.getTime() - 1);
+        if (game.getRoundStatus() == STOCK_FLUCTUATION) {
+            changed |= handleStockFluctuation(game, outbox, now);
         }
-//        log.debug("게임 {}의 현재 시간 : {}초", game.getGameId(), game.getTime());  // 로그 추가
-    }
 
-    private void decreasePauseTime(Game game) {
-        if (game.isPaused() && game.getPauseTime() > 0) {
-            game.setPauseTime(game.getPauseTime() - 1);
+        while (game.getGameStatus() == GameStatus.IN_GAME && game.getRoundStatus() != STOCK_FLUCTUATION) {
+            RoundStatus roundStatus = game.getRoundStatus();
+            RoundTimeline.Phase phase = roundTimeline.phase(roundStatus);
+            if (phase == null) {
+                throw new BaseException(INVALID_ROUND_STATUS);
+            }
+            int second = phase.nextActionSecond(game.getTime());
+            long dueAt = game.getPhaseEndsAt() - second * 1000L;
+            if (second < 0 || dueAt > now) {
+                // 다음 동작 전까지는 남은 시간만 맞춘다.
+                game.setTime(Math.min(game.getTime(), game.remainingSeconds(now)));
+                break;
+            }
+            game.setTime(second);
+            // 이 노드가 처리했지만 저장하지 않은 초 (변경이 없었으므로 메세지를 다시 보내지 않음)
+            if (dueAt <= processedUntil) {
+                continue;
+            }
+
+            // 밀린 초를 따라잡는 중이면 마지막 초의 남은 시간만 알린다.
+            boolean latest = dueAt + 1000L > now;
+            for (RoundTimeline.RoundAction action : phase.actionsAt(second)) {
+                changed |= action.run(game, outbox, latest);
+            }
+            boolean transitioned = game.getRoundStatus() != roundStatus || game.getTime() != second;
+            if (!transitioned && second == 0 && game.getGameStatus() == GameStatus.IN_GAME) {
+                game.setRoundStatus(phase.getNext());
+                game.setTime(phase.getNext().getDuration());
+                log.debug("상태를 {}로 변경. 새 시간: {}", game.getRoundStatus(), game.getTime());
+                transitioned = true;
+            }
+            if (transitioned) {
+                // 상태 전환: 새 상태는 이 초의 마감 시각부터 시작하고, 새 상태의 진입 시점 동작을 바로 실행
+                game.setPhaseEndsAt(dueAt + game.getTime() * 1000L);
+                changed = true;
+                RoundTimeline.Phase entered = roundTimeline.phase(game.getRoundStatus());
+                if (entered != null && game.getTime() == entered.getDuration()) {
+                    for (RoundTimeline.RoundAction action : entered.actionsAt(game.getTime())) {
+                        changed |= action.run(game, outbox, latest);
+                    }
+                }
+            }
         }
-//        log.debug("게임 {}의 현재 시간 : {}초", game.getGameId(), game.getTime());  // 로그 추가
+        return changed;
     }
 
-    private void handleTutorial(Game game) {
-        if (game.getTime() == 0) {
-            game.setRoundStatus(ROUND_START);
-            game.setTime(3);
-            log.debug("상태를 ROUND_START로 변경. 새 시간: {}", game.getTime());
+    // 다음으로 동작이 있는 초를 처리해야 하는 시각 (주가 변동으로 정지한 동안에는 정지가 끝나는 시각)
+    private long nextDueAt(Game game, long now) {
+        if (game.getRoundStatus() == STOCK_FLUCTUATION) {
+            return game.isPaused() ? game.getPauseEndsAt() : now;
         }
+        RoundTimeline.Phase phase = roundTimeline.phase(game.getRoundStatus());
+        int second = phase == null ? -1 : phase.nextActionSecond(game.getTime());
+        if (second < 0) {
+            return now + tickIntervalMillis;
+        }
+        return game.getPhaseEndsAt() - second * 1000L;
     }
 
-    private void handleRoundStart(Game game) throws BaseException {
-        if (game.getTime() == 2) {
+    private boolean announceRoundStart(Game game, GameMessageOutbox outbox, boolean latest) {
 //            notifyPlayers(game.getGameId(), ROUND_START, +game.getRound() + "라운드가 시작됩니다!");
-            notifyRoundStart(game.getGameId(), ROUND_START, game.getRound() + "라운드가 시작됩니다!", game.getRound());
-        } else if (game.getTime() == 0) {
-            game.setRoundStatus(APPLY_PREVIOUS_EVENT);
-            game.setTime(5);
-            log.debug("상태를 APPLY_PREVIOUS_EVENT로 변경. 새 시간: {}", game.getTime());
-        }
+        notifyRoundStart(outbox, game.getGameId(), ROUND_START, game.getRound() + "라운드가 시작됩니다!", game.getRound());
+        return false;
     }
 
     // 이전 라운드의 경제 이벤트 적용
-    @Transactional
-    protected void handleApplyPreviousEvent(Game game) throws BaseException {
-        if (game.getTime() == 4) {
-            try {
-                GameEvent gameEvent = game.getCurrentEvent();
-                if (gameEvent == null) {
-                    log.warn("현재 이벤트가 null입니다. 이전 라운드에서 이벤트가 설정되지 않았을 수 있습니다.");
-                    game.setRoundStatus(ECONOMIC_EVENT_NEWS);
-                    game.setTime(5);
-                    return;
-                }
+    private boolean applyPreviousEvent(Game game, GameMessageOutbox outbox, boolean latest) {
+        try {
+            GameEvent gameEvent = game.getCurrentEvent();
+            if (gameEvent == null) {
+                log.warn("현재 이벤트가 null입니다. 이전 라운드에서 이벤트가 설정되지 않았을 수 있습니다.");
+                game.setRoundStatus(ECONOMIC_EVENT_NEWS);
+                game.setTime(ECONOMIC_EVENT_NEWS.getDuration());
+                return false;
+            }
 
-                log.debug("이전 라운드의 경제 이벤트가 현재 경제 시장에 반영됩니다!!");
+            log.debug("이전 라운드의 경제 이벤트가 현재 경제 시장에 반영됩니다!!");
 
-                Arena arena = redisTemplate.opsForValue().get("room" + game.getGameId());
-                if (arena == null) {
-                    log.error("Redis에서 Arena를 찾을 수 없습니다. Game ID: {}", game.getGameId());
-                    throw new BaseException(ARENA_NOT_FOUND);
-                }
+            // 경제 이벤트 적용 (저장은 틱이 끝날 때 한 번에 수행)
+            GameEvent appliedEvent = gameService.applyEconomicEvent(game);
+            if (appliedEvent == null) {
+                log.error("경제 이벤트 적용 실패. Game ID: {}", game.getGameId());
+                throw new BaseException(EVENT_APPLICATION_FAILED);
+            }
 
-                // 경제 이벤트 적용
-                GameEvent appliedEvent = gameService.applyEconomicEvent(game.getGameId());
-                if (appliedEvent == null) {
-                    log.error("경제 이벤트 적용 실패. Game ID: {}", game.getGameId());
-                    throw new BaseException(EVENT_APPLICATION_FAILED);
-                }
+            GameEventDto eventDto = new GameEventDto(
+                    APPLY_PREVIOUS_EVENT,
+                    gameEvent.getTitle(),
+                    gameEvent.getContent(),
+                    gameEvent.getValue()
+            );
+
+            StompPayload<GameEventDto> payload = new StompPayload<>(
+                    "GAME_NOTIFICATION",
+                    game.getGameId(),
+                    "GAME_MANAGER",
+                    eventDto
+            );
+
+            outbox.send("/sub/" + game.getGameId() + "/game", payload);
+            log.debug("경제 이벤트가 반영됨!");
+//            notifyPlayers(game.getGameId(), APPLY_PREVIOUS_EVENT, "이전 라운드의 경제 이벤트가 적용되었습니다.");
+        } catch (BaseException e) {
+            log.error("경제 이벤트 반영 중 에러 발생 : {}", e.getMessage());
+            game.setRoundStatus(ECONOMIC_EVENT_NEWS);
+            game.setTime(ECONOMIC_EVENT_NEWS.getDuration());
+        }
+        return true;
+    }
+
+    private boolean announceEconomicEvent(Game game, GameMessageOutbox outbox, boolean latest) {
+        try {
+            GameEvent gameEvent = gameService.createGameEventNews(game);
+            log.debug("새로운 경제 이벤트 발생: {}", gameEvent != null ? gameEvent.getTitle() : "null");
+//                notifyPlayers(game.getGameId(), ECONOMIC_EVENT, "경제 이벤트가 발생했습니다!");
+
+            if (gameEvent != null) {
+                outbox.afterSave(() -> applicationContext.publishEvent(gameEvent));
+
+                game.setCurrentEvent(gameEvent);
 
                 GameEventDto eventDto = new GameEventDto(
-                        APPLY_PREVIOUS_EVENT,
+                        ECONOMIC_EVENT_NEWS,
                         gameEvent.getTitle(),
                         gameEvent.getContent(),
                         gameEvent.getValue()
@@ -241,154 +741,102 @@ public class GameScheduler {
                         eventDto
                 );
 
-                messagingTemplate.convertAndSend("/sub/" + game.getGameId() + "/game", payload);
-                log.debug("경제 이벤트가 반영됨!");
-//            notifyPlayers(game.getGameId(), APPLY_PREVIOUS_EVENT, "이전 라운드의 경제 이벤트가 적용되었습니다.");
-            } catch (BaseException e) {
-                log.error("경제 이벤트 반영 중 에러 발생 : {}", e.getMessage());
-                game.setRoundStatus(ECONOMIC_EVENT_NEWS);
-                game.setTime(5);
+                log.debug("경제 이벤트 발생! : {}", gameEvent.getTitle());
+                outbox.send("/sub/" + game.getGameId() + "/game", payload);
             }
-        } else if (game.getTime() == 0) {
-            game.setRoundStatus(APPLY_PREVIOUS_EVENT);
-            game.setTime(5);
+        } catch (BaseException e) {
+            log.error("경제 이벤트 생성 중 에러 발생: {}", e.getMessage());
+            if (game.getRound() == 10) return false;
+            game.setRoundStatus(ECONOMIC_EVENT_NEWS);
+            game.setTime(ECONOMIC_EVENT_NEWS.getDuration());
         }
+        return true;
     }
 
-    private void handleEconomicEvent(Game game) throws BaseException {
-        if (game.getTime() == 4) {
-            try {
-                GameEvent gameEvent = gameService.createGameEventNews(game.getGameId());
-                log.debug("새로운 경제 이벤트 발생: {}", gameEvent != null ? gameEvent.getTitle() : "null");
-//                notifyPlayers(game.getGameId(), ECONOMIC_EVENT, "경제 이벤트가 발생했습니다!");
-
-                if (gameEvent != null) {
-                    applicationContext.publishEvent(gameEvent);
-
-                    game.setCurrentEvent(gameEvent);
-
-                    GameEventDto eventDto = new GameEventDto(
-                            ECONOMIC_EVENT_NEWS,
-                            gameEvent.getTitle(),
-                            gameEvent.getContent(),
-                            gameEvent.getValue()
-                    );
-
-                    StompPayload<GameEventDto> payload = new StompPayload<>(
-                            "GAME_NOTIFICATION",
-                            game.getGameId(),
-                            "GAME_MANAGER",
-                            eventDto
-                    );
-
-                    log.debug("경제 이벤트 발생! : {}", gameEvent.getTitle());
-                    messagingTemplate.convertAndSend("/sub/" + game.getGameId() + "/game", payload);
-                }
-            } catch (BaseException e) {
-                log.error("경제 이벤트 생성 중 에러 발생: {}", e.getMessage());
-                if (game.getRound() == 10) return;
-                game.setRoundStatus(ECONOMIC_EVENT_NEWS);
-                game.setTime(5);
-            }
-        } else if (game.getTime() == 0) {
-            game.setRoundStatus(ROUND_IN_PROGRESS);
-            game.setTime(120);
-            log.debug("상태를 ROUND_IN_PROGRESS로 변경. 새 시간: {}", game.getTime());
+    private boolean notifyRemainingTime(Game game, GameMessageOutbox outbox, boolean latest) {
+        if (latest) {
+            notifyPlayersTime(outbox, game.getGameId(), game.getTime());
         }
+        return false;
     }
 
-    private void handleRoundInProgress(Game game) throws BaseException {
-        int currentTime = game.getTime();
-        notifyPlayersTime(game.getGameId(), currentTime);
-        if (currentTime == 30 || currentTime == 10) {
-            notifyPlayers(game.getGameId(), ROUND_IN_PROGRESS, currentTime + " 초 남았습니다!");
-        } else if (game.getTime() == 0) {
-            game.setRoundStatus(ROUND_END);
-            game.setTime(3);
-            log.debug("상태를 ROUND_END로 변경. 새 시간: {}", game.getTime());
-        } else if (game.getTime() == 119 || game.getTime() % 20 == 0) {
-            int remainTime = (game.getTime() == 119) ? 120 : game.getTime();
-            gameService.setStockPriceChangeInfo(game, game.getRound(), remainTime);
-            StockMarketResponse response = gameService.createStockMarketInfo(game);
-            StompPayload<StockMarketResponse> payload = new StompPayload<>("STOCK_MARKET_INFO", game.getGameId(), "GAME_MANAGER", response);
-            messagingTemplate.convertAndSend("/sub/" + game.getGameId() + "/game", payload);
-        }
+    private boolean warnRemainingTime(Game game, GameMessageOutbox outbox, boolean latest) {
+        notifyPlayers(outbox, game.getGameId(), ROUND_IN_PROGRESS, game.getTime() + " 초 남았습니다!");
+        return false;
     }
 
-    private void handleStockFluctuation(Game game) throws BaseException {
+    private boolean sendStockMarketInfo(Game game, GameMessageOutbox outbox, boolean latest) throws BaseException {
+        gameService.setStockPriceChangeInfo(game, game.getRound(), game.getTime());
+        StockMarketResponse response = gameService.createStockMarketInfo(game);
+        StompPayload<StockMarketResponse> payload = new StompPayload<>("STOCK_MARKET_INFO", game.getGameId(), "GAME_MANAGER", response);
+        outbox.send("/sub/" + game.getGameId() + "/game", payload);
+        return true;
+    }
+
+    /**
+     * 주가 변동으로 라운드 정지
+     * 정지한 동안 라운드 남은 시간은 멈춰 있다가, 정지가 끝나는 시각부터 이어서 줄어든다.
+     *
+     * @return Arena에 저장할 변경이 있는지 여부
+     */
+    private boolean handleStockFluctuation(Game game, GameMessageOutbox outbox, long now) throws BaseException {
         if (!game.isPaused()) {
             game.setPaused(true);
-            game.setPauseTime(5);
+            game.setPauseTime(STOCK_FLUCTUATION_PAUSE_SECONDS);
+            game.setPauseEndsAt(now + STOCK_FLUCTUATION_PAUSE_SECONDS * 1000L);
             gameService.changeStockPrice(game);
-            notifyPlayers(game.getGameId(), STOCK_FLUCTUATION, "주가가 변동되었습니다! 5초 후 게임이 재개됩니다.");
+            notifyPlayers(outbox, game.getGameId(), STOCK_FLUCTUATION, "주가가 변동되었습니다! " + STOCK_FLUCTUATION_PAUSE_SECONDS + "초 후 게임이 재개됩니다.");
 
             // 거래 가능한 주식 개수 메세지로 전송
             StockFluctuationResponse response = new StockFluctuationResponse(stockState.getStockLevelCards()[game.getCurrentStockPriceLevel()][0]);
             StompPayload<StockFluctuationResponse> payload = new StompPayload<>("STOCK_FLUCTUATION", game.getGameId(), "GAME_MANAGER", response);
-            messagingTemplate.convertAndSend("/sub/" + game.getGameId() + "/game", payload);
-        } else {
-            if (game.getPauseTime() > 0) {
-                game.setPauseTime(game.getPauseTime() - 1);
-            }
-
-            if (game.getPauseTime() == 0) {
-                game.setPaused(false);
-                game.setRoundStatus(RoundStatus.ROUND_IN_PROGRESS);
-            }
+            outbox.send("/sub/" + game.getGameId() + "/game", payload);
+            return true;
         }
 
-    }
-
-    private void handleRoundEnd(Game game) throws BaseException {
-        log.debug("handleRoundEnd 진입. 현재 시간: {}", game.getTime());
-
-        if (game.getTime() == 2) {
-            notifyPlayers(game.getGameId(), ROUND_END, game.getRound() + "라운드가 종료되었습니다!");
-        } else if (game.getTime() == 0) {
-            game.setRoundStatus(PREPARING_NEXT_ROUND);
-            game.setTime(5);
-            log.debug("상태를 PREPARING_NEXT_ROUND로 변경. 새 시간: {}", game.getTime());
+        game.setPauseTime(game.remainingPauseSeconds(now));
+        if (now < game.getPauseEndsAt()) {
+            return false;
         }
-        log.debug("handleRoundEnd 종료. 최종 시간: {}, 상태: {}", game.getTime(), game.getRoundStatus());
+        game.setPaused(false);
+        game.setPauseTime(0);
+        game.setRoundStatus(RoundStatus.ROUND_IN_PROGRESS);
+        game.setPhaseEndsAt(game.getPauseEndsAt() + game.getTime() * 1000L);
+        game.setPauseEndsAt(0);
+        return true;
     }
 
-    private void handlePreparingNextRound(Game game) {
-        log.debug("handlePreparingNextRound 진입. 현재 시간: {}, 현재 라운드: {}", game.getTime(), game.getRound());
+    private boolean announceRoundEnd(Game game, GameMessageOutbox outbox, boolean latest) {
+        notifyPlayers(outbox, game.getGameId(), ROUND_END, game.getRound() + "라운드가 종료되었습니다!");
+        return false;
+    }
 
-        if (game.getTime() == 4) {
-            log.debug("5초 시점 도달. 라운드 증가 시작.");
-            int nextRound = game.getRound() + 1;
-            game.setRound(nextRound);
-            log.debug("라운드 증가 완료. 새 라운드: {}", nextRound);
+    private boolean advanceRound(Game game, GameMessageOutbox outbox, boolean latest) {
+        int nextRound = game.getRound() + 1;
+        game.setRound(nextRound);
+        log.debug("라운드 증가 완료. 새 라운드: {}", nextRound);
 
-            if (nextRound > MAX_ROUNDS) {
-                log.debug("최대 라운드 도달. 게임 종료 처리 시작.");
-                endGame(game);
-            } else {
-                notifyPlayers(game.getGameId(), PREPARING_NEXT_ROUND, "곧 " + nextRound + " 라운드가 시작됩니다...");
-            }
-        } else if (game.getTime() == 0) {
-            game.setRoundStatus(ROUND_START);
-            game.setTime(3);
-            initializePlayersForNextRound(game);
-            log.debug("상태를 ROUND_START로 변경. 새 시간: {}", game.getTime());
+        if (nextRound > MAX_ROUNDS) {
+            log.debug("최대 라운드 도달. 게임 종료 처리 시작.");
+            endGame(game, outbox);
+        } else {
+            notifyPlayers(outbox, game.getGameId(), PREPARING_NEXT_ROUND, "곧 " + nextRound + " 라운드가 시작됩니다...");
         }
-
-        log.debug("handlePreparingNextRound 종료. 최종 시간: {}, 상태: {}, 현재 라운드: {}",
-                game.getTime(), game.getRoundStatus(), game.getRound());
+        return true;
     }
 
     // 다음 라운드 시작을 위한 변화값들 초기화
-    private void initializePlayersForNextRound(Game game) {
+    private boolean initializePlayersForNextRound(Game game, GameMessageOutbox outbox, boolean latest) {
         game.getPlayers().forEach(player -> {
             player.setCarryingStocks(new int[6]);
             player.setCarryingGolds(0);
             player.setAction(null);
             player.setState(null);
         });
+        return true;
     }
 
-    private void notifyRoundStart(String gameId, RoundStatus roundStatus, String message, int currentRound) {
+    private void notifyRoundStart(GameMessageOutbox outbox, String gameId, RoundStatus roundStatus, String message, int currentRound) {
         RoundStartNotificationDto roundStartNotificationDto = RoundStartNotificationDto.builder()
                 .roundStatus(roundStatus)
                 .message(message)
@@ -396,31 +844,31 @@ public class GameScheduler {
                 .build();
 
         StompPayload<RoundStartNotificationDto> payload = new StompPayload<>("GAME_NOTIFICATION", gameId, "GAME_MANAGER", roundStartNotificationDto);
-        messagingTemplate.convertAndSend("/sub/" + gameId + "/game", payload);
+        outbox.send("/sub/" + gameId + "/game", payload);
     }
 
-    private void notifyPlayers(String gameId, RoundStatus roundStatus, String message) {
+    private void notifyPlayers(GameMessageOutbox outbox, String gameId, RoundStatus roundStatus, String message) {
         GameNotificationDto gameNotificationDto2 = GameNotificationDto.builder()
                 .roundStatus(roundStatus)
                 .message(message)
                 .build();
 
         StompPayload<GameNotificationDto> payload = new StompPayload<>("GAME_NOTIFICATION", gameId, "GAME_MANAGER", gameNotificationDto2);
-        messagingTemplate.convertAndSend("/sub/" + gameId + "/game", payload);
+        outbox.send("/sub/" + gameId + "/game", payload);
     }
 
-    private void notifyPlayersTime(String gameId, int time) {
+    private void notifyPlayersTime(GameMessageOutbox outbox, String gameId, int time) {
         TimeNotificationDto timeNotificationDto = TimeNotificationDto.builder()
                 .time(time)
                 .build();
 
         StompPayload<TimeNotificationDto> payload = new StompPayload<>("GAME_NOTIFICATION", gameId, "GAME_MANAGER", timeNotificationDto);
-        messagingTemplate.convertAndSend("/sub/" + gameId + "/game", payload);
+        outbox.send("/sub/" + gameId + "/game", payload);
     }
 
-    private void endGame(Game game) {
+    private void endGame(Game game, GameMessageOutbox outbox) {
         game.setGameStatus(GameStatus.GAME_FINISHED);
-        notifyPlayers(game.getGameId(), GAME_FINISHED, "게임 종료!");
+        notifyPlayers(outbox, game.getGameId(), GAME_FINISHED, "게임 종료!");
         // TODO: 게임 종료 후 로직이 필요함, 순위 화면 같은거 계산해서 반환하기 등
     }
 }
\ No newline at end of file
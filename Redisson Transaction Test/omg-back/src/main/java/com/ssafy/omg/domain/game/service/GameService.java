@@ -6,6 +6,7 @@ import com.ssafy.omg.domain.arena.entity.Arena;
 import com.ssafy.omg.domain.game.dto.IndividualMessageDto;
 import com.ssafy.omg.domain.game.dto.PlayerMoveRequest;
 import com.ssafy.omg.domain.game.dto.StockRequest;
+import com.ssafy.omg.domain.game.dto.TradeResult;
 import com.ssafy.omg.domain.game.entity.Game;
 import com.ssafy.omg.domain.game.dto.StockMarketResponse;
 import com.ssafy.omg.domain.game.entity.GameEvent;
@@ -27,16 +28,25 @@ public interface GameService {
     // 게임 초기값 세팅
     Arena initializeGame(String roomId, List<String> inRoomPlayers) throws BaseException;
 
+    // 1라운드 시작 (gameStatus를 IN_GAME으로 변경)
+    Arena startGame(String roomId) throws BaseException;
+
     // 경제 이벤트 발생(조회) 및 금리 변동 (2~10라운드)
     GameEvent createGameEventNews(String roomId) throws BaseException;
 
+    // 경제 이벤트 발생(조회)을 Game에만 반영 (저장은 호출한 쪽에서 수행)
+    GameEvent createGameEventNews(Game game) throws BaseException;
+
     // 전 라운드 경제 이벤트를 현 라운드에 적용
     GameEvent applyEconomicEvent(String roomId) throws BaseException;
 
+    // 전 라운드 경제 이벤트를 Game에만 반영 (저장은 호출한 쪽에서 수행)
+    GameEvent applyEconomicEvent(Game game) throws BaseException;
+
     void takeLoan(String roomId, String userNickname, int amount) throws BaseException, MessageException;
 
     // 매입한 금괴 개수를 플레이어 자산 및 금괴 매입 트랙( + 추가개수)에 반영
-    void purchaseGold(String roomId, String userNickname, int goldButCount) throws BaseException, MessageException;
+    TradeResult purchaseGold(String roomId, String userNickname, int goldButCount) throws BaseException, MessageException;
 
     // 주가 변동 가능 여부
     boolean isStockFluctuationAble(String roomId) throws BaseException;
@@ -46,13 +56,16 @@ public interface GameService {
 
     void repayLoan(String roomId, String userNickname, int amount) throws BaseException, MessageException;
 
-    void sellStock(String roomId, String userNickname, int[] amount) throws BaseException;
+    TradeResult sellStock(String roomId, String userNickname, int[] amount) throws BaseException, MessageException;
 
     void movePlayer(StompPayload<PlayerMoveRequest> playerMoveRequest) throws BaseException;
 
-    void buyStock(StompPayload<StockRequest> data) throws BaseException, MessageException;
+    TradeResult buyStock(StompPayload<StockRequest> data) throws BaseException, MessageException;
 
     void setStockPriceChangeInfo(Game game, int round, int remainTime);
 
     StockMarketResponse createStockMarketInfo(Game game);
+
+    // 거래 결과로 주식 거래소 정보 생성 (Arena를 다시 읽지 않음)
+    StockMarketResponse createStockMarketInfo(TradeResult tradeResult);
 }
@@ -1,25 +1,34 @@
 package com.ssafy.omg.domain.game.service;
 
 import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.config.baseresponse.BaseResponseStatus;
 import com.ssafy.omg.config.baseresponse.MessageException;
+import com.ssafy.omg.config.baseresponse.MessageResponseStatus;
 import com.ssafy.omg.domain.arena.entity.Arena;
 import com.ssafy.omg.domain.game.GameRepository;
 import com.ssafy.omg.domain.game.dto.IndividualMessageDto;
 import com.ssafy.omg.domain.game.dto.PlayerMoveRequest;
 import com.ssafy.omg.domain.game.dto.StockMarketResponse;
 import com.ssafy.omg.domain.game.dto.StockRequest;
+import com.ssafy.omg.domain.game.dto.TradeResult;
 import com.ssafy.omg.domain.game.entity.Game;
 import com.ssafy.omg.domain.game.entity.GameEvent;
 import com.ssafy.omg.domain.game.entity.GameStatus;
+import com.ssafy.omg.domain.game.entity.StockGroup;
 import com.ssafy.omg.domain.game.entity.StockInfo;
 import com.ssafy.omg.domain.game.entity.StockState;
-import com.ssafy.omg.domain.game.repository.GameEventRepository;
+import com.ssafy.omg.domain.game.repository.ArenaSection;
+import com.ssafy.omg.domain.game.repository.ArenaUpdate;
+import com.ssafy.omg.domain.game.repository.GameEventCatalog;
+import com.ssafy.omg.domain.game.repository.TradeScriptRepository;
+import com.ssafy.omg.domain.game.repository.TradeScriptRepository.TradeType;
 import com.ssafy.omg.domain.player.entity.Player;
 import com.ssafy.omg.domain.player.entity.PlayerStatus;
 import com.ssafy.omg.domain.socket.dto.StompPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -33,6 +42,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
+import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_UPDATE_CONFLICT;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.EVENT_NOT_FOUND;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.EXCEEDS_DIFF_RANGE;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.IMPOSSIBLE_STOCK_CNT;
@@ -40,7 +50,6 @@ import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.INSUFFICIENT_
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.INVALID_BLACK_TOKEN;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.INVALID_ROUND;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.INVALID_SELL_STOCKS;
-import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.INVALID_STOCK_GROUP;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.INVALID_STOCK_LEVEL;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.PLAYER_NOT_FOUND;
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.PLAYER_STATE_ERROR;
@@ -52,6 +61,7 @@ import static com.ssafy.omg.config.baseresponse.MessageResponseStatus.INSUFFICIE
 import static com.ssafy.omg.config.baseresponse.MessageResponseStatus.LOAN_ALREADY_TAKEN;
 import static com.ssafy.omg.config.baseresponse.MessageResponseStatus.OUT_OF_CASH;
 import static com.ssafy.omg.config.baseresponse.MessageResponseStatus.STOCK_NOT_AVAILABLE;
+import static com.ssafy.omg.domain.game.entity.RoundStatus.ROUND_START;
 import static com.ssafy.omg.domain.game.entity.RoundStatus.STOCK_FLUCTUATION;
 import static com.ssafy.omg.domain.game.entity.RoundStatus.TUTORIAL;
 import static com.ssafy.omg.domain.player.entity.PlayerStatus.COMPLETED;
@@ -62,16 +72,20 @@ import static org.hibernate.query.sqm.tree.SqmNode.log;
 @RequiredArgsConstructor
 public class GameServiceImpl implements GameService {
 
-    private final RedisTemplate<String, Arena> redisTemplate;
     private final RedissonClient redissonClient;
-    // Redis에서 대기방 식별을 위한 접두사 ROOM_PREFIX 설정
-    private static final String ROOM_PREFIX = "room";
     private final int[][] LOAN_RANGE = new int[][]{{50, 100}, {150, 300}, {500, 1000}};
     private static List<Integer> characterTypes = new ArrayList<>(Arrays.asList(0, 1, 2, 3));
-    private final GameEventRepository gameEventRepository;
+    private final GameEventCatalog gameEventCatalog;
     private final GameRepository gameRepository;
     private final StockState stockState;
+    private final MeterRegistry meterRegistry;
+    private final ArenaCommandExecutor arenaCommandExecutor;
+    private final TradeScriptRepository tradeScriptRepository;
+    private final RoomMovementRelay roomMovementRelay;
     private Random random = new Random();
+    private static final String ACTION_METRIC = "omg.game.action";
+    // 거래 스크립트가 돌려주는 실패 상태 중 MessageResponseStatus에 해당하는 것 (나머지는 BaseResponseStatus)
+    private static final Set<String> TRADE_MESSAGE_STATUSES = Set.of(OUT_OF_CASH.name(), STOCK_NOT_AVAILABLE.name(), INSUFFICIENT_CASH.name());
 
     /**
      * 진행중인 게임의 리스트를 반환 ( 모든 진행중인 게임들을 관리 )
@@ -81,8 +95,8 @@ public class GameServiceImpl implements GameService {
      */
     @Override
     public List<Game> getAllActiveGames() throws BaseException {
-        List<Arena> allArenas = gameRepository.findAllArenas();
-        return allArenas.stream()
+        List<Arena> activeArenas = gameRepository.findAllActiveArenas();
+        return activeArenas.stream()
                 .map(Arena::getGame)
                 .filter(game -> game != null && game.getGameStatus() == GameStatus.IN_GAME)
                 .collect(Collectors.toList());
@@ -104,19 +118,7 @@ public class GameServiceImpl implements GameService {
         Game game = arena.getGame();
         Player player = findPlayer(arena, sender);
 
-        return IndividualMessageDto.builder()
-                .hasLoan(player.getHasLoan())
-                .loanPrincipal(player.getLoanPrincipal())
-                .loanInterest(player.getLoanInterest())
-                .totalDebt(player.getTotalDebt())
-                .cash(player.getCash())
-                .stock(player.getStock())
-                .goldOwned(player.getGoldOwned())
-                .carryingStocks(player.getCarryingStocks())
-                .carryingGolds(player.getCarryingGolds())
-                .action(player.getAction())
-                .state(player.getState())
-                .build();
+        return IndividualMessageDto.from(player);
     }
 
     /**
@@ -127,12 +129,21 @@ public class GameServiceImpl implements GameService {
      */
     @Override
     public StockMarketResponse createStockMarketInfo(Game game) {
-        List<Player> players = game.getPlayers();
-        String[] playerNicknames = players.stream()
-                .map(Player::getNickname)
-                .toList().toArray(new String[0]);
+        return createStockMarketInfo(TradeResult.of(game, null));
+    }
 
-        StockInfo[] marketStocks = game.getMarketStocks();
+    /**
+     * 거래 결과로 주식 거래소 정보 생성 (Arena를 다시 읽지 않음)
+     *
+     * @param tradeResult
+     * @return StockMarketInfo
+     */
+    @Override
+    public StockMarketResponse createStockMarketInfo(TradeResult tradeResult) {
+        String[] playerNicknames = tradeResult.playerNicknames().toArray(new String[0]);
+        List<int[]> playerStocks = tradeResult.playerStocks();
+
+        StockInfo[] marketStocks = tradeResult.marketStocks();
         int[][] playerStockShares = new int[6][4];
         int[] leftStocks = new int[6];
         int[] stockPrices = new int[6];
@@ -141,7 +152,7 @@ public class GameServiceImpl implements GameService {
         for (int i = 1; i < 6; i++) {
             // 플레이어 별 보유 주식 개수 (r: 주식 종류 , c: 플레이어 , value: 주식 개수)
             for (int j = 0; j < 4; j++) {
-                playerStockShares[i][j] = players.get(j).getStock()[i];
+                playerStockShares[i][j] = playerStocks.get(j)[i];
             }
 
             // 주식 별 남은 주식 개수
@@ -155,7 +166,7 @@ public class GameServiceImpl implements GameService {
         }
 
         return StockMarketResponse.builder()
-                .stockPriceChangeInfo(game.getStockPriceChangeInfo())
+                .stockPriceChangeInfo(tradeResult.stockPriceChangeInfo())
                 .playerNicknames(playerNicknames)
                 .playerStockShares(playerStockShares)
                 .leftStocks(leftStocks)
@@ -171,10 +182,10 @@ public class GameServiceImpl implements GameService {
      */
     @Override
     public void saveGame(Game game) throws BaseException {
-        Arena arena = gameRepository.findArenaByRoomId(game.getGameId())
-                .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        arena.setGame(game);
-        gameRepository.saveArena(game.getGameId(), arena);
+        arenaCommandExecutor.run(game.getGameId(), "saveGame", (arena, update) -> {
+            arena.setGame(game);
+            update.merge(ArenaUpdate.of(ArenaSection.GAME, ArenaSection.PLAYERS, ArenaSection.MARKET, ArenaSection.CHART));
+        });
     }
 
     /**
@@ -192,8 +203,7 @@ public class GameServiceImpl implements GameService {
             throw new BaseException(PLAYER_NOT_FOUND);
         }
 
-        Arena arena = redisTemplate.opsForValue().get(ROOM_PREFIX + roomId);
-        if (arena != null) {
+        Arena initialized = arenaCommandExecutor.execute(roomId, "initializeGame", (arena, update) -> {
             List<Player> players = new ArrayList<>();
             int[] pocket = new int[]{0, 23, 23, 23, 23, 23};
             StockInfo[] market = initializeMarket();
@@ -271,11 +281,33 @@ public class GameServiceImpl implements GameService {
             arena.setGame(newGame);
             arena.setMessage("GAME_INITIALIZED");
             arena.setRoom(null);
-            gameRepository.saveArena(roomId, arena);
-        } else {
-            throw new BaseException(ARENA_NOT_FOUND);
-        }
-        return arena;
+            update.merge(ArenaUpdate.all());
+            return arena;
+        });
+        gameRepository.addActiveGame(roomId);
+        return initialized;
+    }
+
+    /**
+     * gameStatus를 IN_GAME, roundStatus를 ROUND_START로 변경하여 1라운드를 시작
+     *
+     * @param roomId 방 코드
+     * @return Arena
+     * @throws BaseException ARENA_NOT_FOUND
+     */
+    @Override
+    public Arena startGame(String roomId) throws BaseException {
+        Arena started = arenaCommandExecutor.execute(roomId, "startGame", (arena, update) -> {
+            Game game = arena.getGame();
+            game.setGameStatus(GameStatus.IN_GAME);
+            game.setRoundStatus(ROUND_START);
+            // 다음 틱부터 남은 시간만큼 새로 진행
+            game.setPhaseEndsAt(0);
+            update.and(ArenaSection.GAME);
+            return arena;
+        });
+        gameRepository.addActiveGame(roomId);
+        return started;
     }
 
     private StockInfo[] initializeMarket() {
@@ -298,10 +330,22 @@ public class GameServiceImpl implements GameService {
      */
     @Override
     public GameEvent createGameEventNews(String roomId) throws BaseException {
-        Arena arena = gameRepository.findArenaByRoomId(roomId)
-                .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        Game game = arena.getGame();
+        return arenaCommandExecutor.execute(roomId, "createGameEventNews", (arena, update) -> {
+            GameEvent gameEvent = createGameEventNews(arena.getGame());
+            update.and(ArenaSection.GAME);
+            return gameEvent;
+        });
+    }
 
+    /**
+     * 경제 이벤트 발생(조회)을 Game에만 반영 (저장은 호출한 쪽에서 수행)
+     *
+     * @param game 게임 정보
+     * @return 경제 이벤트 정보 반환
+     * @throws BaseException
+     */
+    @Override
+    public GameEvent createGameEventNews(Game game) throws BaseException {
         int currentRound = game.getRound();
         if (currentRound < 1 || currentRound >= 10) {
             log.info("경제 뉴스는 1라운드부터 9라운드까지 발생합니다.");
@@ -314,8 +358,8 @@ public class GameServiceImpl implements GameService {
             throw new BaseException(EVENT_NOT_FOUND);
         }
 
-        Long eventId = (long) economicEvent[currentRound];
-        GameEvent gameEvent = gameEventRepository.findById(eventId)
+        long eventId = economicEvent[currentRound];
+        GameEvent gameEvent = gameEventCatalog.findById(eventId)
                 .orElseThrow(() -> new BaseException(EVENT_NOT_FOUND));
 
         // 현재 발생한(다음 라운드에 반영될) 경제 뉴스를 currentEvent로 설정
@@ -327,19 +371,6 @@ public class GameServiceImpl implements GameService {
         // 현재 발생한(다음 라운드에 반영될) 경제 뉴스를 currentEvent로 설정
         game.setCurrentEvent(gameEvent);
 
-        // Arena 객체에 수정된 Game 객체를 다시 설정
-        arena.setGame(game);
-
-        // 수정된 Arena를 Redis에 저장
-        gameRepository.saveArena(roomId, arena);
-
-        // 저장 후 즉시 다시 조회하여 확인
-        Arena savedArena = gameRepository.findArenaByRoomId(roomId)
-                .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        GameEvent savedEvent = savedArena.getGame().getCurrentEvent();
-        System.out.println("Saved currentEvent: " + (savedEvent != null ? savedEvent.getTitle() : "null"));
-
-
         return game.getCurrentEvent();
     }
 
@@ -352,10 +383,24 @@ public class GameServiceImpl implements GameService {
      */
     @Override
     public GameEvent applyEconomicEvent(String roomId) throws BaseException {
-        Arena arena = gameRepository.findArenaByRoomId(roomId)
-                .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        Game game = arena.getGame();
+        return arenaCommandExecutor.execute(roomId, "applyEconomicEvent", (arena, update) -> {
+            GameEvent appliedEvent = applyEconomicEvent(arena.getGame());
+            if (appliedEvent != null) {
+                update.and(ArenaSection.GAME).and(ArenaSection.MARKET);
+            }
+            return appliedEvent;
+        });
+    }
 
+    /**
+     * 전 라운드의 경제 이벤트를 Game에만 반영 (저장은 호출한 쪽에서 수행)
+     *
+     * @param game 게임 정보
+     * @return appliedEvent, 적용할 이벤트가 없으면 null
+     * @throws BaseException
+     */
+    @Override
+    public GameEvent applyEconomicEvent(Game game) throws BaseException {
         int currentRound = game.getRound();
         if (currentRound < 2 || currentRound > 10) {
             log.info("경제 이벤트 적용은 2라운드부터 10라운드까지 발생합니다.");
@@ -379,7 +424,7 @@ public class GameServiceImpl implements GameService {
 
         // 2. 주가 변동
         StockInfo[] marketStocks = game.getMarketStocks();
-        String affectedStockGroup = currentEvent.getAffectedStockGroup();
+        int affectedStockMask = gameEventCatalog.stockMaskOf(currentEvent);
         int eventValue = currentEvent.getValue();
 
 
@@ -390,29 +435,10 @@ public class GameServiceImpl implements GameService {
 
 
         try {
-            switch (affectedStockGroup) {
-                case "ALL":
-                    for (int i = 1; i < marketStocks.length; i++) {
-                        modifyStockPrice(marketStocks[i], eventValue);
-                    }
-                    break;
-                case "FOOD":
-                    for (int i = 1; i <= 2; i++) {
-                        modifyStockPrice(marketStocks[i], eventValue);
-                    }
-                    break;
-                case "GIFT":
-                    modifyStockPrice(marketStocks[3], eventValue);
-                    break;
-                case "CLOTHES":
-                    for (int i = 4; i <= 5; i++) {
-                        modifyStockPrice(marketStocks[i], eventValue);
-                    }
-                    break;
-                case "NULL":
-                    break;
-                default:
-                    throw new BaseException(INVALID_STOCK_GROUP);
+            for (int i = 1; i < marketStocks.length; i++) {
+                if (StockGroup.isAffected(affectedStockMask, i)) {
+                    modifyStockPrice(marketStocks[i], eventValue);
+                }
             }
         } catch (BaseException e) {
             System.out.println("주가 변동 중 오류 발생: " + e.getMessage());
@@ -420,7 +446,6 @@ public class GameServiceImpl implements GameService {
         }
 
         game.setMarketStocks(marketStocks);
-        arena.setGame(game);
 
         GameEvent appliedEvent = currentEvent;
 
@@ -432,18 +457,6 @@ public class GameServiceImpl implements GameService {
             log.warn("After - Stock " + Arrays.toString(marketStocks[i].getState()));
         }
 
-
-        // 수정된 Arena를 Redis에 저장
-        gameRepository.saveArena(roomId, arena);
-
-
-// 저장 후 즉시 확인
-        Arena savedArena = gameRepository.findArenaByRoomId(roomId)
-                .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-        log.warn("Saved Interest Rate: " + savedArena.getGame().getCurrentInterestRate());
-        for (int i = 1; i < savedArena.getGame().getMarketStocks().length; i++) {
-            log.warn("Saved Stock " + Arrays.toString(savedArena.getGame().getMarketStocks()[i].getState()));
-        }
         return appliedEvent;
     }
 
@@ -544,9 +557,17 @@ public class GameServiceImpl implements GameService {
      * @throws BaseException
      */
     @Override
-    public void purchaseGold(String roomId, String userNickname, int goldBuyCount) throws BaseException, MessageException {
-        Arena arena = gameRepository.findArenaByRoomId(roomId)
-                .orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
+    public TradeResult purchaseGold(String roomId, String userNickname, int goldBuyCount) throws BaseException, MessageException {
+        if (tradeScriptRepository.isEnabled()) {
+            return executeTradeScript(roomId, userNickname, TradeType.PURCHASE_GOLD, goldBuyCount);
+        }
+        return arenaCommandExecutor.execute(roomId, "purchaseGold", (arena, update) -> {
+            purchaseGold(arena, update, roomId, userNickname, goldBuyCount);
+            return TradeResult.of(arena.getGame(), findPlayer(arena, userNickname));
+        });
+    }
+
+    private void purchaseGold(Arena arena, ArenaUpdate update, String roomId, String userNickname, int goldBuyCount) throws BaseException, MessageException {
         Game game = arena.getGame();
         Player player = findPlayer(arena, userNickname);
 
@@ -633,15 +654,16 @@ public class GameServiceImpl implements GameService {
             System.out.println("주가상승!");
         }
 
+        update.andPlayer(userNickname).and(ArenaSection.MARKET);
+
         // 금괴 매입 트랙에 의한 주가 변동 체크 및 반영 - 꽉 찼을 때
         if (isStockFluctuationAble(goldBuyTrack)) {
             game.setGoldBuyTrack(new int[]{0, 0, 0, 0, 0, 0});
             game.setRoundStatus(STOCK_FLUCTUATION); // TODO 주가변동 메서드 스케줄러에 넣기
+            update.and(ArenaSection.GAME);
             System.out.println("주가변동!!");
         }
 
-        arena.setGame(game);
-        gameRepository.saveArena(roomId, arena);
         System.out.println("==================================================================");
     }
 
@@ -697,6 +719,11 @@ public class GameServiceImpl implements GameService {
         validateRequest(roomId, sender);
 
         Arena arena = gameRepository.findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
+        return findLoanRange(arena, roomId, sender);
+    }
+
+    // 대출 가능 여부 판단 후, 주가 수준에 따른 대출 금액 범위 인덱스 반환
+    private int findLoanRange(Arena arena, String roomId, String sender) throws BaseException, MessageException {
         Player player = findPlayer(arena, sender);
 
         // 이미 대출을 받은 적이 있는 경우
@@ -730,10 +757,13 @@ public class GameServiceImpl implements GameService {
     public void takeLoan(String roomId, String sender, int amount) throws BaseException, MessageException {
 
         validateRequest(roomId, sender);
-        int range = preLoan(roomId, sender);
+        arenaCommandExecutor.run(roomId, "takeLoan", (arena, update) -> takeLoan(arena, update, roomId, sender, amount));
+    }
+
+    private void takeLoan(Arena arena, ArenaUpdate update, String roomId, String sender, int amount) throws BaseException, MessageException {
+        int range = findLoanRange(arena, roomId, sender);
 
         // 대출금을 자산에 반영
-        Arena arena = gameRepository.findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
         Player player = findPlayer(arena, sender);
 
         // 요청 금액이 대출 한도를 이내인지 검사
@@ -749,7 +779,7 @@ public class GameServiceImpl implements GameService {
         player.setTotalDebt(amount);
         player.setCash(player.getCash() + amount);
 
-        gameRepository.saveArena(roomId, arena);
+        update.andPlayer(sender);
     }
 
     // 상환
@@ -763,8 +793,10 @@ public class GameServiceImpl implements GameService {
     public void repayLoan(String roomId, String sender, int amount) throws BaseException, MessageException {
 
         validateRequest(roomId, sender);
+        arenaCommandExecutor.run(roomId, "repayLoan", (arena, update) -> repayLoan(arena, update, roomId, sender, amount));
+    }
 
-        Arena arena = gameRepository.findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
+    private void repayLoan(Arena arena, ArenaUpdate update, String roomId, String sender, int amount) throws BaseException, MessageException {
         Player player = findPlayer(arena, sender);
 
         int totalDebt = player.getTotalDebt();
@@ -780,17 +812,26 @@ public class GameServiceImpl implements GameService {
         // 상환 후 자산에 반영(갚아야 할 금액 차감, 현금 차감)
         player.repayLoan(amount);
 
-        gameRepository.saveArena(roomId, arena);
+        update.andPlayer(sender);
     }
 
 
     // 주식 매도
     @Override
-    public void sellStock(String roomId, String sender, int[] stocksToSell) throws BaseException {
+    public TradeResult sellStock(String roomId, String sender, int[] stocksToSell) throws BaseException, MessageException {
 
         validateRequest(roomId, sender);
-        Arena arena = gameRepository.findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
+        if (tradeScriptRepository.isEnabled()) {
+            validateStockRequest(stocksToSell);
+            return executeTradeScript(roomId, sender, TradeType.SELL_STOCK, stocksToSell);
+        }
+        return arenaCommandExecutor.execute(roomId, "sellStock", (arena, update) -> {
+            sellStock(arena, update, sender, stocksToSell);
+            return TradeResult.of(arena.getGame(), findPlayer(arena, sender));
+        });
+    }
 
+    private void sellStock(Arena arena, ArenaUpdate update, String sender, int[] stocksToSell) throws BaseException {
         Game game = arena.getGame();
         int currentStockPriceLevel = game.getCurrentStockPriceLevel();
         StockInfo[] marketStocks = game.getMarketStocks();
@@ -829,6 +870,8 @@ public class GameServiceImpl implements GameService {
         // 4. 매도 트랙에서 주식시장으로 토큰 옮기고 주가 하락
         moveStockFromSellTrackAndCheckDecrease(marketStocks, stockSellTrack);
 
+        update.andPlayer(sender).and(ArenaSection.MARKET);
+
         // 5. 남은 주식토큰이 5개면 주가 변동 -> 주식 매도트랙 세팅
         int leftStocks = 0;
         for (int i = 1; i < 6; i++) {
@@ -842,9 +885,8 @@ public class GameServiceImpl implements GameService {
                 game.getStockTokensPocket()[i] += stockSellTrack[i];
             }
             game.setStockSellTrack(new int[]{2, 2, 2, 2, 2, 2});
+            update.and(ArenaSection.GAME);
         }
-
-        gameRepository.saveArena(roomId, arena);
     }
 
     /**
@@ -978,58 +1020,72 @@ public class GameServiceImpl implements GameService {
     @Override
     public void movePlayer(StompPayload<PlayerMoveRequest> payload) throws BaseException {
         String roomId = payload.getRoomId();
-
-        Arena arena = gameRepository.findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-
-        synchronized (arena) {
-            Player player = findPlayer(arena, payload.getSender());
-            PlayerMoveRequest playerMoveRequest = payload.getData();
-            player.setDirection(playerMoveRequest.direction());
-            player.setPosition(playerMoveRequest.position());
-            player.setActionToggle(playerMoveRequest.actionToggle());
-
-            gameRepository.saveArena(roomId, arena);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            arenaCommandExecutor.run(roomId, "movePlayer", (arena, update) -> {
+                Player player = findPlayer(arena, payload.getSender());
+                PlayerMoveRequest playerMoveRequest = payload.getData();
+                player.setDirection(playerMoveRequest.direction());
+                player.setPosition(playerMoveRequest.position());
+                player.setActionToggle(playerMoveRequest.actionToggle());
+
+                update.andPlayer(payload.getSender());
+            });
+            roomMovementRelay.markMoved(roomId);
+        } finally {
+            sample.stop(meterRegistry.timer(ACTION_METRIC, "action", "movePlayer"));
         }
     }
 
     @Override
-    public void buyStock(StompPayload<StockRequest> payload) throws BaseException, MessageException {
-        String roomId = payload.getRoomId();
-        String playerNickname = payload.getSender();
-        int[] stocksToBuy = payload.getData().stocks();
-
-        Arena arena = gameRepository.findArenaByRoomId(roomId).orElseThrow(() -> new BaseException(ARENA_NOT_FOUND));
-
-        synchronized (arena) {
-            Player player = findPlayer(arena, playerNickname);
-            Game game = arena.getGame();
+    public TradeResult buyStock(StompPayload<StockRequest> payload) throws BaseException, MessageException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            String roomId = payload.getRoomId();
+            String playerNickname = payload.getSender();
+            int[] stocksToBuy = payload.getData().stocks();
+
+            if (tradeScriptRepository.isEnabled()) {
+                validateStockRequest(stocksToBuy);
+                // 매수 트랙이 가득 찬 경우의 주가 변동(토큰 추첨)도 스크립트 안에서 함께 처리
+                return executeTradeScript(roomId, playerNickname, TradeType.BUY_STOCK, stocksToBuy);
+            }
 
-            int stockPriceLevel = game.getCurrentStockPriceLevel();
-            StockInfo[] marketStocks = game.getMarketStocks();
-            int[] stockBuyTrack = game.getStockBuyTrack();
+            return arenaCommandExecutor.execute(roomId, "buyStock", (arena, update) -> {
+                Player player = findPlayer(arena, playerNickname);
+                Game game = arena.getGame();
 
-            int totalCost = calculateTotalCost(stocksToBuy, marketStocks);
+                int stockPriceLevel = game.getCurrentStockPriceLevel();
+                StockInfo[] marketStocks = game.getMarketStocks();
+                int[] stockBuyTrack = game.getStockBuyTrack();
 
-            validateStocks(stocksToBuy, stockPriceLevel);
-            validateStockAvailability(stocksToBuy, marketStocks, roomId, playerNickname);
+                int totalCost = calculateTotalCost(stocksToBuy, marketStocks);
 
-            if (player.getCash() < totalCost) {
-                throw new MessageException(roomId, playerNickname, INSUFFICIENT_CASH);
-            }
-            player.setCash(player.getCash() - totalCost);
+                validateStocks(stocksToBuy, stockPriceLevel);
+                validateStockAvailability(stocksToBuy, marketStocks, roomId, playerNickname);
 
-            updatePlayerStocks(stocksToBuy, player);
-            updateStockMarket(stocksToBuy, marketStocks);
+                if (player.getCash() < totalCost) {
+                    throw new MessageException(roomId, playerNickname, INSUFFICIENT_CASH);
+                }
+                player.setCash(player.getCash() - totalCost);
 
-            boolean hasStockPriceIncreased = updateSellTrackAndCheckIncrease(marketStocks, stockBuyTrack);
+                updatePlayerStocks(stocksToBuy, player);
+                updateStockMarket(stocksToBuy, marketStocks);
 
-            if (!hasStockPriceIncreased) {
-                checkAndApplyStockPriceIncrease(stockBuyTrack, marketStocks);
-            }
+                boolean hasStockPriceIncreased = updateSellTrackAndCheckIncrease(marketStocks, stockBuyTrack);
 
-            checkAndApplyStockPriceChange(stockBuyTrack, game, stockPriceLevel);
+                if (!hasStockPriceIncreased) {
+                    checkAndApplyStockPriceIncrease(stockBuyTrack, marketStocks);
+                }
 
-            gameRepository.saveArena(roomId, arena);
+                update.andPlayer(playerNickname).and(ArenaSection.MARKET);
+                if (checkAndApplyStockPriceChange(stockBuyTrack, game, stockPriceLevel)) {
+                    update.and(ArenaSection.GAME);
+                }
+                return TradeResult.of(game, player);
+            });
+        } finally {
+            sample.stop(meterRegistry.timer(ACTION_METRIC, "action", "buyStock"));
         }
     }
 
@@ -1090,7 +1146,7 @@ public class GameServiceImpl implements GameService {
         return false;
     }
 
-    private void checkAndApplyStockPriceChange(int[] stockBuyTrack, Game game, int stockPriceLevel) throws BaseException {
+    private boolean checkAndApplyStockPriceChange(int[] stockBuyTrack, Game game, int stockPriceLevel) throws BaseException {
         int totalStockInTrack = 0;
         for (int count : stockBuyTrack) {
             totalStockInTrack += count;
@@ -1098,7 +1154,9 @@ public class GameServiceImpl implements GameService {
 
         if (totalStockInTrack == 5) {
             changeStockPrice(game);
+            return true;
         }
+        return false;
     }
 
     private void checkAndApplyStockPriceIncrease(int[] stockBuyTrack, StockInfo[] marketStocks) throws BaseException {
@@ -1122,6 +1180,33 @@ public class GameServiceImpl implements GameService {
         }
     }
 
+    /**
+     * 거래 스크립트 실행 후 실패 상태를 java 방식과 같은 예외로 변환
+     *
+     * @throws BaseException    BaseResponseStatus에 해당하는 실패, 플레이어 목록이 계속 바뀌는 경우 ARENA_UPDATE_CONFLICT
+     * @throws MessageException MessageResponseStatus에 해당하는 실패
+     */
+    private TradeResult executeTradeScript(String roomId, String sender, TradeType type, Object amount) throws BaseException, MessageException {
+        TradeResult result = tradeScriptRepository.execute(roomId, type, sender, amount);
+        if (result.isSuccess()) {
+            return result;
+        }
+        if (TRADE_MESSAGE_STATUSES.contains(result.status())) {
+            throw new MessageException(roomId, sender, MessageResponseStatus.valueOf(result.status()));
+        }
+        if (TradeResult.STALE_PLAYERS.equals(result.status())) {
+            throw new BaseException(ARENA_UPDATE_CONFLICT);
+        }
+        throw new BaseException(BaseResponseStatus.valueOf(result.status()));
+    }
+
+    // 거래 스크립트로 넘기기 전 주식 종류별 개수 배열의 형식 검사
+    private void validateStockRequest(int[] stocks) throws BaseException {
+        if (stocks == null || stocks.length != 6) {
+            throw new BaseException(REQUEST_ERROR);
+        }
+    }
+
     private Player findPlayer(Arena arena, String nickname) throws BaseException {
         return arena.getGame().getPlayers().stream()
                 .filter(p -> p.getNickname().equals(nickname))
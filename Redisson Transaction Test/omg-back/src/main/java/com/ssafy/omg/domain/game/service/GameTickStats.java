@@ -0,0 +1,55 @@
+package com.ssafy.omg.domain.game.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임별 틱 실행 통계 (이 노드에서 실행한 틱 기준)
+ * - late       : 예정 시각보다 틱 예산 이상 늦게 시작한 틱
+ * - skipped    : 락을 얻지 못했거나 지연으로 건너뛴 틱
+ * - overBudget : 실행 시간이 틱 예산을 넘은 틱
+ * - redisOps   : 실행한 틱이 저장소에 보낸 명령 수 (락, Arena 조회/저장), 일괄 모드에서는 게임 묶음 단위로 메트릭에만 기록
+ */
+public class GameTickStats {
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong late = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong overBudget = new AtomicLong();
+    private final AtomicLong redisOps = new AtomicLong();
+    private volatile long lastLagMillis;
+    private volatile long lastDurationMillis;
+    private volatile int lastRedisOps;
+
+    public record Snapshot(long ticks, long late, long skipped, long overBudget, long lastLagMillis, long lastDurationMillis,
+                           long redisOps, int lastRedisOps) {
+    }
+
+    void recordStart(long lagMillis, boolean isLate) {
+        lastLagMillis = lagMillis;
+        if (isLate) {
+            late.incrementAndGet();
+        }
+    }
+
+    void recordExecution(long durationMillis, boolean isOverBudget) {
+        ticks.incrementAndGet();
+        lastDurationMillis = durationMillis;
+        if (isOverBudget) {
+            overBudget.incrementAndGet();
+        }
+    }
+
+    void recordRedisOps(int count) {
+        lastRedisOps = count;
+        redisOps.addAndGet(count);
+    }
+
+    void recordSkipped(long count) {
+        skipped.addAndGet(count);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(ticks.get(), late.get(), skipped.get(), overBudget.get(), lastLagMillis, lastDurationMillis,
+                redisOps.get(), lastRedisOps);
+    }
+}
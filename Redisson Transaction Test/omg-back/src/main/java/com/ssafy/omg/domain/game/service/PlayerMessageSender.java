@@ -0,0 +1,35 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.StompPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 플레이어 개인 메세지(자산, 대출, 보유 주식 등 IndividualMessageDto) 전송
+ * 방 토픽(/sub/{roomId}/game)에는 공개 상태만 보내고, 개인 메세지는 해당 플레이어 세션의 /user/queue/game으로만 보낸다.
+ * 세션은 STOMP CONNECT 때 플레이어 토큰으로 플레이어와 묶인다. (StompPrincipalInterceptor)
+ * 묶인 세션이 없으면(토큰 없이 연결, 재연결 중) 메세지는 전달되지 않고 버려지며, 방 토픽으로 대신 보내지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerMessageSender {
+
+    // 클라이언트 구독 경로는 /user/queue/game
+    public static final String PLAYER_QUEUE = "/queue/game";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    // false면 이전처럼 방 토픽으로 전송 (플레이어 토큰을 보내지 않는 이전 클라이언트 호환용, 방의 모든 플레이어가 개인 메세지를 받게 됨)
+    @Value("${omg.game.private-destination.enabled:true}")
+    private boolean privateDestination;
+
+    public void sendToPlayer(String roomId, String nickname, Object payload) {
+        if (privateDestination) {
+            messagingTemplate.convertAndSendToUser(StompPrincipal.nameOf(roomId, nickname), PLAYER_QUEUE, payload);
+        } else {
+            messagingTemplate.convertAndSend("/sub/" + roomId + "/game", payload);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.domain.game.dto.PlayerStateDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방 하나의 PLAYER_STATE 기준 상태 (마지막으로 전송한 플레이어별 상태)
+ * 키프레임은 모든 플레이어 상태를 보내고 기준 상태를 새로 잡는다.
+ * 델타 프레임은 기준 상태에서 epsilon보다 많이 움직였거나 액션을 한 플레이어만 보내고, 보낸 플레이어의 기준 상태만 갱신한다.
+ * 마지막 프레임 이후 이동 시퀀스가 그대로면 프레임을 만들지 않고, 하트비트 간격이 지나면 키프레임을 보낸다.
+ * 브로드캐스트 샤드 스레드 하나에서만 사용하며, requestKeyframe만 다른 스레드(구독 이벤트)에서 호출한다.
+ */
+public class PlayerStateBaseline {
+
+    private final Map<String, PlayerStateDto> sent = new HashMap<>();
+    private int framesSinceKeyframe;
+    // 처음 프레임은 항상 키프레임
+    private volatile boolean keyframeRequested = true;
+    // 마지막 프레임을 만들 때의 이동 시퀀스와 시각
+    private long emittedSequence = -1;
+    private long emittedAt;
+    // 마지막으로 실제로 움직인 플레이어가 있던 시각과 모든 플레이어가 거래소 화면에 있는지 여부 (프레임 간격 결정용)
+    private long lastMovedAt;
+    private boolean exchanging;
+
+    // 다음 프레임을 키프레임으로 전송 (새 구독자 등)
+    public void requestKeyframe() {
+        keyframeRequested = true;
+    }
+
+    /**
+     * @param sequence        방의 현재 이동 시퀀스
+     * @param now             현재 시각(ms)
+     * @param heartbeatMillis 이동이 없어도 키프레임을 보내는 간격(ms), 0 이하면 매 프레임 전송
+     * @param minIntervalMillis 방의 프레임 간격(ms), 키프레임 요청이 없으면 이 간격 안에는 다시 만들지 않는다.
+     * @return 이번 프레임을 만들어야 하는지 여부 (Arena 조회 여부)
+     */
+    public boolean shouldEmit(long sequence, long now, long heartbeatMillis, long minIntervalMillis) {
+        if (keyframeRequested) {
+            return true;
+        }
+        if (now - emittedAt < minIntervalMillis) {
+            return false;
+        }
+        if (heartbeatMillis <= 0 || sequence != emittedSequence) {
+            return true;
+        }
+        if (now - emittedAt >= heartbeatMillis) {
+            keyframeRequested = true;
+            return true;
+        }
+        return false;
+    }
+
+    // 프레임을 만든 뒤 호출, 읽기 전에 가져온 시퀀스를 기록해 읽는 도중의 이동은 다음 프레임에서 반영된다.
+    public void emitted(long sequence, long now) {
+        emittedSequence = sequence;
+        emittedAt = now;
+    }
+
+    public long getLastMovedAt() {
+        return lastMovedAt;
+    }
+
+    public boolean isExchanging() {
+        return exchanging;
+    }
+
+    public void setExchanging(boolean exchanging) {
+        this.exchanging = exchanging;
+    }
+
+    /**
+     * @param states           현재 플레이어 상태
+     * @param keyframeInterval 키프레임 사이의 최대 프레임 수
+     * @return 이번 프레임을 키프레임으로 보내야 하는지 여부 (요청이 있거나, 주기가 되었거나, 플레이어 구성이 바뀐 경우)
+     */
+    public boolean needsKeyframe(List<PlayerStateDto> states, int keyframeInterval) {
+        if (keyframeRequested || framesSinceKeyframe + 1 >= keyframeInterval || states.size() != sent.size()) {
+            return true;
+        }
+        for (PlayerStateDto state : states) {
+            if (!sent.containsKey(state.nickname())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 키프레임 전송 후 기준 상태를 다시 잡는다.
+    public void keyframe(List<PlayerStateDto> states) {
+        keyframeRequested = false;
+        framesSinceKeyframe = 0;
+        sent.clear();
+        for (PlayerStateDto state : states) {
+            sent.put(state.nickname(), state);
+        }
+    }
+
+    /**
+     * 델타 프레임으로 보낼 플레이어 상태를 고르고 기준 상태를 갱신한다.
+     * 바뀐 플레이어가 있으면 방이 움직인 것으로 기록한다.
+     *
+     * @param now 현재 시각(ms)
+     * @return 기준 상태에서 바뀐 플레이어 상태 (없으면 빈 목록, 이 프레임은 보내지 않아도 된다.)
+     */
+    public List<PlayerStateDto> delta(List<PlayerStateDto> states, double epsilon, long now) {
+        framesSinceKeyframe++;
+        List<PlayerStateDto> changed = new ArrayList<>();
+        for (PlayerStateDto state : states) {
+            PlayerStateDto previous = sent.get(state.nickname());
+            if (previous == null || state.actionToggle()
+                    || moved(previous.position(), state.position(), epsilon)
+                    || moved(previous.direction(), state.direction(), epsilon)) {
+                changed.add(state);
+                sent.put(state.nickname(), state);
+            }
+        }
+        if (!changed.isEmpty()) {
+            lastMovedAt = now;
+        }
+        return changed;
+    }
+
+    private static boolean moved(double[] previous, double[] current, double epsilon) {
+        if (previous == null || current == null) {
+            return previous != current;
+        }
+        if (previous.length != current.length) {
+            return true;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (Math.abs(current[i] - previous[i]) > epsilon) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.omg.domain.game.service;
+
+/**
+ * 한 작업(게임 틱 등)이 저장소에 보낸 명령 수 (저장소 호출 단위로 센다)
+ * - lock  : 게임 락 획득/해제
+ * - read  : Arena 조회
+ * - write : Arena 저장, 진행중인 게임 인덱스 변경
+ * 한 작업 안에서만 사용하므로 스레드 안전하지 않다.
+ */
+public class RedisOpCounter {
+
+    private int locks;
+    private int reads;
+    private int writes;
+
+    public void lock() {
+        locks++;
+    }
+
+    public void read() {
+        reads++;
+    }
+
+    public void write() {
+        writes++;
+    }
+
+    public int getLocks() {
+        return locks;
+    }
+
+    public int getReads() {
+        return reads;
+    }
+
+    public int getWrites() {
+        return writes;
+    }
+
+    public int total() {
+        return locks + reads + writes;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.RedisKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 플레이어 이동을 방을 브로드캐스트하는 노드의 RoomMovementTracker에 반영
+ * 방의 브로드캐스트는 게임을 시작한 노드 한 곳에서만 하지만, 플레이어 세션은 여러 노드에 나뉠 수 있다. (fanout 또는 relay 브로커 모드)
+ * 이 노드에서 브로드캐스트 중인 방이면 바로 시퀀스를 올리고, 아니면 Redis pub/sub으로 방 코드를 발행해
+ * 브로드캐스트 중인 노드가 시퀀스를 올리도록 한다. (그 방을 추적하지 않는 노드는 받은 이동을 무시)
+ * 꺼져 있으면 이 노드의 이동만 반영되므로, 한 방의 플레이어가 모두 같은 노드에 연결되어야 한다.
+ */
+@Slf4j
+@Component
+public class RoomMovementRelay {
+
+    private static final String RELAY_METRIC = "omg.broadcast.movement.relay";
+
+    private final RoomMovementTracker roomMovementTracker;
+    private final RTopic topic;
+    private final String nodeId;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private int listenerId = -1;
+
+    /**
+     * 다른 노드로 보내는 이동 알림
+     */
+    record Movement(String nodeId, String roomId) {
+    }
+
+    public RoomMovementRelay(RoomMovementTracker roomMovementTracker, RedissonClient redissonClient,
+                             GameNodeRegistry nodeRegistry, MeterRegistry meterRegistry,
+                             @Value("${omg.websocket.movement-relay.enabled:${omg.websocket.fanout.enabled:false}}") boolean enabled) {
+        this.roomMovementTracker = roomMovementTracker;
+        this.topic = redissonClient.getTopic(RedisKeys.roomMovementChannel(), ByteArrayCodec.INSTANCE);
+        this.nodeId = nodeRegistry.getNodeId();
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            listenerId = topic.addListener(byte[].class, (channel, movement) -> receive(movement));
+            log.info("플레이어 이동 노드 간 전달 시작. 노드: {}", nodeId);
+        }
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (listenerId != -1) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    // 이동 반영 후 호출 (발행에 실패해도 이동은 하트비트 프레임으로 반영됨)
+    public void markMoved(String roomId) {
+        if (roomMovementTracker.isTracked(roomId) || !enabled) {
+            roomMovementTracker.markMoved(roomId);
+            return;
+        }
+        try {
+            topic.publish(encode(new Movement(nodeId, roomId)));
+            meterRegistry.counter(RELAY_METRIC, "direction", "published").increment();
+        } catch (RuntimeException e) {
+            log.warn("플레이어 이동 발행 실패. roomId: {}", roomId, e);
+        }
+    }
+
+    // 다른 노드에서 처리된 이동을 이 노드의 시퀀스에 반영
+    void receive(byte[] bytes) {
+        Movement movement = decode(bytes);
+        if (nodeId.equals(movement.nodeId()) || !roomMovementTracker.isTracked(movement.roomId())) {
+            return;
+        }
+        roomMovementTracker.markMoved(movement.roomId());
+        meterRegistry.counter(RELAY_METRIC, "direction", "received").increment();
+    }
+
+    static byte[] encode(Movement movement) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(movement.nodeId());
+            out.writeUTF(movement.roomId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Movement decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return new Movement(in.readUTF(), in.readUTF());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.omg.domain.game.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방별 플레이어 이동 시퀀스
+ * movePlayer가 반영될 때마다 시퀀스를 올리고, 브로드캐스트 샤드는 시퀀스가 올라간 방만 Arena를 읽어 프레임을 보낸다.
+ * 이 노드에서 브로드캐스트 중인 방만 추적하며(등록하지 않은 방의 이동은 무시), 다른 노드에서 처리된 이동은 RoomMovementRelay가 전달한다.
+ */
+@Component
+public class RoomMovementTracker {
+
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    public void register(String roomId) {
+        sequences.putIfAbsent(roomId, new AtomicLong());
+    }
+
+    public void forget(String roomId) {
+        sequences.remove(roomId);
+    }
+
+    // 이동 반영 후 호출, 방이 dirty 상태가 된다.
+    public void markMoved(String roomId) {
+        AtomicLong sequence = sequences.get(roomId);
+        if (sequence != null) {
+            sequence.incrementAndGet();
+        }
+    }
+
+    // 이 노드에서 브로드캐스트 중인 방인지
+    public boolean isTracked(String roomId) {
+        return sequences.containsKey(roomId);
+    }
+
+    // 방의 현재 이동 시퀀스 (추적하지 않는 방이면 0)
+    public long sequence(String roomId) {
+        AtomicLong sequence = sequences.get(roomId);
+        return sequence == null ? 0 : sequence.get();
+    }
+}
@@ -0,0 +1,179 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.RoundStatus;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라운드 진행 표
+ * 라운드 상태마다 진행 시간(RoundStatus.getDuration), 끝나면 넘어갈 상태, 남은 시간(초)별 동작을 선언해두고
+ * 상태별로 "남은 시간 -> 실행할 동작"과 "다음으로 동작이 있는 초"를 배열로 미리 계산한다.
+ * 스케줄러는 틱마다 상태별 분기를 평가하지 않고 배열을 조회하며, 동작이 없는 초는 건너뛰고 다음 동작이 있는 초에만 틱한다.
+ * 남은 시간 0초는 항상 동작이 있는 초로 보고, 0초의 동작을 실행한 뒤 다음 상태로 넘어간다.
+ * 남은 시간이 진행 시간과 같은 초(진입 시점)의 동작은 이전 상태에서 넘어오는 순간 실행한다.
+ * 진행 표 밖에서 바뀐 라운드 상태(거래로 인한 주가 변동)는 다음으로 동작이 있는 초에 틱할 때 반영된다.
+ */
+public final class RoundTimeline {
+
+    /**
+     * 라운드 상태의 남은 시간이 정해진 초가 되었을 때 실행하는 동작
+     */
+    @FunctionalInterface
+    public interface RoundAction {
+        /**
+         * @param game   게임 정보 (game.getTime()은 동작을 실행하는 남은 시간)
+         * @param outbox 저장 후 전송할 메세지
+         * @param latest 밀린 초를 따라잡는 중이 아닌 가장 최근 초인지 여부
+         * @return 게임 정보를 바꿨는지 여부 (상태 전환은 스케줄러가 따로 확인)
+         * @throws BaseException
+         */
+        boolean run(Game game, GameMessageOutbox outbox, boolean latest) throws BaseException;
+    }
+
+    /**
+     * 라운드 상태 하나의 진행 표
+     */
+    public static final class Phase {
+        private static final RoundAction[] NO_ACTIONS = {};
+
+        private final RoundStatus status;
+        private final RoundStatus next;
+        private final int duration;
+        // 남은 시간별 동작 (진입 시점인 duration초 포함)
+        private final RoundAction[][] actionsAt;
+        // 남은 시간이 s초일 때 다음으로 동작이 있는 초 (s보다 작은 초 중 가장 큰 초)
+        private final int[] nextActionSecond;
+
+        private Phase(RoundStatus status, RoundStatus next, Map<Integer, List<RoundAction>> actions) {
+            this.status = status;
+            this.next = next;
+            this.duration = status.getDuration();
+            this.actionsAt = new RoundAction[duration + 1][];
+            this.nextActionSecond = new int[duration + 1];
+            for (int second = 0; second <= duration; second++) {
+                List<RoundAction> secondActions = actions.get(second);
+                actionsAt[second] = secondActions == null ? NO_ACTIONS : secondActions.toArray(NO_ACTIONS);
+            }
+            for (int second = 1; second <= duration; second++) {
+                int previous = second - 1;
+                nextActionSecond[second] = previous == 0 || actionsAt[previous].length > 0 ? previous : nextActionSecond[previous];
+            }
+        }
+
+        public RoundStatus getStatus() {
+            return status;
+        }
+
+        public RoundStatus getNext() {
+            return next;
+        }
+
+        public int getDuration() {
+            return duration;
+        }
+
+        // 남은 시간이 second초일 때 실행할 동작 (duration초는 진입 시점)
+        public RoundAction[] actionsAt(int second) {
+            return second >= 0 && second <= duration ? actionsAt[second] : NO_ACTIONS;
+        }
+
+        /**
+         * @param time 마지막으로 처리한 남은 시간
+         * @return 다음으로 동작이 있는 초, 더 처리할 초가 없으면 -1
+         */
+        public int nextActionSecond(int time) {
+            if (time <= 0) {
+                return -1;
+            }
+            return nextActionSecond[Math.min(time, duration)];
+        }
+    }
+
+    /**
+     * 라운드 상태 하나의 진행 표 선언
+     */
+    public static final class PhaseBuilder {
+        private final Builder builder;
+        private final RoundStatus status;
+        private final Map<Integer, List<RoundAction>> actions = new HashMap<>();
+        private RoundStatus next;
+
+        private PhaseBuilder(Builder builder, RoundStatus status) {
+            this.builder = builder;
+            this.status = status;
+        }
+
+        // 남은 시간이 seconds초일 때 실행할 동작 (같은 초의 동작은 선언한 순서대로 실행, 진행 시간과 같은 초는 진입 시점)
+        public PhaseBuilder at(RoundAction action, int... seconds) {
+            for (int second : seconds) {
+                if (second < 0 || second > status.getDuration()) {
+                    throw new IllegalArgumentException(status + "의 동작 시점은 0 이상 " + status.getDuration() + " 이하여야 합니다: " + second);
+                }
+                actions.computeIfAbsent(second, key -> new ArrayList<>()).add(action);
+            }
+            return this;
+        }
+
+        // 남은 시간이 줄어드는 매 초(0초 포함) 실행할 동작
+        public PhaseBuilder everySecond(RoundAction action) {
+            for (int second = status.getDuration() - 1; second >= 0; second--) {
+                at(action, second);
+            }
+            return this;
+        }
+
+        // 진행 시간이 끝나면 넘어갈 상태
+        public Builder then(RoundStatus next) {
+            this.next = next;
+            return builder;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<RoundStatus, PhaseBuilder> phases = new EnumMap<>(RoundStatus.class);
+
+        private Builder() {
+        }
+
+        public PhaseBuilder phase(RoundStatus status) {
+            if (status.getDuration() <= 0) {
+                throw new IllegalArgumentException(status + "는 진행 시간이 없어 진행 표에 넣을 수 없습니다.");
+            }
+            PhaseBuilder phase = new PhaseBuilder(this, status);
+            phases.put(status, phase);
+            return phase;
+        }
+
+        public RoundTimeline build() {
+            Map<RoundStatus, Phase> built = new EnumMap<>(RoundStatus.class);
+            phases.forEach((status, phase) -> {
+                if (phase.next == null) {
+                    throw new IllegalStateException(status + "의 다음 상태가 없습니다.");
+                }
+                built.put(status, new Phase(status, phase.next, phase.actions));
+            });
+            return new RoundTimeline(built);
+        }
+    }
+
+    private final Map<RoundStatus, Phase> phases;
+
+    private RoundTimeline(Map<RoundStatus, Phase> phases) {
+        this.phases = phases;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // 라운드 상태의 진행 표, 진행 표에 없는 상태(주가 변동 등)면 null
+    public Phase phase(RoundStatus status) {
+        return phases.get(status);
+    }
+}
@@ -1,10 +1,12 @@
 package com.ssafy.omg.domain.room.controller;
 
+import com.ssafy.omg.config.PlayerTokenProvider;
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.config.baseresponse.BaseResponse;
 import com.ssafy.omg.domain.room.dto.CommonRoomRequest;
 import com.ssafy.omg.domain.room.dto.CommonRoomResponse;
 import com.ssafy.omg.domain.room.service.RoomService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.reactor.ReactorProperties;
@@ -25,6 +27,7 @@ public class RoomController {
     private final RoomService roomService;
     private final SimpMessageSendingOperations messagingTemplate;
     private final ReactorProperties reactorProperties;
+    private final PlayerTokenProvider playerTokenProvider;
 
     // TODO
     // User 정보 AccessToken에서 HttpServletRequest로부터 getAttribute해서 userNickname 가져올 것.
@@ -32,28 +35,34 @@ public class RoomController {
 
     /**
      * 대기방 생성
+     * 방장의 STOMP 연결에 쓸 플레이어 토큰은 X-Player-Token 응답 헤더로 내려준다.
      *
      * @param userNickname
      * @return response
      * @throws BaseException
      */
     @PostMapping("/create")
-    public BaseResponse<String> createRoom(@RequestParam String userNickname) throws BaseException {
+    public BaseResponse<String> createRoom(@RequestParam String userNickname, HttpServletResponse httpResponse) throws BaseException {
         String roomId = roomService.createRoom(userNickname);
+        httpResponse.setHeader(PlayerTokenProvider.TOKEN_HEADER, playerTokenProvider.issue(roomId, userNickname));
         log.info("Room created: {}, User: {}", roomId, userNickname);
         return new BaseResponse<>(roomId);
     }
 
     /**
      * 대기방 입장
+     * 입장에 성공하면 STOMP 연결에 쓸 플레이어 토큰을 X-Player-Token 응답 헤더로 내려준다.
      *
      * @param request
      * @return response
      * @throws BaseException
      */
     @PostMapping("/enter")
-    public BaseResponse<CommonRoomResponse> enterRoom(@RequestBody CommonRoomRequest request) throws BaseException {
+    public BaseResponse<CommonRoomResponse> enterRoom(@RequestBody CommonRoomRequest request, HttpServletResponse httpResponse) throws BaseException {
         CommonRoomResponse response = roomService.enterRoom(request);
+        if ("ENTER_SUCCESS".equals(response.getMessage())) {
+            httpResponse.setHeader(PlayerTokenProvider.TOKEN_HEADER, playerTokenProvider.issue(request.getRoomId(), request.getSender()));
+        }
         log.info("User {} entered room {}", request.getSender(), request.getRoomId());
         return new BaseResponse<>(response);
     }
@@ -2,16 +2,17 @@ package com.ssafy.omg.domain.room.service;
 
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import com.ssafy.omg.domain.game.repository.ArenaSection;
+import com.ssafy.omg.domain.game.repository.ArenaUpdate;
 import com.ssafy.omg.domain.room.dto.CommonRoomRequest;
 import com.ssafy.omg.domain.room.dto.CommonRoomResponse;
 import com.ssafy.omg.domain.room.entity.InRoomPlayer;
 import com.ssafy.omg.domain.room.entity.Room;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
-import java.util.concurrent.TimeUnit;
 
 import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.*;
 
@@ -19,9 +20,7 @@ import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.*;
 @RequiredArgsConstructor
 public class RoomServiceImpl implements RoomService {
 
-    private final RedisTemplate<String, Arena> redisTemplate;
-    // Redis에서 대기방 식별을 위한 접두사 ROOM_PREFIX 설정
-    private static final String ROOM_PREFIX = "room";
+    private final GameRepository gameRepository;
     private static final String ALPHA_NUMERIC_STRING = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final int ROOMID_LENGTH = 10;
     private static final int MAX_PLAYERS = 4;
@@ -44,7 +43,7 @@ public class RoomServiceImpl implements RoomService {
         String roomId = stringBuilder.toString();
 
         // 대기방 Id 중복검사
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(ROOM_PREFIX + roomId))) {
+        if (gameRepository.existsArena(roomId)) {
             return createRoomId();
         }
 
@@ -61,7 +60,6 @@ public class RoomServiceImpl implements RoomService {
     public String createRoom(String userNickname) throws BaseException {
         try {
             String roomId = createRoomId();
-            String roomKey = ROOM_PREFIX + roomId;
             System.out.println("방 아이디 : " + roomId);
 
             Room room = new Room(roomId, userNickname);
@@ -72,8 +70,8 @@ public class RoomServiceImpl implements RoomService {
                     .room(room)
                     .build();
 
-            // Redis에 대기방 정보 저장
-            redisTemplate.opsForValue().set(roomKey, arena, 1, TimeUnit.HOURS);
+            // 대기방 정보 저장
+            saveRoom(roomId, arena);
 
             return roomId;
         } catch (Exception e) {
@@ -91,11 +89,10 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public boolean isRoomExists(String roomId) throws BaseException {
-        String roomKey = ROOM_PREFIX + roomId;
         System.out.println("찾을 방 아이디 : " + roomId);
 
         // 대기방 존재 여부 반환
-        Arena arena = redisTemplate.opsForValue().get(roomKey);
+        Arena arena = gameRepository.findArenaByRoomId(roomId).orElse(null);
         return arena != null && arena.getRoom() != null;
     }
 
@@ -109,7 +106,6 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public CommonRoomResponse enterRoom(CommonRoomRequest request) throws BaseException {
-        String roomKey = ROOM_PREFIX + request.getRoomId();
         String roomId = request.getRoomId();
         String sender = request.getSender();
         String message = request.getMessage();
@@ -118,7 +114,7 @@ public class RoomServiceImpl implements RoomService {
         validateRequest(roomId, sender);
 
         // 대기방 존재하지 않을 경우 예외처리
-        Arena arena = redisTemplate.opsForValue().get(roomKey);
+        Arena arena = gameRepository.findArenaByRoomId(roomId).orElse(null);
         if (arena == null || arena.getRoom() == null) {
             return new CommonRoomResponse(roomId, "GAME_MANAGER", "게임 대기방이 존재하지 않습니다.", null, null);
         }
@@ -135,7 +131,7 @@ public class RoomServiceImpl implements RoomService {
             addPlayer(room, sender);
             arena.setRoom(room);
             arena.setMessage("ENTER_SUCCESS");
-            redisTemplate.opsForValue().set(roomKey, arena, 1, TimeUnit.HOURS);
+            saveRoom(roomId, arena);
         } else {
             throw new BaseException(ALREADY_ENTERED_ERROR);
         }
@@ -152,14 +148,13 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public CommonRoomResponse leaveRoom(CommonRoomRequest request) throws BaseException {
-        String roomKey = ROOM_PREFIX + request.getRoomId();
         String roomId = request.getRoomId();
         String sender = request.getSender();
 
         // 입력값 오류
         validateRequest(roomId, sender);
 
-        Arena arena = getArena(roomKey);
+        Arena arena = getArena(roomId);
 
         Room room = arena.getRoom();
         // 대기방 존재하지 않을 경우 예외처리
@@ -175,7 +170,7 @@ public class RoomServiceImpl implements RoomService {
         removePlayer(room, sender);
 
         if (getPlayerCount(room) == 0) {
-            redisTemplate.delete(roomKey);
+            gameRepository.deleteArena(roomId);
             return new CommonRoomResponse(roomId, sender, "ROOM_DELETED", null, null);
         } else if (sender.equals(room.getHostNickname())) {
             String newHost = room.getInRoomPlayers().get(0).getNickname();
@@ -184,7 +179,7 @@ public class RoomServiceImpl implements RoomService {
 
         arena.setRoom(room);
         arena.setMessage("LEAVE_ROOM");
-        redisTemplate.opsForValue().set(roomKey, arena, 1, TimeUnit.HOURS);
+        saveRoom(roomId, arena);
         return new CommonRoomResponse(roomId, sender, "LEAVE_ROOM", null, room);
     }
 
@@ -197,9 +192,8 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public boolean isStartButtonActive(CommonRoomRequest request) throws BaseException {
-        String roomKey = ROOM_PREFIX + request.getRoomId();
         String sender = request.getSender();
-        Arena arena = getArena(roomKey);
+        Arena arena = getArena(request.getRoomId());
 
         Room room = arena.getRoom();
         boolean isHost = room.getHostNickname().equals(sender);
@@ -232,10 +226,9 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public CommonRoomResponse handleRenderedComplete(CommonRoomRequest request) throws BaseException {
-        String roomKey = ROOM_PREFIX + request.getRoomId();
         String roomId = request.getRoomId();
         String sender = request.getSender();
-        Arena arena = getArena(roomKey);
+        Arena arena = getArena(roomId);
 
         Room room = arena.getRoom();
 
@@ -244,15 +237,14 @@ public class RoomServiceImpl implements RoomService {
 
         arena.setRoom(room);
         arena.setMessage(sender + " RENDERED_COMPLETE");
-        redisTemplate.opsForValue().set(roomKey, arena, 1, TimeUnit.HOURS);
+        saveRoom(roomId, arena);
 
         return new CommonRoomResponse(roomId, sender, "RENDERED_COMPLETE", null, room);
     }
 
     @Override
     public boolean isAllRenderedCompleted(String roomId) throws BaseException {
-        String roomKey = ROOM_PREFIX + roomId;
-        Arena arena = getArena(roomKey);
+        Arena arena = getArena(roomId);
         Room room = arena.getRoom();
         return isAllRendered(room);
     }
@@ -266,13 +258,12 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public CommonRoomResponse checkAllRenderedCompleted(String roomId) throws BaseException {
-        String roomKey = ROOM_PREFIX + roomId;
-        Arena arena = getArena(roomKey);
+        Arena arena = getArena(roomId);
 
         Room room = arena.getRoom();
         if (isAllRendered(room)) {
             arena.setMessage("RENDER_COMPLETE_ACCEPTED");
-            redisTemplate.opsForValue().set(roomKey, arena, 1, TimeUnit.HOURS);
+            saveRoom(roomId, arena);
             return new CommonRoomResponse(roomId, "GAME_MANAGER", "RENDER_COMPLETE_ACCEPTED", null, room);
         } else {
             throw new BaseException(RENDER_NOT_COMPLETED);
@@ -288,11 +279,7 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public Room getRoom(String roomId) throws BaseException {
-        String roomKey = ROOM_PREFIX + roomId;
-        Arena arena = redisTemplate.opsForValue().get(roomKey);
-        if (arena == null || arena.getRoom() == null) {
-            throw new BaseException(ROOM_NOT_FOUND);
-        }
+        Arena arena = getArena(roomId);
         Room room = arena.getRoom();
         return room;
     }
@@ -305,10 +292,11 @@ public class RoomServiceImpl implements RoomService {
      */
     @Override
     public void updateRoom(Room room) throws BaseException {
-        String roomKey = ROOM_PREFIX + room.getRoomId();
-        Arena arena = redisTemplate.opsForValue().get(roomKey);
+        String roomId = room.getRoomId();
+        Arena arena = gameRepository.findArenaByRoomId(roomId)
+                .orElseThrow(() -> new BaseException(ROOM_NOT_FOUND));
         arena.setRoom(room);
-        redisTemplate.opsForValue().set(roomKey, arena, 1, TimeUnit.HOURS);
+        saveRoom(roomId, arena);
     }
 
     /**
@@ -402,18 +390,28 @@ public class RoomServiceImpl implements RoomService {
     }
 
     /**
-     * Redis에서 arena를 가져오기
+     * 저장소에서 arena를 가져오기
      *
-     * @param roomKey Redis에서 사용하는 방의 키
+     * @param roomId 방 코드
      * @return 방의 arena
      * @throws BaseException 방을 찾을 수 없을 경우 발생
      */
-    private Arena getArena(String roomKey) throws BaseException {
-        Arena arena = redisTemplate.opsForValue().get(roomKey);
+    private Arena getArena(String roomId) throws BaseException {
+        Arena arena = gameRepository.findArenaByRoomId(roomId).orElse(null);
         if (arena == null || arena.getRoom() == null) {
             throw new BaseException(ROOM_NOT_FOUND);
         }
         return arena;
     }
 
+    /**
+     * 대기방 정보(Arena의 roomId, message, room)만 변경된 Arena 저장
+     *
+     * @param roomId 방 코드
+     * @param arena  저장할 arena
+     */
+    private void saveRoom(String roomId, Arena arena) {
+        gameRepository.saveArena(roomId, arena, ArenaUpdate.of(ArenaSection.ROOM));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.ssafy.omg.domain.socket;
+
+import com.ssafy.omg.config.RedisKeys;
+import com.ssafy.omg.domain.game.service.GameNodeRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.regex.Pattern;
+
+/**
+ * Redis pub/sub으로 STOMP 메세지를 다른 노드의 구독자에게 전달 (브로커 릴레이 없이 내장 브로커를 여러 노드에서 쓰는 경우)
+ * 브로커 채널로 들어오는 방 토픽(/sub/{roomId}/game|room|chat)과 개인 목적지(/user/...) 메세지를 노드 ID와 함께 Redis 채널에 한 번 발행하고,
+ * 각 노드는 받은 메세지를 자기 브로커에 넣어 이 노드에 연결된 구독자에게만 전달한다.
+ * 자기 노드에서 발행한 메세지는 이미 로컬 구독자에게 전달되었으므로 다시 넣지 않는다.
+ * 개인 목적지는 받은 노드마다 자기 세션으로 해석하므로 해당 플레이어의 세션이 있는 노드에서만 전달된다.
+ * 컨트롤러 코드는 그대로 convertAndSend를 쓴다.
+ */
+@Slf4j
+@Component
+public class RedisStompFanout implements ChannelInterceptor {
+
+    // 다른 노드에서 받아 이 노드 브로커로 넣은 메세지 표시 (다시 발행하지 않음)
+    static final String RELAYED_HEADER = "omgFanoutRelayed";
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/sub/[^/]+/(game|room|chat)$");
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String FANOUT_METRIC = "omg.websocket.fanout";
+
+    private final RTopic topic;
+    private final String nodeId;
+    private final ObjectProvider<SimpMessageSendingOperations> messagingTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private int listenerId = -1;
+
+    /**
+     * 다른 노드로 보내는 메세지
+     *
+     * @param contentType 본문 형식 (없으면 빈 문자열)
+     */
+    record Envelope(String nodeId, String destination, String contentType, byte[] payload) {
+    }
+
+    public RedisStompFanout(RedissonClient redissonClient, GameNodeRegistry nodeRegistry,
+                            ObjectProvider<SimpMessageSendingOperations> messagingTemplate, MeterRegistry meterRegistry,
+                            @Value("${omg.websocket.fanout.enabled:false}") boolean enabled) {
+        this.topic = redissonClient.getTopic(RedisKeys.socketFanoutChannel(), ByteArrayCodec.INSTANCE);
+        this.nodeId = nodeRegistry.getNodeId();
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            listenerId = topic.addListener(byte[].class, (channel, envelope) -> relay(envelope));
+            log.info("STOMP 메세지 노드 간 전달 시작. 노드: {}", nodeId);
+        }
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (listenerId != -1) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    // 브로커 채널로 들어가는 메세지 중 다른 노드에도 전달할 메세지를 발행 (발행에 실패해도 로컬 전달은 계속)
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (enabled && shouldPublish(message)) {
+            MessageHeaders headers = message.getHeaders();
+            Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            Envelope envelope = new Envelope(nodeId, SimpMessageHeaderAccessor.getDestination(headers),
+                    contentType == null ? "" : contentType.toString(), (byte[]) message.getPayload());
+            try {
+                topic.publish(encode(envelope));
+                meterRegistry.counter(FANOUT_METRIC, "direction", "published").increment();
+            } catch (RuntimeException e) {
+                log.warn("STOMP 메세지 발행 실패. destination: {}", envelope.destination(), e);
+            }
+        }
+        return message;
+    }
+
+    boolean shouldPublish(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RELAYED_HEADER) || !(message.getPayload() instanceof byte[])) {
+            return false;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        return destination != null
+                && (destination.startsWith(USER_DESTINATION_PREFIX) || ROOM_TOPIC.matcher(destination).matches());
+    }
+
+    // 다른 노드에서 발행한 메세지를 이 노드 브로커로 전달
+    void relay(byte[] bytes) {
+        Envelope envelope = decode(bytes);
+        if (nodeId.equals(envelope.nodeId())) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (!envelope.contentType().isEmpty()) {
+            accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        messagingTemplate.getObject().send(envelope.destination(),
+                MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+        meterRegistry.counter(FANOUT_METRIC, "direction", "relayed").increment();
+    }
+
+    static byte[] encode(Envelope envelope) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(envelope.payload().length + 128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(envelope.nodeId());
+            out.writeUTF(envelope.destination());
+            out.writeUTF(envelope.contentType());
+            out.writeInt(envelope.payload().length);
+            out.write(envelope.payload());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Envelope decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            String nodeId = in.readUTF();
+            String destination = in.readUTF();
+            String contentType = in.readUTF();
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            return new Envelope(nodeId, destination, contentType, payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.omg.domain.socket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 메세지 본문을 한 번만 JSON으로 직렬화
+ * encode()가 만든 메세지는 헤더가 불변이라 SimpMessagingTemplate.send()로 여러 번(여러 목적지로) 보내도 본문 바이트 배열을 그대로 공유하고,
+ * 심플 브로커도 구독 세션마다 같은 바이트 배열을 넘기므로 목적지/구독자 수와 관계없이 직렬화는 한 번만 일어난다.
+ * convertAndSend와 같은 ObjectMapper(JacksonConfig)를 써서 클라이언트가 받는 JSON은 같다.
+ */
+@Component
+public class StompFrameEncoder {
+
+    private final MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+
+    public StompFrameEncoder(ObjectMapper objectMapper) {
+        converter.setObjectMapper(objectMapper);
+    }
+
+    /**
+     * @param payload 보낼 데이터 (StompResponsePayload 등)
+     * @return JSON 바이트 배열을 본문으로 가진 메세지 (content-type: application/json)
+     */
+    public Message<?> encode(Object payload) {
+        Message<?> message = converter.toMessage(payload, null);
+        if (message == null) {
+            throw new IllegalArgumentException("STOMP 메세지로 직렬화할 수 없는 데이터입니다: " + payload.getClass().getName());
+        }
+        return message;
+    }
+}
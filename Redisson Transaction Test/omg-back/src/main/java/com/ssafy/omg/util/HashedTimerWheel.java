@@ -0,0 +1,169 @@
+package com.ssafy.omg.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 타이머 휠
+ * 만료 시각을 tickMillis 단위 슬롯으로 나눠 원형 배열(wheelSize개 슬롯)에 넣어두고,
+ * 전용 스레드가 tickMillis마다 슬롯 하나씩 확인해 만료된 작업을 executor로 넘긴다.
+ * 등록/취소는 O(1)이고 작업 수와 관계없이 틱마다 슬롯 하나만 확인하므로 수천 개의 게임 타이머를 한 스레드로 관리할 수 있다.
+ * 만료 시각은 tickMillis 단위로 올림되므로 작업은 만료 시각 이후 최대 tickMillis 안에 실행된다.
+ */
+@Slf4j
+public class HashedTimerWheel implements AutoCloseable {
+
+    public static final class Timeout {
+        private final long deadline;
+        private final Runnable task;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout>[] wheel;
+    // 다른 스레드에서 등록한 작업, 휠 스레드가 틱마다 슬롯으로 옮긴다.
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final Thread worker;
+    private final long startTime;
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * @param name       휠 스레드 이름
+     * @param tickMillis 슬롯 하나의 시간 간격(ms)
+     * @param wheelSize  슬롯 개수 (2의 거듭제곱으로 올림), tickMillis * wheelSize보다 먼 작업은 휠을 여러 바퀴 돈 뒤 실행
+     * @param executor   만료된 작업을 실행할 executor
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(String name, long tickMillis, int wheelSize, Executor executor) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis와 wheelSize는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.executor = executor;
+        this.startTime = System.currentTimeMillis();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * @param task     실행할 작업
+     * @param deadline 실행 시각 (System.currentTimeMillis 기준, 이미 지났으면 다음 틱에 실행)
+     */
+    public Timeout schedule(Runnable task, long deadline) {
+        Timeout timeout = new Timeout(deadline, task);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            transferPending();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    // tick번째 슬롯이 끝나는 시각까지 대기
+    private boolean waitForNextTick() {
+        long tickEnd = startTime + (tick + 1) * tickMillis;
+        long sleepMillis = tickEnd - System.currentTimeMillis();
+        if (sleepMillis <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(sleepMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 만료 시각이 속한 슬롯, 이미 지난 작업은 지금 확인할 슬롯에 넣는다.
+            long expireTick = Math.max((timeout.deadline - startTime + tickMillis - 1) / tickMillis - 1, tick);
+            timeout.remainingRounds = (expireTick - tick) / wheel.length;
+            wheel[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                execute(timeout);
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    private void execute(Timeout timeout) {
+        try {
+            executor.execute(timeout.task);
+        } catch (RejectedExecutionException e) {
+            log.warn("타이머 작업 실행이 거부되었습니다. deadline: {}", timeout.deadline, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+-- Arena를 하나의 값으로 저장하고 버전을 1 올린다.
+-- KEYS[1] : Arena 값 (room{id})
+-- KEYS[2] : Arena 버전 (room{id}:version)
+-- ARGV[1] : 읽을 때의 버전 (-1이면 확인하지 않고 저장)
+-- ARGV[2] : TTL(초)
+-- ARGV[3] : 직렬화된 Arena
+-- 반환값  : 저장 후 버전, 버전이 다르면 -1
+local expected = tonumber(ARGV[1])
+local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+if expected >= 0 and current ~= expected then
+    return -1
+end
+
+local nextVersion = current + 1
+redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[2])
+redis.call('SET', KEYS[2], nextVersion, 'EX', ARGV[2])
+return nextVersion
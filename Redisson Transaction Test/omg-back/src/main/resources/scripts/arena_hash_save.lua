@@ -0,0 +1,38 @@
+-- 변경된 Arena 영역 Hash만 기록하고 버전을 1 올린다.
+-- TTL은 기록한 Hash와 버전 키에만 다시 설정한다. (기록하지 않은 Hash는 라운드 상태가 바뀔 때마다 하는 전체 저장에서 갱신)
+-- KEYS[1]    : Arena 버전 (room{id}:version)
+-- KEYS[2]    : 대기방 단계의 Arena 값 (room{id})
+-- KEYS[3..]  : 기록할 Hash 키 (ARGV[4]개)
+-- ARGV[1]    : 읽을 때의 버전 (-1이면 확인하지 않고 저장)
+-- ARGV[2]    : TTL(초)
+-- ARGV[3]    : 1이면 대기방 단계의 Arena 값 삭제
+-- ARGV[4]    : 기록할 Hash 개수
+-- ARGV[5..]  : Hash마다 [필드 수, 필드1, 값1, 필드2, 값2, ...]
+-- 반환값     : 저장 후 버전, 버전이 다르면 -1
+local expected = tonumber(ARGV[1])
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+if expected >= 0 and current ~= expected then
+    return -1
+end
+
+local ttl = ARGV[2]
+local hashCount = tonumber(ARGV[4])
+local argIndex = 5
+for i = 1, hashCount do
+    local key = KEYS[2 + i]
+    local fieldCount = tonumber(ARGV[argIndex])
+    argIndex = argIndex + 1
+    for _ = 1, fieldCount do
+        redis.call('HSET', key, ARGV[argIndex], ARGV[argIndex + 1])
+        argIndex = argIndex + 2
+    end
+    redis.call('EXPIRE', key, ttl)
+end
+
+if ARGV[3] == '1' then
+    redis.call('DEL', KEYS[2])
+end
+
+local nextVersion = current + 1
+redis.call('SET', KEYS[1], nextVersion, 'EX', ttl)
+return nextVersion
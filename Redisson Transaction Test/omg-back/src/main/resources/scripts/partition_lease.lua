@@ -0,0 +1,20 @@
+-- 노드가 맡을 게임 파티션의 리스를 획득/갱신하고 맡지 않을 파티션의 리스는 반납한다.
+-- KEYS[i]   : 파티션 i-1의 리스 (partitionLease{partitions}:{n})
+-- ARGV[1]   : 노드 ID
+-- ARGV[2]   : 리스 시간(ms)
+-- ARGV[i+2] : 파티션 i-1을 맡을지 여부 ('1' 또는 '0')
+-- 반환값    : 이 노드가 리스를 가진 파티션 번호 목록
+local owned = {}
+for i, key in ipairs(KEYS) do
+    local owner = redis.call('GET', key)
+    if ARGV[i + 2] == '1' then
+        -- 다른 노드의 리스가 남아있으면 그 노드가 반납하거나 만료될 때까지 기다린다.
+        if not owner or owner == ARGV[1] then
+            redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+            table.insert(owned, i - 1)
+        end
+    elseif owner == ARGV[1] then
+        redis.call('DEL', key)
+    end
+end
+return owned
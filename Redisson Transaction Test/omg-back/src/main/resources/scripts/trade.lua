@@ -0,0 +1,478 @@
+-- 주식 매수/매도, 금괴 매입을 Hash로 저장된 게임 상태에 원자적으로 적용한다. (GameServiceImpl의 거래 로직과 동일)
+-- KEYS[1]   : Arena 버전 (room{id}:version)
+-- KEYS[2]   : 게임 Hash (room{id}:game)
+-- KEYS[3]   : 시장 Hash (room{id}:market)
+-- KEYS[4]   : 주가 그래프 Hash (room{id}:chart)
+-- KEYS[5..] : 플레이어 Hash (room{id}:player:{닉네임}), ARGV[3]의 닉네임 순서
+-- ARGV[1]   : 거래 종류 (BUY_STOCK | SELL_STOCK | PURCHASE_GOLD)
+-- ARGV[2]   : 거래하는 플레이어 닉네임
+-- ARGV[3]   : KEYS[5..]를 만든 플레이어 닉네임 목록 (JSON 배열)
+-- ARGV[4]   : 거래 수량 (주식: 종류별 개수 JSON 배열, 금괴: 개수)
+-- ARGV[5]   : 난수 (트랙/시장에서 주식을 고를 때 사용)
+-- ARGV[6]   : TTL(초)
+-- ARGV[7]   : 주가 기준표 JSON {"prices": [[주가]], "levels": [[주가 수준]], "tradable": [주가 수준별 거래 가능 토큰 개수],
+--                               "drawCounts": [주가 수준별 주가 변동 시 뽑는 토큰 개수], "dr": [..], "dc": [..]}
+-- ARGV[8]   : 주가 변동 시 주머니에서 토큰을 뽑을 때 쓰는 난수 JSON 배열 (뽑는 토큰 수 이상, 매수가 아니면 빈 배열)
+-- 반환값    : JSON 문자열
+--             성공 {"status":"OK","version":..,"player":{..},"playerNicknames":[..],"playerStocks":[[..]],
+--                   "marketStocks":[..],"stockPriceChangeInfo":[[..]]}
+--             실패 {"status":"<BaseResponseStatus | MessageResponseStatus 이름>"}
+--             닉네임 목록이 다르면 {"status":"STALE_PLAYERS","playerNicknames":[..]}
+-- Lua 배열은 1부터 시작하므로 Java 배열의 i번째 값은 [i + 1]에 있다.
+
+local tradeType = ARGV[1]
+local sender = ARGV[2]
+local random = tonumber(ARGV[5])
+local ttl = ARGV[6]
+
+local function reply(status)
+    return cjson.encode({ status = status })
+end
+
+local storedNicknamesJson = redis.call('HGET', KEYS[2], 'playerNicknames')
+if not storedNicknamesJson then
+    return reply('ARENA_NOT_FOUND')
+end
+
+local nicknames = cjson.decode(storedNicknamesJson)
+local requestedNicknames = cjson.decode(ARGV[3])
+local samePlayers = #nicknames == #requestedNicknames
+for i = 1, #nicknames do
+    if nicknames[i] ~= requestedNicknames[i] then
+        samePlayers = false
+    end
+end
+if not samePlayers then
+    return '{"status":"STALE_PLAYERS","playerNicknames":' .. storedNicknamesJson .. '}'
+end
+
+local senderIndex
+for i = 1, #nicknames do
+    if nicknames[i] == sender then
+        senderIndex = i
+    end
+end
+if not senderIndex then
+    return reply('PLAYER_NOT_FOUND')
+end
+local playerKey = KEYS[4 + senderIndex]
+
+local tables = cjson.decode(ARGV[7])
+local level = tonumber(redis.call('HGET', KEYS[2], 'currentStockPriceLevel'))
+local market = cjson.decode(redis.call('HGET', KEYS[3], 'marketStocks'))
+
+local PLAYER_FIELDS = { 'cash', 'stock', 'carryingStocks', 'state', 'goldOwned', 'carryingGolds' }
+local player = {}
+local playerValues = redis.call('HMGET', playerKey, unpack(PLAYER_FIELDS))
+for i, field in ipairs(PLAYER_FIELDS) do
+    player[field] = cjson.decode(playerValues[i])
+end
+
+local marketUpdates = {}
+local gameUpdates = {}
+
+local function price(stockInfo)
+    return tables.prices[stockInfo.state[1] + 1][stockInfo.state[2] + 1]
+end
+
+local function increaseState(stockInfo)
+    local state = stockInfo.state
+    if state[1] == 0 and state[2] == 6 then
+        return
+    end
+    if state[2] == 6 then
+        state[1] = state[1] - 1
+    else
+        state[2] = state[2] + 1
+    end
+end
+
+local function decreaseState(stockInfo)
+    local state = stockInfo.state
+    if state[1] == 12 and state[2] == 0 then
+        return
+    end
+    if state[2] == 0 then
+        state[1] = state[1] + 1
+    else
+        state[2] = state[2] - 1
+    end
+end
+
+local function pick(candidates)
+    return candidates[(random % #candidates) + 1]
+end
+
+local function addGoldPrice(goldPrice, amount)
+    for _ = 1, amount do
+        if goldPrice >= 100 then
+            break
+        end
+        if goldPrice < 30 then
+            goldPrice = goldPrice + 1
+        else
+            goldPrice = goldPrice + 5
+        end
+    end
+    return goldPrice
+end
+
+local function hashValue(key, field)
+    return cjson.decode(redis.call('HGET', key, field))
+end
+
+-- 각 개수가 0 이상이고, 합이 0 초과 주가 수준 거래 가능 토큰 개수 이하인지 검사
+local function validateStocks(stocks)
+    local count = 0
+    for i = 2, 6 do
+        if stocks[i] < 0 then
+            return 'INVALID_SELL_STOCKS'
+        end
+        count = count + stocks[i]
+    end
+    if count > tables.tradable[level + 1] or count <= 0 then
+        return 'IMPOSSIBLE_STOCK_CNT'
+    end
+    return nil
+end
+
+-- 주가 변동 (GameServiceImpl.changeStockPrice와 동일, 주머니에서 주가 수준만큼 토큰을 뽑아 금 시세와 주가 조정)
+local function changeStockPrice()
+    local draws = cjson.decode(ARGV[8])
+    local stockTokensPocket = hashValue(KEYS[3], 'stockTokensPocket')
+    local selectedStockCnts = { 0, 0, 0, 0, 0, 0 }
+
+    -- 1. 현재 주가 수준에 해당하는 개수만큼 주머니에서 토큰 뽑기
+    local validIndices = {}
+    for i = 1, 6 do
+        if stockTokensPocket[i] > 0 then
+            validIndices[#validIndices + 1] = i
+        end
+    end
+    local tokensCnt = tables.drawCounts[level + 1]
+    for draw = 1, tokensCnt do
+        if #validIndices == 0 then
+            return 'INSUFFICIENT_STOCK'
+        end
+        local position = (draws[draw] % #validIndices) + 1
+        local index = validIndices[position]
+        stockTokensPocket[index] = stockTokensPocket[index] - 1
+        selectedStockCnts[index] = selectedStockCnts[index] + 1
+        if stockTokensPocket[index] == 0 then
+            table.remove(validIndices, position)
+        end
+    end
+
+    -- 2. 금 시세 조정
+    local blackTokenCnt = selectedStockCnts[1]
+    local goldPrice = hashValue(KEYS[3], 'goldPrice')
+    if blackTokenCnt > 0 then
+        goldPrice = addGoldPrice(goldPrice, blackTokenCnt)
+        goldPrice = addGoldPrice(goldPrice, math.floor(hashValue(KEYS[3], 'goldPriceIncreaseCnt') / 3))
+    end
+    marketUpdates.goldPrice = goldPrice
+    marketUpdates.goldPriceIncreaseCnt = 0
+
+    -- 3. 주가 조정
+    if blackTokenCnt > 12 then
+        return 'INVALID_BLACK_TOKEN'
+    end
+    if blackTokenCnt == 1 then
+        stockTokensPocket[1] = stockTokensPocket[1] + 1
+        selectedStockCnts[1] = 0
+    end
+    local newStockPriceLevel = level
+    for i = 2, 6 do
+        local stockCntDiff = selectedStockCnts[i] - selectedStockCnts[1]
+        if stockCntDiff < -6 then
+            return 'INVALID_BLACK_TOKEN'
+        end
+        local state = market[i].state
+        if 0 <= stockCntDiff and stockCntDiff < 7 then
+            state[1] = state[1] + tables.dr[stockCntDiff + 1]
+            state[2] = state[2] + tables.dc[stockCntDiff + 1]
+        elseif 7 <= stockCntDiff and stockCntDiff <= 12 then
+            state[1] = state[1] + tables.dr[7]
+            state[2] = state[2] + tables.dc[7]
+            for _ = 1, stockCntDiff - 6 do
+                if state[1] == 0 then
+                    break
+                end
+                state[1] = state[1] - 1
+            end
+        else
+            return 'EXCEEDS_DIFF_RANGE'
+        end
+
+        -- 4. 뽑은 토큰을 주식 시장에 놓고, 5. 여전히 토큰이 없는 주식은 주가 상승
+        market[i].cnt = market[i].cnt + selectedStockCnts[i]
+        if market[i].cnt == 0 then
+            state[1] = state[1] - 1
+        end
+
+        -- 6. 주가 수준은 더 높은 영역에 들어간 경우에만 변경
+        local newLevel = tables.levels[state[1] + 1][state[2] + 1]
+        if newStockPriceLevel < newLevel then
+            newStockPriceLevel = newLevel
+        end
+    end
+    marketUpdates.stockTokensPocket = stockTokensPocket
+    if newStockPriceLevel ~= level then
+        gameUpdates.currentStockPriceLevel = newStockPriceLevel
+    end
+    return nil
+end
+
+local function buyStock(stocks)
+    local totalCost = 0
+    for i = 2, 6 do
+        if stocks[i] > 0 then
+            totalCost = totalCost + price(market[i]) * stocks[i]
+        end
+    end
+
+    local invalid = validateStocks(stocks)
+    if invalid then
+        return invalid
+    end
+    for i = 2, 6 do
+        if stocks[i] > 0 and market[i].cnt < stocks[i] then
+            return 'STOCK_NOT_AVAILABLE'
+        end
+    end
+    if player.cash < totalCost then
+        return 'INSUFFICIENT_CASH'
+    end
+
+    player.cash = player.cash - totalCost
+    for i = 2, 6 do
+        if stocks[i] > 0 then
+            player.carryingStocks[i] = player.carryingStocks[i] + stocks[i]
+            market[i].cnt = market[i].cnt - stocks[i]
+        end
+    end
+
+    -- 시장에 남은 주식 중 하나를 매수 트랙으로 옮기고, 시장에서 마지막 토큰이었다면 주가 상승
+    local stockBuyTrack = hashValue(KEYS[3], 'stockBuyTrack')
+    local increased = false
+    local available = {}
+    for i = 2, 6 do
+        if market[i].cnt > 0 then
+            available[#available + 1] = i
+        end
+    end
+    if #available > 0 then
+        local index = pick(available)
+        stockBuyTrack[index] = stockBuyTrack[index] + 1
+        market[index].cnt = market[index].cnt - 1
+        if market[index].cnt == 0 then
+            increaseState(market[index])
+            increased = true
+        end
+    end
+    if not increased then
+        for i = 2, 6 do
+            if stockBuyTrack[i] == 3 then
+                increaseState(market[i])
+                break
+            end
+        end
+    end
+
+    -- 매수 트랙에 5개가 모이면 같은 스크립트 안에서 주가 변동 (그 사이 다른 거래가 변동 전 주가로 체결되지 않도록)
+    marketUpdates.stockBuyTrack = stockBuyTrack
+    local totalInTrack = 0
+    for i = 1, 6 do
+        totalInTrack = totalInTrack + stockBuyTrack[i]
+    end
+    if totalInTrack == 5 then
+        return changeStockPrice()
+    end
+    return nil
+end
+
+local function sellStock(stocks)
+    if player.state == 'COMPLETED' then
+        return 'PLAYER_STATE_ERROR'
+    end
+    local invalid = validateStocks(stocks)
+    if invalid then
+        return invalid
+    end
+    for i = 2, 6 do
+        if stocks[i] > player.stock[i] then
+            return 'INVALID_SELL_STOCKS'
+        end
+    end
+
+    local salePrice = 0
+    for i = 2, 6 do
+        salePrice = salePrice + price(market[i]) * stocks[i]
+        player.stock[i] = player.stock[i] - stocks[i]
+        market[i].cnt = market[i].cnt + stocks[i]
+    end
+    player.cash = player.cash + salePrice
+    player.state = 'COMPLETED'
+
+    -- 매도 트랙에서 주식시장으로 토큰 하나를 옮기고 주가 하락
+    local stockSellTrack = hashValue(KEYS[3], 'stockSellTrack')
+    local available = {}
+    for i = 2, 6 do
+        if stockSellTrack[i] > 0 then
+            available[#available + 1] = i
+        end
+    end
+    if #available > 0 then
+        local index = pick(available)
+        stockSellTrack[index] = stockSellTrack[index] - 1
+        market[index].cnt = market[index].cnt + 1
+        decreaseState(market[index])
+    end
+
+    -- 매도 트랙에 5개가 남으면 주가 변동, 매도 트랙 토큰은 주머니로
+    local leftStocks = 0
+    for i = 2, 6 do
+        leftStocks = leftStocks + stockSellTrack[i]
+    end
+    if leftStocks == 5 then
+        gameUpdates.roundStatus = 'STOCK_FLUCTUATION'
+        local stockTokensPocket = hashValue(KEYS[3], 'stockTokensPocket')
+        for i = 2, 6 do
+            stockTokensPocket[i] = stockTokensPocket[i] + stockSellTrack[i]
+        end
+        marketUpdates.stockTokensPocket = stockTokensPocket
+        stockSellTrack = { 2, 2, 2, 2, 2, 2 }
+    end
+    marketUpdates.stockSellTrack = stockSellTrack
+    return nil
+end
+
+local function purchaseGold(goldBuyCount)
+    local goldPrice = hashValue(KEYS[3], 'goldPrice')
+    local totalCost = goldPrice * goldBuyCount
+    if player.state == 'COMPLETED' then
+        return 'PLAYER_STATE_ERROR'
+    end
+    if player.cash < totalCost then
+        return 'OUT_OF_CASH'
+    end
+
+    -- 금괴 매입 트랙의 빈 칸에 시장의 주식 하나를 무작위로 넣기
+    local currentMarketStocks = {}
+    local selectableStocks = {}
+    for i = 1, 6 do
+        currentMarketStocks[i] = market[i].cnt
+        if i > 1 and market[i].cnt ~= 0 then
+            selectableStocks[#selectableStocks + 1] = i
+        end
+    end
+
+    local goldBuyTrack = hashValue(KEYS[3], 'goldBuyTrack')
+    local selected
+    for i = 2, 6 do
+        if goldBuyTrack[i] == 0 then
+            if #selectableStocks > 0 then
+                selected = pick(selectableStocks)
+                goldBuyTrack[i] = selected - 1
+                currentMarketStocks[selected] = currentMarketStocks[selected] - 1
+            end
+            break
+        end
+    end
+    for i = 1, 6 do
+        market[i].cnt = currentMarketStocks[i] + goldBuyTrack[i]
+    end
+
+    marketUpdates.goldPriceIncreaseCnt = hashValue(KEYS[3], 'goldPriceIncreaseCnt') + goldBuyCount
+    player.cash = player.cash - totalCost
+    player.goldOwned = player.goldOwned + goldBuyCount
+    player.state = 'COMPLETED'
+    player.carryingGolds = goldBuyCount
+
+    -- 넣은 주식과 같은 종류가 트랙에 딱 3개이거나, 시장의 마지막 토큰이었다면 주가 상승
+    if selected then
+        local sameStockCount = 0
+        for i = 2, 6 do
+            if goldBuyTrack[i] == selected - 1 then
+                sameStockCount = sameStockCount + 1
+            end
+        end
+        if sameStockCount == 3 or currentMarketStocks[selected] == 0 then
+            increaseState(market[selected])
+        end
+    end
+
+    -- 금괴 매입 트랙이 가득 차면 주가 변동
+    local full = true
+    for i = 2, 6 do
+        if goldBuyTrack[i] == 0 then
+            full = false
+        end
+    end
+    if full then
+        goldBuyTrack = { 0, 0, 0, 0, 0, 0 }
+        gameUpdates.roundStatus = 'STOCK_FLUCTUATION'
+    end
+    marketUpdates.goldBuyTrack = goldBuyTrack
+    return nil
+end
+
+local failure
+if tradeType == 'BUY_STOCK' then
+    failure = buyStock(cjson.decode(ARGV[4]))
+elseif tradeType == 'SELL_STOCK' then
+    failure = sellStock(cjson.decode(ARGV[4]))
+elseif tradeType == 'PURCHASE_GOLD' then
+    failure = purchaseGold(tonumber(ARGV[4]))
+else
+    failure = 'REQUEST_ERROR'
+end
+if failure then
+    return reply(failure)
+end
+
+-- 변경된 값 기록
+marketUpdates.marketStocks = market
+for field, value in pairs(marketUpdates) do
+    redis.call('HSET', KEYS[3], field, cjson.encode(value))
+end
+for field, value in pairs(gameUpdates) do
+    redis.call('HSET', KEYS[2], field, cjson.encode(value))
+end
+for _, field in ipairs(PLAYER_FIELDS) do
+    redis.call('HSET', playerKey, field, cjson.encode(player[field]))
+end
+
+local version = redis.call('INCR', KEYS[1])
+-- TTL은 기록한 키에만 다시 설정 (arena_hash_save.lua와 같은 기준)
+redis.call('EXPIRE', KEYS[1], ttl)
+redis.call('EXPIRE', KEYS[3], ttl)
+redis.call('EXPIRE', playerKey, ttl)
+if next(gameUpdates) ~= nil then
+    redis.call('EXPIRE', KEYS[2], ttl)
+end
+
+-- 응답 (다시 조회하지 않고 개인 메세지와 주식 시장 정보를 만들 수 있도록)
+local playerHash = redis.call('HGETALL', playerKey)
+local playerParts = {}
+for i = 1, #playerHash, 2 do
+    playerParts[#playerParts + 1] = cjson.encode(playerHash[i]) .. ':' .. playerHash[i + 1]
+end
+
+local playerStocks = {}
+for i = 1, #nicknames do
+    if i == senderIndex then
+        playerStocks[i] = player.stock
+    else
+        playerStocks[i] = hashValue(KEYS[4 + i], 'stock')
+    end
+end
+
+return '{"status":"OK"'
+        .. ',"version":' .. version
+        .. ',"player":{' .. table.concat(playerParts, ',') .. '}'
+        .. ',"playerNicknames":' .. storedNicknamesJson
+        .. ',"playerStocks":' .. cjson.encode(playerStocks)
+        .. ',"marketStocks":' .. cjson.encode(market)
+        .. ',"stockPriceChangeInfo":' .. (redis.call('HGET', KEYS[4], 'stockPriceChangeInfo') or 'null')
+        .. '}'
@@ -0,0 +1,161 @@
+package com.ssafy.omg.config;
+
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameStatus;
+import com.ssafy.omg.domain.game.entity.RoundStatus;
+import com.ssafy.omg.domain.game.entity.StockInfo;
+import com.ssafy.omg.domain.player.entity.Player;
+import com.ssafy.omg.domain.player.entity.PlayerStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArenaRedisSerializerTest {
+
+    @Test
+    @DisplayName("Smile 형식으로 저장한 Arena 복원 테스트")
+    void testSmileRoundTrip() {
+        ArenaRedisSerializer serializer = new ArenaRedisSerializer(ArenaRedisSerializer.FORMAT_SMILE, -1);
+        Arena arena = createArena();
+
+        Arena restored = serializer.deserialize(serializer.serialize(arena));
+
+        assertGameEquals(restored, arena);
+    }
+
+    @Test
+    @DisplayName("LZ4 압축된 Smile 형식으로 저장한 Arena 복원 테스트")
+    void testCompressedSmileRoundTrip() {
+        ArenaRedisSerializer serializer = new ArenaRedisSerializer(ArenaRedisSerializer.FORMAT_SMILE, 0);
+        Arena arena = createArena();
+
+        Arena restored = serializer.deserialize(serializer.serialize(arena));
+
+        assertGameEquals(restored, arena);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 Arena 읽기 테스트")
+    void testReadLegacyJson() {
+        ArenaRedisSerializer serializer = new ArenaRedisSerializer(ArenaRedisSerializer.FORMAT_SMILE, 0);
+        Arena arena = createArena();
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(arena);
+
+        Arena restored = serializer.deserialize(legacy);
+
+        assertGameEquals(restored, arena);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Arena 직렬화 형식별 크기 및 인코딩/디코딩 시간 비교")
+    void benchmarkSerializers() {
+        Arena arena = createArena();
+        benchmark("json (GenericJackson2Json)", new GenericJackson2JsonRedisSerializer(), arena);
+        benchmark("smile", new ArenaRedisSerializer(ArenaRedisSerializer.FORMAT_SMILE, -1), arena);
+        benchmark("smile + lz4", new ArenaRedisSerializer(ArenaRedisSerializer.FORMAT_SMILE, 0), arena);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void benchmark(String name, RedisSerializer<?> redisSerializer, Arena arena) {
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisSerializer;
+        int warmup = 20_000;
+        int iterations = 50_000;
+
+        byte[] bytes = serializer.serialize(arena);
+        for (int i = 0; i < warmup; i++) {
+            serializer.deserialize(serializer.serialize(arena));
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = serializer.serialize(arena);
+        }
+        long encodeNanos = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(bytes);
+        }
+        long decodeNanos = System.nanoTime() - decodeStart;
+
+        System.out.printf("%-28s %6d bytes | encode %8.2f us | decode %8.2f us%n",
+                name, bytes.length, encodeNanos / 1000.0 / iterations, decodeNanos / 1000.0 / iterations);
+    }
+
+    private void assertGameEquals(Arena restored, Arena expected) {
+        assertThat(restored).isNotNull();
+        assertThat(restored.getRoomId()).isEqualTo(expected.getRoomId());
+        Game game = restored.getGame();
+        assertThat(game.getRoundStatus()).isEqualTo(expected.getGame().getRoundStatus());
+        assertThat(game.getPlayers()).hasSize(4);
+        assertThat(game.getPlayers().get(2).getStock()).containsExactly(expected.getGame().getPlayers().get(2).getStock());
+        assertThat(game.getMarketStocks()[3].getState()).containsExactly(expected.getGame().getMarketStocks()[3].getState());
+        assertThat(game.getStockPriceChangeInfo()[5]).containsExactly(expected.getGame().getStockPriceChangeInfo()[5]);
+    }
+
+    private Arena createArena() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(Player.builder()
+                    .nickname("player" + i)
+                    .characterType(i)
+                    .position(new double[]{i * 1.5, 0, -i * 2.25})
+                    .direction(new double[]{0, 1, 0})
+                    .carryingStocks(new int[6])
+                    .cash(100 + i)
+                    .stock(new int[]{0, 1, 2, 0, 1, i})
+                    .state(PlayerStatus.NOT_STARTED)
+                    .isConnected(1)
+                    .build());
+        }
+
+        StockInfo[] market = new StockInfo[6];
+        market[0] = new StockInfo(0, new int[]{0, 0});
+        for (int i = 1; i < 6; i++) {
+            market[i] = new StockInfo(8 + i, new int[]{12 - i, 3});
+        }
+
+        int[][] stockPriceChangeInfo = new int[6][61];
+        for (int i = 1; i < 6; i++) {
+            for (int j = 0; j < 61; j++) {
+                stockPriceChangeInfo[i][j] = 20 + (i * j) % 40;
+            }
+        }
+
+        Game game = Game.builder()
+                .gameId("roomId")
+                .gameStatus(GameStatus.IN_GAME)
+                .message("GAME_START")
+                .players(players)
+                .time(87)
+                .round(4)
+                .roundStatus(RoundStatus.ROUND_IN_PROGRESS)
+                .currentInterestRate(5)
+                .economicEvent(new int[]{0, 3, 7, 12, 1, 9, 22, 4, 16, 5, 0})
+                .currentStockPriceLevel(2)
+                .stockTokensPocket(new int[]{0, 10, 11, 9, 12, 10})
+                .marketStocks(market)
+                .stockSellTrack(new int[]{1, 2, 2, 2, 2, 2})
+                .stockBuyTrack(new int[6])
+                .goldBuyTrack(new int[6])
+                .goldPrice(20)
+                .goldPriceIncreaseCnt(0)
+                .stockPriceChangeInfo(stockPriceChangeInfo)
+                .build();
+
+        return Arena.builder()
+                .roomId("roomId")
+                .message("GAME_INITIALIZED")
+                .game(game)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.omg.config;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisKeysTest {
+
+    @Test
+    @DisplayName("한 방에 속한 키가 모두 같은 Cluster 슬롯에 배치되는지 테스트")
+    void testRoomKeysShareSlot() {
+        String roomId = "ABCDE12345";
+        List<String> keys = List.of(
+                RedisKeys.arena(roomId),
+                RedisKeys.arenaHash(roomId),
+                RedisKeys.gameHash(roomId),
+                RedisKeys.marketHash(roomId),
+                RedisKeys.chartHash(roomId),
+                RedisKeys.playerHash(roomId, "player1"),
+                RedisKeys.version(roomId),
+                RedisKeys.gameLock(roomId));
+
+        Set<Integer> slots = keys.stream().map(SlotHash::getSlot).collect(Collectors.toSet());
+
+        assertThat(slots).containsExactly(SlotHash.getSlot(roomId));
+    }
+
+    @Test
+    @DisplayName("진행중인 게임 인덱스가 방 코드에 따라 정해진 샤드에 속하는지 테스트")
+    void testActiveGameIndexShard() {
+        Set<String> shardKeys = RedisKeys.activeGameIndexShards()
+                .mapToObj(RedisKeys::activeGameIndexShard)
+                .collect(Collectors.toSet());
+
+        assertThat(shardKeys).hasSize(RedisKeys.ACTIVE_GAME_INDEX_SHARDS);
+        assertThat(shardKeys).contains(RedisKeys.activeGameIndex("ABCDE12345"));
+        assertThat(RedisKeys.activeGameIndex("ABCDE12345")).isEqualTo(RedisKeys.activeGameIndex("ABCDE12345"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.ssafy.omg.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.domain.socket.StompFrameEncoder;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Artemis를 외부 STOMP 브로커 대신 띄워, 두 노드의 브로커 릴레이가 구독과 전송을 브로커에 넘기는지 확인
+ */
+class StompBrokerRelayTest {
+
+    private static final String DESTINATION = "/sub/room1/game";
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private EmbeddedActiveMQ artemis;
+    private StompBrokerRelayMessageHandler nodeA;
+    private StompBrokerRelayMessageHandler nodeB;
+    private final ExecutorSubscribableChannel brokerChannelB = new ExecutorSubscribableChannel();
+    // 노드 A에 연결된 클라이언트 세션으로 나간 프레임
+    private final Queue<Message<?>> clientFramesA = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        artemis = new EmbeddedActiveMQ();
+        artemis.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://localhost:" + port + "?protocols=STOMP"));
+        artemis.start();
+
+        ExecutorSubscribableChannel clientOutboundA = new ExecutorSubscribableChannel();
+        clientOutboundA.subscribe(clientFramesA::add);
+        nodeA = relay(port, clientOutboundA, new ExecutorSubscribableChannel());
+        nodeB = relay(port, new ExecutorSubscribableChannel(), brokerChannelB);
+        await(() -> nodeA.isBrokerAvailable() && nodeB.isBrokerAvailable());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.stop();
+        nodeB.stop();
+        artemis.stop();
+    }
+
+    @Test
+    @DisplayName("노드 A에서 구독한 세션이 노드 B에서 보낸 방 메세지를 받는지 테스트")
+    void testFanoutAcrossNodes() {
+        nodeA.handleMessage(clientFrame(StompCommand.CONNECT, accessor -> accessor.setAcceptVersion("1.2")));
+        await(() -> received(frame -> frame.getCommand() == StompCommand.CONNECTED));
+
+        nodeA.handleMessage(clientFrame(StompCommand.SUBSCRIBE, accessor -> {
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(DESTINATION);
+            accessor.setReceipt("subscribed");
+        }));
+        await(() -> received(frame -> frame.getCommand() == StompCommand.RECEIPT));
+
+        SimpMessagingTemplate templateB = new SimpMessagingTemplate(brokerChannelB);
+        templateB.send(DESTINATION, new StompFrameEncoder(new ObjectMapper()).encode(Map.of("type", "PLAYER_STATE")));
+
+        await(() -> received(frame -> frame.getCommand() == StompCommand.MESSAGE
+                && DESTINATION.equals(frame.getDestination())));
+        Message<?> message = clientFramesA.stream()
+                .filter(frame -> StompHeaderAccessor.wrap(frame).getCommand() == StompCommand.MESSAGE)
+                .findFirst()
+                .orElseThrow();
+        assertThat(new String((byte[]) message.getPayload())).contains("PLAYER_STATE");
+    }
+
+    private StompBrokerRelayMessageHandler relay(int port, ExecutorSubscribableChannel clientOutbound,
+                                                 ExecutorSubscribableChannel brokerChannel) {
+        StompBrokerRelayMessageHandler handler = new StompBrokerRelayMessageHandler(
+                new ExecutorSubscribableChannel(), clientOutbound, brokerChannel, List.of("/sub", "/queue"));
+        handler.setRelayHost("localhost");
+        handler.setRelayPort(port);
+        handler.start();
+        return handler;
+    }
+
+    private Message<byte[]> clientFrame(StompCommand command, Consumer<StompHeaderAccessor> headers) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-0");
+        headers.accept(accessor);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private boolean received(Predicate<StompHeaderAccessor> condition) {
+        return clientFramesA.stream().map(StompHeaderAccessor::wrap).anyMatch(condition);
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("브로커 릴레이 응답을 기다리다 시간이 초과되었습니다.");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
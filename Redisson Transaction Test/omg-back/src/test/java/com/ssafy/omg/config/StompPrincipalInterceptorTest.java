@@ -0,0 +1,138 @@
+package com.ssafy.omg.config;
+
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.domain.game.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+
+import static com.ssafy.omg.config.baseresponse.BaseResponseStatus.ARENA_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StompPrincipalInterceptorTest {
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final PlayerTokenProvider playerTokenProvider = new PlayerTokenProvider("test-secret");
+    private final StompPrincipalInterceptor interceptor = new StompPrincipalInterceptor(gameRepository, playerTokenProvider);
+
+    @BeforeEach
+    void setUp() throws BaseException {
+        when(gameRepository.findinRoomPlayerList("ABCDE12345")).thenReturn(List.of("player1", "player2"));
+    }
+
+    @Test
+    @DisplayName("발급한 플레이어 토큰으로 CONNECT하면 세션 사용자가 정해지는지 테스트")
+    void testConnectBindsPrincipal() {
+        StompHeaderAccessor accessor = connect("ABCDE12345", "player1", playerTokenProvider.issue("ABCDE12345", "player1"));
+
+        interceptor.preSend(message(accessor), mock(MessageChannel.class));
+
+        assertThat(accessor.getUser()).isNotNull();
+        assertThat(accessor.getUser().getName()).isEqualTo("ABCDE12345:player1");
+    }
+
+    @Test
+    @DisplayName("헤더나 토큰이 없는 CONNECT는 세션 사용자를 정하지 않는지 테스트")
+    void testConnectWithoutHeaders() {
+        StompHeaderAccessor noHeaders = StompHeaderAccessor.create(StompCommand.CONNECT);
+        noHeaders.setLeaveMutable(true);
+        StompHeaderAccessor noToken = connect("ABCDE12345", "player1", null);
+
+        interceptor.preSend(message(noHeaders), mock(MessageChannel.class));
+        interceptor.preSend(message(noToken), mock(MessageChannel.class));
+
+        assertThat(noHeaders.getUser()).isNull();
+        assertThat(noToken.getUser()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 플레이어의 토큰이나 잘못된 토큰으로 CONNECT하면 거부되는지 테스트")
+    void testConnectRejectsInvalidToken() {
+        StompHeaderAccessor otherPlayer = connect("ABCDE12345", "player1", playerTokenProvider.issue("ABCDE12345", "player2"));
+        StompHeaderAccessor forged = connect("ABCDE12345", "player1", "forged");
+        StompHeaderAccessor otherSecret = connect("ABCDE12345", "player1",
+                new PlayerTokenProvider("other-secret").issue("ABCDE12345", "player1"));
+
+        for (StompHeaderAccessor accessor : List.of(otherPlayer, forged, otherSecret)) {
+            assertThatThrownBy(() -> interceptor.preSend(message(accessor), mock(MessageChannel.class)))
+                    .isInstanceOf(MessageDeliveryException.class);
+            assertThat(accessor.getUser()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("방에 없는 플레이어나 없는 방으로 CONNECT하면 거부되는지 테스트")
+    void testConnectRejectsPlayerNotInRoom() throws BaseException {
+        when(gameRepository.findinRoomPlayerList("NOROOM0000")).thenThrow(new BaseException(ARENA_NOT_FOUND));
+        StompHeaderAccessor stranger = connect("ABCDE12345", "player3", playerTokenProvider.issue("ABCDE12345", "player3"));
+        StompHeaderAccessor noRoom = connect("NOROOM0000", "player1", playerTokenProvider.issue("NOROOM0000", "player1"));
+
+        assertThatThrownBy(() -> interceptor.preSend(message(stranger), mock(MessageChannel.class)))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> interceptor.preSend(message(noRoom), mock(MessageChannel.class)))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThat(stranger.getUser()).isNull();
+        assertThat(noRoom.getUser()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 플레이어가 다시 CONNECT해도(재연결) 거부하지 않는지 테스트")
+    void testConnectAllowsReconnect() {
+        String token = playerTokenProvider.issue("ABCDE12345", "player1");
+        StompHeaderAccessor first = connect("ABCDE12345", "player1", token);
+        StompHeaderAccessor second = connect("ABCDE12345", "player1", token);
+
+        interceptor.preSend(message(first), mock(MessageChannel.class));
+        interceptor.preSend(message(second), mock(MessageChannel.class));
+
+        assertThat(second.getUser()).isNotNull();
+        assertThat(second.getUser().getName()).isEqualTo(first.getUser().getName());
+    }
+
+    @Test
+    @DisplayName("노드 간 개인 메세지가 오가는 릴레이 목적지는 구독할 수 없는지 테스트")
+    void testSubscribeRejectsInternalDestination() {
+        StompHeaderAccessor unresolved = subscribe(WebSocketConfig.UNRESOLVED_USER_DESTINATION);
+        StompHeaderAccessor registry = subscribe(WebSocketConfig.USER_REGISTRY_DESTINATION);
+        StompHeaderAccessor roomTopic = subscribe("/sub/ABCDE12345/game");
+
+        assertThatThrownBy(() -> interceptor.preSend(message(unresolved), mock(MessageChannel.class)))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> interceptor.preSend(message(registry), mock(MessageChannel.class)))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThat(interceptor.preSend(message(roomTopic), mock(MessageChannel.class))).isNotNull();
+    }
+
+    private StompHeaderAccessor subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private StompHeaderAccessor connect(String roomId, String nickname, String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader(StompPrincipalInterceptor.ROOM_ID_HEADER, roomId);
+        accessor.setNativeHeader(StompPrincipalInterceptor.NICKNAME_HEADER, nickname);
+        if (token != null) {
+            accessor.setNativeHeader(StompPrincipalInterceptor.TOKEN_HEADER, token);
+        }
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
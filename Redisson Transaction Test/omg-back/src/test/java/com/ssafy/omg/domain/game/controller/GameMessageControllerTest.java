@@ -1,5 +1,6 @@
 package com.ssafy.omg.domain.game.controller;
 
+import com.ssafy.omg.config.RedisKeys;
 import com.ssafy.omg.config.baseresponse.BaseException;
 import com.ssafy.omg.config.baseresponse.BaseResponseStatus;
 import com.ssafy.omg.domain.arena.entity.Arena;
@@ -147,7 +148,7 @@ class GameMessageControllerTest {
 
     private String createArena(String userNickname, String roomId) {
 
-        String roomKey = "room" + roomId;
+        String roomKey = RedisKeys.arena(roomId);
         Game game = Game.builder()
                 .build();
         game.setPlayers(new ArrayList<>());
@@ -168,7 +169,7 @@ class GameMessageControllerTest {
     }
 
     private void deleteArena(String roomId) {
-        String roomKey = "room" + roomId;
+        String roomKey = RedisKeys.arena(roomId);
         redisTemplate.delete(roomKey);
     }
 
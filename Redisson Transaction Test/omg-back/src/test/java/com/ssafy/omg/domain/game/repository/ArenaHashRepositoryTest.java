@@ -0,0 +1,191 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.config.JacksonConfig;
+import com.ssafy.omg.config.RedisKeys;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameStatus;
+import com.ssafy.omg.domain.game.entity.StockInfo;
+import com.ssafy.omg.domain.player.entity.Player;
+import com.ssafy.omg.domain.player.entity.PlayerStatus;
+import com.ssafy.omg.domain.room.entity.Room;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Arena Hash 저장/조회와 저장 스크립트(scripts/arena_hash_save.lua) 테스트 (로컬 Redis 필요)
+ */
+class ArenaHashRepositoryTest {
+
+    private static final long TTL_SECONDS = 3600L;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private ArenaHashRepository arenaHashRepository;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        assumeTrue(isRedisAvailable(), "로컬 Redis가 없어 Arena Hash 저장소 테스트를 건너뜁니다.");
+
+        arenaHashRepository = new ArenaHashRepository(stringRedisTemplate, objectMapper);
+        roomId = "hash-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (arenaHashRepository != null) {
+            arenaHashRepository.delete(roomId);
+            stringRedisTemplate.delete(RedisKeys.arena(roomId));
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("전체 저장한 Arena를 그대로 다시 읽을 수 있는지 테스트")
+    void testSaveAndFind() {
+        Arena arena = arena();
+
+        long version = arenaHashRepository.save(roomId, arena, ArenaUpdate.all(), TTL_SECONDS, -1);
+
+        Arena found = arenaHashRepository.find(roomId).orElseThrow();
+        assertThat(version).isEqualTo(1);
+        assertThat(found.getVersion()).isEqualTo(1);
+        assertThat(found).usingRecursiveComparison().ignoringFields("version").isEqualTo(arena);
+    }
+
+    @Test
+    @DisplayName("변경 영역으로 표시한 Hash만 기록하고 TTL도 그 Hash만 갱신하는지 테스트")
+    void testSavePartialSections() {
+        Arena arena = arena();
+        arenaHashRepository.save(roomId, arena, ArenaUpdate.all(), TTL_SECONDS, -1);
+        stringRedisTemplate.expire(RedisKeys.chartHash(roomId), Duration.ofSeconds(100));
+        stringRedisTemplate.expire(RedisKeys.playerHash(roomId, "player2"), Duration.ofSeconds(100));
+
+        Game game = arena.getGame();
+        game.setGoldPrice(25);
+        game.setRound(2);
+        game.getStockPriceChangeInfo()[1][0] = 8;
+        game.getPlayers().get(0).setCash(900);
+        game.getPlayers().get(1).setCash(900);
+        long version = arenaHashRepository.save(roomId, arena, ArenaUpdate.of(ArenaSection.MARKET).andPlayer("player1"), TTL_SECONDS, 1);
+
+        Game found = arenaHashRepository.find(roomId).orElseThrow().getGame();
+        assertThat(version).isEqualTo(2);
+        assertThat(found.getGoldPrice()).isEqualTo(25);
+        assertThat(found.getPlayers().get(0).getCash()).isEqualTo(900);
+        // 표시하지 않은 영역은 이전 값 그대로
+        assertThat(found.getRound()).isEqualTo(1);
+        assertThat(found.getStockPriceChangeInfo()[1][0]).isZero();
+        assertThat(found.getPlayers().get(1).getCash()).isEqualTo(1000);
+
+        assertThat(stringRedisTemplate.getExpire(RedisKeys.marketHash(roomId))).isGreaterThan(100);
+        assertThat(stringRedisTemplate.getExpire(RedisKeys.playerHash(roomId, "player1"))).isGreaterThan(100);
+        assertThat(stringRedisTemplate.getExpire(RedisKeys.version(roomId))).isGreaterThan(100);
+        assertThat(stringRedisTemplate.getExpire(RedisKeys.chartHash(roomId))).isLessThanOrEqualTo(100);
+        assertThat(stringRedisTemplate.getExpire(RedisKeys.playerHash(roomId, "player2"))).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("대기방 단계의 Arena 값은 전체 저장할 때만 삭제되는지 테스트")
+    void testFullSaveDeletesLobbyArena() {
+        stringRedisTemplate.opsForValue().set(RedisKeys.arena(roomId), "lobby");
+        Arena arena = arena();
+
+        arenaHashRepository.save(roomId, arena, ArenaUpdate.of(ArenaSection.GAME), TTL_SECONDS, -1);
+        assertThat(stringRedisTemplate.hasKey(RedisKeys.arena(roomId))).isTrue();
+
+        arenaHashRepository.save(roomId, arena, ArenaUpdate.all(), TTL_SECONDS, -1);
+        assertThat(stringRedisTemplate.hasKey(RedisKeys.arena(roomId))).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽은 버전과 저장된 버전이 다르면 기록하지 않는지 테스트")
+    void testVersionConflict() {
+        Arena arena = arena();
+        arenaHashRepository.save(roomId, arena, ArenaUpdate.all(), TTL_SECONDS, -1);
+
+        arena.getGame().setGoldPrice(25);
+        long version = arenaHashRepository.save(roomId, arena, ArenaUpdate.of(ArenaSection.MARKET), TTL_SECONDS, 0);
+
+        Arena found = arenaHashRepository.find(roomId).orElseThrow();
+        assertThat(version).isEqualTo(-1);
+        assertThat(found.getVersion()).isEqualTo(1);
+        assertThat(found.getGame().getGoldPrice()).isEqualTo(20);
+    }
+
+    private Arena arena() {
+        StockInfo[] marketStocks = new StockInfo[6];
+        for (int i = 0; i < 6; i++) {
+            marketStocks[i] = new StockInfo(8, new int[]{12, 3});
+        }
+
+        List<Player> players = new ArrayList<>();
+        players.add(player("player1"));
+        players.add(player("player2"));
+
+        Game game = Game.builder()
+                .gameId(roomId)
+                .gameStatus(GameStatus.IN_GAME)
+                .players(players)
+                .round(1)
+                .currentInterestRate(5)
+                .economicEvent(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
+                .stockTokensPocket(new int[]{0, 20, 20, 20, 20, 20})
+                .marketStocks(marketStocks)
+                .stockSellTrack(new int[]{1, 2, 2, 2, 2, 2})
+                .stockBuyTrack(new int[6])
+                .goldBuyTrack(new int[6])
+                .goldPrice(20)
+                .goldPriceIncreaseCnt(0)
+                .stockPriceChangeInfo(new int[6][61])
+                .build();
+        return Arena.builder()
+                .roomId(roomId)
+                .message("GAME_INITIALIZED")
+                .game(game)
+                .room(new Room(roomId, "player1"))
+                .build();
+    }
+
+    private Player player(String nickname) {
+        return Player.builder()
+                .nickname(nickname)
+                .position(new double[]{0, 0, 0})
+                .direction(new double[]{0, 0, 0})
+                .carryingStocks(new int[6])
+                .stock(new int[]{0, 1, 1, 1, 1, 1})
+                .cash(1000)
+                .state(PlayerStatus.NOT_STARTED)
+                .build();
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            return "PONG".equals(stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.ping()));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
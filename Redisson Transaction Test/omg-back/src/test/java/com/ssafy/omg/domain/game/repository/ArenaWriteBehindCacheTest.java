@@ -0,0 +1,56 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.ssafy.omg.domain.arena.entity.Arena;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArenaWriteBehindCacheTest {
+
+    private ArenaWriteBehindCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ArenaWriteBehindCache(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("저장한 Arena 인스턴스를 바로 다시 읽을 수 있는지 테스트")
+    void testReadYourWrites() {
+        Arena arena = Arena.builder().roomId("roomId").build();
+
+        cache.markDirty("roomId", arena, ArenaUpdate.player("player1"));
+
+        assertThat(cache.get("roomId")).containsSame(arena);
+    }
+
+    @Test
+    @DisplayName("변경 영역이 누적되고 flush 대상으로 한 번만 꺼내지는지 테스트")
+    void testDirtySectionsAreMergedAndTakenOnce() {
+        Arena arena = Arena.builder().roomId("roomId").build();
+
+        cache.markDirty("roomId", arena, ArenaUpdate.player("player1"));
+        cache.markDirty("roomId", arena, ArenaUpdate.of(ArenaSection.MARKET).andPlayer("player2"));
+
+        ArenaWriteBehindCache.DirtyArena dirty = cache.takeDirty("roomId").orElseThrow();
+        assertThat(dirty.arena()).isSameAs(arena);
+        assertThat(dirty.update().getSections()).containsExactly(ArenaSection.MARKET);
+        assertThat(dirty.update().getPlayerNicknames()).containsExactlyInAnyOrder("player1", "player2");
+        assertThat(cache.takeDirty("roomId")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록되지 않은 변경이 있는 Arena는 정리되지 않는지 테스트")
+    void testEvictIdleKeepsDirtyArena() {
+        cache.putIfAbsent("clean", Arena.builder().roomId("clean").build());
+        cache.markDirty("dirty", Arena.builder().roomId("dirty").build(), ArenaUpdate.all());
+
+        cache.evictIdle(-1);
+
+        assertThat(cache.get("clean")).isEmpty();
+        assertThat(cache.get("dirty")).isPresent();
+    }
+}
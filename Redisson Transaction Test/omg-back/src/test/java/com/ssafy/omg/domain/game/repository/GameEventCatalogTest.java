@@ -0,0 +1,57 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.ssafy.omg.domain.game.entity.GameEvent;
+import com.ssafy.omg.domain.game.entity.StockGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameEventCatalogTest {
+
+    private final GameEventRepository gameEventRepository = mock(GameEventRepository.class);
+    private final GameEventCatalog catalog = new GameEventCatalog(gameEventRepository);
+
+    @Test
+    @DisplayName("로딩한 이벤트를 id로 조회하고 주식 그룹이 비트마스크로 변환되는지 테스트")
+    void testRefreshCompilesStockMask() {
+        when(gameEventRepository.findAll()).thenReturn(List.of(event(1L, "FOOD"), event(2L, "NULL")));
+
+        assertThat(catalog.refresh()).isEqualTo(2);
+
+        GameEvent food = catalog.findById(1L).orElseThrow();
+        assertThat(catalog.stockMaskOf(food)).isEqualTo(StockGroup.FOOD.getMask());
+        assertThat(StockGroup.isAffected(food.getAffectedStockMask(), 1)).isTrue();
+        assertThat(StockGroup.isAffected(food.getAffectedStockMask(), 3)).isFalse();
+        assertThat(catalog.stockMaskOf(catalog.findById(2L).orElseThrow())).isZero();
+        assertThat(catalog.findById(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 주식 그룹이 있으면 기존 카탈로그를 유지하는지 테스트")
+    void testRefreshKeepsCatalogOnInvalidGroup() {
+        when(gameEventRepository.findAll()).thenReturn(List.of(event(1L, "ALL")));
+        catalog.refresh();
+
+        when(gameEventRepository.findAll()).thenReturn(List.of(event(1L, "CARS")));
+
+        assertThatThrownBy(catalog::refresh).isInstanceOf(IllegalStateException.class);
+        assertThat(catalog.findById(1L)).isPresent();
+    }
+
+    private GameEvent event(Long id, String affectedStockGroup) {
+        GameEvent event = BeanUtils.instantiateClass(GameEvent.class);
+        event.setId(id);
+        event.setTitle("title" + id);
+        event.setContent("content" + id);
+        event.setValue(1);
+        event.setAffectedStockGroup(affectedStockGroup);
+        return event;
+    }
+}
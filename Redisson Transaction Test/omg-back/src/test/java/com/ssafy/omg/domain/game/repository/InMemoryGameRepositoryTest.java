@@ -0,0 +1,93 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryGameRepositoryTest {
+
+    private InMemoryGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryGameRepository(new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+        ReflectionTestUtils.setField(repository, "ttlSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("조회할 때마다 저장된 값의 새 인스턴스를 돌려주는지 테스트")
+    void testFindReturnsCopy() {
+        Arena arena = Arena.builder().roomId("roomId").message("CREATE_ROOM_SUCCESS").build();
+        repository.saveArena("roomId", arena);
+
+        Arena found = repository.findArenaByRoomId("roomId").orElseThrow();
+        found.setMessage("CHANGED");
+
+        assertThat(found).isNotSameAs(arena);
+        assertThat(repository.findArenaByRoomId("roomId").orElseThrow().getMessage()).isEqualTo("CREATE_ROOM_SUCCESS");
+        assertThat(found.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽은 이후 다른 저장이 있으면 버전 비교 저장이 실패하는지 테스트")
+    void testSaveIfVersionConflict() {
+        repository.saveArena("roomId", Arena.builder().roomId("roomId").build());
+        Arena first = repository.findArenaByRoomId("roomId").orElseThrow();
+        Arena second = repository.findArenaByRoomId("roomId").orElseThrow();
+
+        assertThat(repository.saveArenaIfVersion("roomId", first, ArenaUpdate.all())).isTrue();
+        assertThat(repository.saveArenaIfVersion("roomId", second, ArenaUpdate.all())).isFalse();
+        assertThat(first.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 조회/저장에서 없는 방은 빠지고 버전이 다른 방만 저장에 실패하는지 테스트")
+    void testBatchFindAndSave() {
+        repository.saveArena("first", Arena.builder().roomId("first").build());
+        repository.saveArena("second", Arena.builder().roomId("second").build());
+        Map<String, Arena> arenas = repository.findArenasByRoomIds(List.of("first", "second", "missing"));
+        assertThat(arenas).containsOnlyKeys("first", "second");
+
+        // 일괄 조회 이후 다른 요청이 second를 먼저 저장
+        repository.saveArena("second", Arena.builder().roomId("second").message("CHANGED").build());
+
+        Set<String> saved = repository.saveArenasIfVersion(Map.of(
+                "first", new GameRepository.ArenaWrite(arenas.get("first"), ArenaUpdate.all()),
+                "second", new GameRepository.ArenaWrite(arenas.get("second"), ArenaUpdate.all())));
+
+        assertThat(saved).containsExactly("first");
+        assertThat(arenas.get("first").getVersion()).isEqualTo(2);
+        assertThat(repository.findArenaByRoomId("second").orElseThrow().getMessage()).isEqualTo("CHANGED");
+    }
+
+    @Test
+    @DisplayName("진행중이 아닌 게임은 진행중인 게임 목록에서 정리되는지 테스트")
+    void testFindAllActiveArenas() {
+        Game game = Game.builder().gameId("active").gameStatus(GameStatus.IN_GAME).build();
+        game.setPlayers(new ArrayList<>());
+        repository.saveArena("active", Arena.builder().roomId("active").game(game).build());
+        repository.addActiveGame("active");
+        repository.addActiveGame("deleted");
+
+        assertThat(repository.findAllActiveArenas()).extracting(Arena::getRoomId).containsExactly("active");
+
+        repository.deleteArena("active");
+        assertThat(repository.findAllActiveArenas()).isEmpty();
+        assertThat(repository.existsArena("active")).isFalse();
+    }
+}
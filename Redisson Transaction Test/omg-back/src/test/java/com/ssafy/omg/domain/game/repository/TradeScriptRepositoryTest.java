@@ -0,0 +1,298 @@
+package com.ssafy.omg.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.config.JacksonConfig;
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.config.baseresponse.MessageException;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import com.ssafy.omg.domain.game.dto.StockRequest;
+import com.ssafy.omg.domain.game.dto.TradeResult;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameStatus;
+import com.ssafy.omg.domain.game.entity.StockInfo;
+import com.ssafy.omg.domain.game.entity.StockState;
+import com.ssafy.omg.domain.game.service.ArenaCommandExecutor;
+import com.ssafy.omg.domain.game.service.GameServiceImpl;
+import com.ssafy.omg.domain.game.service.GameNodeRegistry;
+import com.ssafy.omg.domain.game.service.RoomMovementRelay;
+import com.ssafy.omg.domain.game.service.RoomMovementTracker;
+import com.ssafy.omg.domain.player.entity.Player;
+import com.ssafy.omg.domain.player.entity.PlayerStatus;
+import com.ssafy.omg.domain.room.entity.Room;
+import com.ssafy.omg.domain.socket.dto.StompPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 거래 스크립트(scripts/trade.lua)와 GameServiceImpl의 java 거래 로직을 같은 Arena에 실행해 결과를 비교 (로컬 Redis 필요)
+ * 무작위 선택이 결과를 바꾸지 않도록, 트랙/시장/주머니에서 고를 수 있는 주식이 한 종류뿐인 Arena를 사용한다.
+ */
+class TradeScriptRepositoryTest {
+
+    private static final String SENDER = "player1";
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final StockState stockState = new StockState();
+
+    private LettuceConnectionFactory connectionFactory;
+    private ArenaHashRepository arenaHashRepository;
+    private TradeScriptRepository tradeScriptRepository;
+    private InMemoryGameRepository inMemoryGameRepository;
+    private GameServiceImpl javaService;
+    private GameServiceImpl scriptService;
+    private String roomId;
+
+    @FunctionalInterface
+    private interface Trade {
+        TradeResult run(GameServiceImpl service) throws BaseException, MessageException;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        assumeTrue(isRedisAvailable(stringRedisTemplate), "로컬 Redis가 없어 거래 스크립트 테스트를 건너뜁니다.");
+
+        arenaHashRepository = new ArenaHashRepository(stringRedisTemplate, objectMapper);
+        tradeScriptRepository = new TradeScriptRepository(stringRedisTemplate, objectMapper, stockState);
+        ReflectionTestUtils.setField(tradeScriptRepository, "execution", "script");
+        ReflectionTestUtils.setField(tradeScriptRepository, "repository", "redis");
+        ReflectionTestUtils.setField(tradeScriptRepository, "storageMode", "hash");
+        ReflectionTestUtils.setField(tradeScriptRepository, "ttlSeconds", 3600L);
+        tradeScriptRepository.init();
+
+        inMemoryGameRepository = new InMemoryGameRepository(objectMapper);
+        ReflectionTestUtils.setField(inMemoryGameRepository, "ttlSeconds", 3600L);
+        javaService = gameService(inMemoryGameRepository, mock(TradeScriptRepository.class));
+        scriptService = gameService(mock(GameRepository.class), tradeScriptRepository);
+
+        roomId = "trade-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (arenaHashRepository != null) {
+            arenaHashRepository.delete(roomId);
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("주식 매수 성공 결과가 같은지 테스트")
+    void testBuyStock() throws Exception {
+        assertSameOutcome(arena(), buy(0, 1, 0, 0, 0, 0), "OK");
+    }
+
+    @Test
+    @DisplayName("매수 트랙이 가득 차면 같은 요청 안에서 주가 변동까지 반영되는지 테스트")
+    void testBuyStockFillsTrack() throws Exception {
+        Arena arena = arena();
+        arena.getGame().setStockBuyTrack(new int[]{0, 0, 2, 2, 0, 0});
+
+        assertSameOutcome(arena, buy(0, 1, 0, 0, 0, 0), "OK");
+
+        Game game = arenaHashRepository.find(roomId).orElseThrow().getGame();
+        assertThat(game.getCurrentStockPriceLevel()).isEqualTo(6);
+        assertThat(game.getStockTokensPocket()).containsExactly(0, 5, 0, 0, 0, 0);
+        assertThat(game.getMarketStocks()[1].getState()).containsExactly(3, 3);
+    }
+
+    @Test
+    @DisplayName("주식 매수 검증 실패 결과가 같은지 테스트")
+    void testBuyStockFailures() throws Exception {
+        // 주가 수준 0에서 거래 가능한 토큰은 1개
+        assertSameOutcome(arena(), buy(0, 2, 0, 0, 0, 0), "IMPOSSIBLE_STOCK_CNT");
+        assertSameOutcome(arena(), buy(0, 0, 0, 0, 0, 0), "IMPOSSIBLE_STOCK_CNT");
+        assertSameOutcome(arena(), buy(0, -1, 1, 0, 0, 0), "INVALID_SELL_STOCKS");
+        assertSameOutcome(arena(), buy(0, 0, 1, 0, 0, 0), "STOCK_NOT_AVAILABLE");
+
+        Arena poor = arena();
+        poor.getGame().getPlayers().get(0).setCash(0);
+        assertSameOutcome(poor, buy(0, 1, 0, 0, 0, 0), "INSUFFICIENT_CASH");
+
+        assertSameOutcome(arena(), service -> service.buyStock(
+                new StompPayload<>("BUY_STOCK", roomId, "stranger", new StockRequest(new int[]{0, 1, 0, 0, 0, 0}))), "PLAYER_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("주식 매도 성공 결과와 매도 트랙 초기화가 같은지 테스트")
+    void testSellStock() throws Exception {
+        assertSameOutcome(arena(), sell(0, 1, 0, 0, 0, 0), "OK");
+
+        Arena resetTrack = arena();
+        resetTrack.getGame().setStockSellTrack(new int[]{0, 6, 0, 0, 0, 0});
+        assertSameOutcome(resetTrack, sell(0, 1, 0, 0, 0, 0), "OK");
+        assertThat(arenaHashRepository.find(roomId).orElseThrow().getGame().getStockSellTrack()).containsExactly(2, 2, 2, 2, 2, 2);
+    }
+
+    @Test
+    @DisplayName("주식 매도 검증 실패 결과가 같은지 테스트")
+    void testSellStockFailures() throws Exception {
+        assertSameOutcome(arena(), sell(0, 0, 1, 0, 0, 0), "INVALID_SELL_STOCKS");
+        assertSameOutcome(arena(), sell(0, 2, 0, 0, 0, 0), "IMPOSSIBLE_STOCK_CNT");
+
+        Arena completed = arena();
+        completed.getGame().getPlayers().get(0).setState(PlayerStatus.COMPLETED);
+        assertSameOutcome(completed, sell(0, 1, 0, 0, 0, 0), "PLAYER_STATE_ERROR");
+    }
+
+    @Test
+    @DisplayName("금괴 매입 성공/실패 결과가 같은지 테스트")
+    void testPurchaseGold() throws Exception {
+        assertSameOutcome(arena(), gold(2), "OK");
+        assertSameOutcome(arena(), gold(1000), "OUT_OF_CASH");
+
+        Arena completed = arena();
+        completed.getGame().getPlayers().get(0).setState(PlayerStatus.COMPLETED);
+        assertSameOutcome(completed, gold(1), "PLAYER_STATE_ERROR");
+    }
+
+    @Test
+    @DisplayName("플레이어 목록이 캐시와 다르면 새 목록으로 한 번 더 실행하는지 테스트")
+    void testStalePlayers() throws Exception {
+        // 캐시가 비어 있는 첫 거래도 목록을 받아 다시 실행
+        arenaHashRepository.save(roomId, arena(), ArenaUpdate.all(), 3600, -1);
+        assertThat(scriptService.buyStock(buyPayload(0, 1, 0, 0, 0, 0)).playerNicknames()).containsExactly(SENDER);
+
+        // 게임 중 플레이어가 바뀐 경우
+        Arena changed = arenaHashRepository.find(roomId).orElseThrow();
+        changed.getGame().getPlayers().add(player("player2"));
+        arenaHashRepository.save(roomId, changed, ArenaUpdate.all(), 3600, -1);
+        long version = arenaHashRepository.find(roomId).orElseThrow().getVersion();
+
+        TradeResult result = scriptService.purchaseGold(roomId, "player2", 1);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.playerNicknames()).containsExactly(SENDER, "player2");
+        assertThat(result.playerStocks()).hasSize(2);
+        assertThat(arenaHashRepository.find(roomId).orElseThrow().getVersion()).isEqualTo(version + 1);
+    }
+
+    /**
+     * 같은 Arena를 두 저장소에 넣고 java 방식과 스크립트 방식으로 같은 거래를 실행해 결과와 저장된 Arena를 비교
+     */
+    private void assertSameOutcome(Arena arena, Trade trade, String expected) throws Exception {
+        inMemoryGameRepository.saveArena(roomId, arena);
+        arenaHashRepository.save(roomId, arena, ArenaUpdate.all(), 3600, -1);
+
+        String javaOutcome = outcome(javaService, trade);
+        String scriptOutcome = outcome(scriptService, trade);
+
+        assertThat(javaOutcome).isEqualTo(expected);
+        assertThat(scriptOutcome).isEqualTo(javaOutcome);
+        assertThat(arenaHashRepository.find(roomId).orElseThrow())
+                .usingRecursiveComparison()
+                .ignoringFields("version")
+                .isEqualTo(inMemoryGameRepository.findArenaByRoomId(roomId).orElseThrow());
+    }
+
+    private String outcome(GameServiceImpl service, Trade trade) {
+        try {
+            return trade.run(service).status();
+        } catch (BaseException e) {
+            return e.getStatus().name();
+        } catch (MessageException e) {
+            return e.getStatus().name();
+        }
+    }
+
+    private Trade buy(int... stocks) {
+        return service -> service.buyStock(buyPayload(stocks));
+    }
+
+    private StompPayload<StockRequest> buyPayload(int... stocks) {
+        return new StompPayload<>("BUY_STOCK", roomId, SENDER, new StockRequest(stocks));
+    }
+
+    private Trade sell(int... stocks) {
+        return service -> service.sellStock(roomId, SENDER, stocks);
+    }
+
+    private Trade gold(int count) {
+        return service -> service.purchaseGold(roomId, SENDER, count);
+    }
+
+    private GameServiceImpl gameService(GameRepository gameRepository, TradeScriptRepository tradeScriptRepository) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ArenaCommandExecutor executor = new ArenaCommandExecutor(gameRepository, meterRegistry);
+        ReflectionTestUtils.setField(executor, "maxAttempts", 1);
+        return new GameServiceImpl(mock(RedissonClient.class), mock(GameEventCatalog.class), gameRepository, stockState,
+                meterRegistry, executor, tradeScriptRepository,
+                new RoomMovementRelay(new RoomMovementTracker(), mock(RedissonClient.class), mock(GameNodeRegistry.class), meterRegistry, false));
+    }
+
+    /**
+     * 1번 주식만 시장에 3개, 매도 트랙에 1개 있고 주머니에는 1번 주식 토큰만 있는 Arena (주가 수준 0)
+     */
+    private Arena arena() {
+        StockInfo[] marketStocks = new StockInfo[6];
+        for (int i = 0; i < 6; i++) {
+            marketStocks[i] = new StockInfo(i == 1 ? 3 : 0, new int[]{6, 3});
+        }
+
+        List<Player> players = new ArrayList<>();
+        players.add(player(SENDER));
+
+        Game game = Game.builder()
+                .gameId(roomId)
+                .gameStatus(GameStatus.IN_GAME)
+                .players(players)
+                .round(1)
+                .currentStockPriceLevel(0)
+                .stockTokensPocket(new int[]{0, 10, 0, 0, 0, 0})
+                .marketStocks(marketStocks)
+                .stockSellTrack(new int[]{0, 1, 0, 0, 0, 0})
+                .stockBuyTrack(new int[]{0, 0, 0, 0, 0, 0})
+                .goldBuyTrack(new int[]{0, 0, 0, 0, 0, 0})
+                .goldPrice(20)
+                .goldPriceIncreaseCnt(0)
+                .stockPriceChangeInfo(new int[6][61])
+                .build();
+        return Arena.builder()
+                .roomId(roomId)
+                .message("GAME_INITIALIZED")
+                .game(game)
+                .room(new Room(roomId, SENDER))
+                .build();
+    }
+
+    private Player player(String nickname) {
+        return Player.builder()
+                .nickname(nickname)
+                .position(new double[]{0, 0, 0})
+                .direction(new double[]{0, 0, 0})
+                .carryingStocks(new int[6])
+                .stock(new int[]{0, 1, 0, 0, 0, 0})
+                .cash(1000)
+                .state(PlayerStatus.NOT_STARTED)
+                .build();
+    }
+
+    private boolean isRedisAvailable(StringRedisTemplate stringRedisTemplate) {
+        try {
+            return "PONG".equals(stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.ping()));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
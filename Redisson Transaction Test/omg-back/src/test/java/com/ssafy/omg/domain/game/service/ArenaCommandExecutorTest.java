@@ -0,0 +1,118 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.config.baseresponse.BaseResponseStatus;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.repository.ArenaUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArenaCommandExecutorTest {
+
+    private GameRepository gameRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ArenaCommandExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository = mock(GameRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ArenaCommandExecutor(gameRepository, meterRegistry);
+        ReflectionTestUtils.setField(executor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(executor, "backoffMillis", 0L);
+
+        when(gameRepository.findArenaByRoomId("roomId"))
+                .thenAnswer(invocation -> Optional.of(Arena.builder().roomId("roomId").build()));
+    }
+
+    @Test
+    @DisplayName("버전 충돌 시 Arena를 다시 읽어 명령을 재실행하는지 테스트")
+    void testRetryOnConflict() throws BaseException {
+        when(gameRepository.saveArenaIfVersion(anyString(), any(Arena.class), any(ArenaUpdate.class)))
+                .thenReturn(false, true);
+        AtomicInteger executions = new AtomicInteger();
+
+        int result = executor.execute("roomId", "test", (arena, update) -> {
+            update.andPlayer("player1");
+            return executions.incrementAndGet();
+        });
+
+        assertThat(result).isEqualTo(2);
+        verify(gameRepository, times(2)).findArenaByRoomId("roomId");
+        assertThat(meterRegistry.counter("omg.arena.cas", "action", "test", "result", "conflict").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("omg.arena.cas", "action", "test", "result", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시도마다 Arena 조회/저장 횟수를 카운터에 기록하는지 테스트")
+    void testCountRedisOps() throws BaseException {
+        when(gameRepository.saveArenaIfVersion(anyString(), any(Arena.class), any(ArenaUpdate.class)))
+                .thenReturn(false, true);
+        RedisOpCounter ops = new RedisOpCounter();
+
+        executor.execute("roomId", "test", ops, (arena, update) -> update.andPlayer("player1"));
+        executor.execute("roomId", "test", ops, (arena, update) -> null);
+
+        assertThat(ops.getReads()).isEqualTo(3);
+        assertThat(ops.getWrites()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 사용하면 ARENA_UPDATE_CONFLICT 예외가 발생하는지 테스트")
+    void testConflictExhausted() {
+        when(gameRepository.saveArenaIfVersion(anyString(), any(Arena.class), any(ArenaUpdate.class)))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> executor.run("roomId", "test", (arena, update) -> update.andPlayer("player1")))
+                .isInstanceOf(BaseException.class)
+                .extracting("status")
+                .isEqualTo(BaseResponseStatus.ARENA_UPDATE_CONFLICT);
+        verify(gameRepository, times(3)).saveArenaIfVersion(anyString(), any(Arena.class), any(ArenaUpdate.class));
+    }
+
+    @Test
+    @DisplayName("변경이 없는 명령은 저장하지 않는지 테스트")
+    void testNoSaveWithoutChanges() throws BaseException {
+        executor.run("roomId", "test", (arena, update) -> {
+        });
+
+        verify(gameRepository, never()).saveArenaIfVersion(anyString(), any(Arena.class), any(ArenaUpdate.class));
+    }
+
+    @Test
+    @DisplayName("공유 Arena를 일부 변경한 뒤 명령이 실패하면 실행 전 상태로 되돌리는지 테스트")
+    void testRestoreSharedArenaOnFailure() {
+        Arena shared = Arena.builder().roomId("roomId").message("BEFORE").game(Game.builder().round(1).build()).build();
+        Arena snapshot = Arena.builder().roomId("roomId").message("BEFORE").game(Game.builder().round(1).build()).build();
+        when(gameRepository.findArenaByRoomId("roomId")).thenReturn(Optional.of(shared));
+        when(gameRepository.rollbackSnapshot(shared)).thenReturn(snapshot);
+
+        assertThatThrownBy(() -> executor.run("roomId", "test", (arena, update) -> {
+            arena.setMessage("AFTER");
+            arena.getGame().setRound(2);
+            throw new BaseException(BaseResponseStatus.PLAYER_NOT_FOUND);
+        })).isInstanceOf(BaseException.class);
+
+        assertThat(shared.getMessage()).isEqualTo("BEFORE");
+        assertThat(shared.getGame().getRound()).isEqualTo(1);
+        verify(gameRepository, never()).saveArenaIfVersion(anyString(), any(Arena.class), any(ArenaUpdate.class));
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.omg.domain.game.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BroadcastRateControllerTest {
+
+    private final BroadcastRateController controller = new BroadcastRateController(16, 250, 500, 4, 3);
+
+    @Test
+    @DisplayName("최근에 움직인 방만 빠른 간격을 쓰고, 멈춘 방과 거래소 화면의 방은 느린 간격을 쓰는지 테스트")
+    void testIntervalByMovement() {
+        assertThat(controller.intervalFor(1000, false, 1200)).isEqualTo(16);
+        assertThat(controller.intervalFor(1000, false, 1500)).isEqualTo(250);
+        assertThat(controller.intervalFor(1000, true, 1200)).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("루프가 밀리면 간격을 최대 배수까지 늘리고, 여유가 이어지면 되돌리는지 테스트")
+    void testDegradeOnOverrun() {
+        controller.onLoop(20, 16);
+        controller.onLoop(20, 16);
+        controller.onLoop(20, 16);
+        assertThat(controller.getDegrade()).isEqualTo(4);
+        assertThat(controller.intervalFor(1000, false, 1200)).isEqualTo(64);
+
+        controller.onLoop(2, 16);
+        controller.onLoop(2, 16);
+        assertThat(controller.getDegrade()).isEqualTo(4);
+        controller.onLoop(2, 16);
+        assertThat(controller.getDegrade()).isEqualTo(2);
+    }
+}
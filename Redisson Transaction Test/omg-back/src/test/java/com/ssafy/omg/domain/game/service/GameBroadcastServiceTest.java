@@ -1,68 +1,54 @@
 package com.ssafy.omg.domain.game.service;
 
-import com.ssafy.omg.config.baseresponse.BaseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.omg.domain.arena.entity.Arena;
 import com.ssafy.omg.domain.game.GameRepository;
-import com.ssafy.omg.domain.game.dto.PlayerResponse;
 import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameStatus;
 import com.ssafy.omg.domain.player.entity.Player;
 import com.ssafy.omg.domain.room.entity.Room;
+import com.ssafy.omg.domain.socket.StompFrameEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
-import org.mockito.invocation.InvocationOnMock;
-import org.mockito.stubbing.Answer;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class GameBroadcastServiceTest {
 
-    @Mock
-    private SimpMessageSendingOperations messagingTemplate;
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
-    @Mock
-    private GameRepository gameRepository;
-
-    @InjectMocks
     private GameBroadcastService gameBroadcastService;
-
-    @Captor
-    private ArgumentCaptor<List<PlayerResponse>> captor;
-
-    @Mock
-    private ScheduledExecutorService mockScheduler;
-
-    private Arena testArena;
+    private Game game;
+    private Arena arena;
 
     @BeforeEach
-    void setUp() throws BaseException {
-        MockitoAnnotations.openMocks(this);
-
-        // Mock ScheduledExecutorService creation in the GameBroadcastService
-        when(mockScheduler.scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class)))
-                .thenAnswer(new Answer<Object>() {
-                    @Override
-                    public Object answer(InvocationOnMock invocation) {
-                        ((Runnable) invocation.getArgument(0)).run();
-                        return null;
-                    }
-                });
-
-        // Creating a test Arena with a Game and Players
-        Game game = new Game();
+    void setUp() {
+        gameBroadcastService = new GameBroadcastService(messagingTemplate, gameRepository, meterRegistry, new RoomMovementTracker(),
+                new StompFrameEncoder(new ObjectMapper()));
+        ReflectionTestUtils.setField(gameBroadcastService, "shardCount", 2);
+        ReflectionTestUtils.setField(gameBroadcastService, "intervalMillis", 16L);
+        gameBroadcastService.startShards();
+
+        game = new Game();
+        game.setGameStatus(GameStatus.IN_GAME);
         game.setPlayers(List.of(
                 Player.builder()
                         .nickname("player1")
@@ -73,56 +59,65 @@ class GameBroadcastServiceTest {
                         .nickname("player2")
                         .position(new double[]{1, 1, 1})
                         .direction(new double[]{0, 1, 0})
-                        .build(),
-                Player.builder()
-                        .nickname("player3")
-                        .position(new double[]{2, 2, 2})
-                        .direction(new double[]{0, 0, 1})
-                        .build(),
-                Player.builder()
-                        .nickname("player4")
-                        .position(new double[]{3, 3, 3})
-                        .direction(new double[]{1, 1, 0})
                         .build()
         ));
+        arena = new Arena("room1", "INIT", game, new Room("room1", "host"));
+        when(gameRepository.findArenaByRoomId("room1")).thenReturn(Optional.of(arena));
+    }
 
-        testArena = new Arena("room1", "INIT", game, new Room("room1", "host"));
-
-        when(gameRepository.findArenaByRoomId("room1")).thenReturn(Optional.ofNullable(testArena));
+    @AfterEach
+    void tearDown() {
+        gameBroadcastService.stopShards();
     }
 
     @Test
+    @DisplayName("등록된 방은 샤드 루프에서 프레임을 전송하는지 테스트")
     void testStartBroadcast() throws Exception {
-        // Given
-        String roomId = "room1";
-        when(gameRepository.findArenaByRoomId(roomId)).thenReturn(Optional.ofNullable(testArena));
+        gameBroadcastService.startBroadcast("room1");
+        Thread.sleep(100);
+
+        verify(messagingTemplate, atLeastOnce()).send(eq("/sub/room1/game"), any(Message.class));
+        assertThat(meterRegistry.find("omg.game.broadcast.rooms").gauges())
+                .extracting(gauge -> gauge.value())
+                .contains(1.0);
+    }
 
-        // When
-        gameBroadcastService.startBroadcast(roomId);
+    @Test
+    @DisplayName("등록 해제된 방은 샤드에서 빠지는지 테스트")
+    void testStopBroadcast() {
+        gameBroadcastService.startBroadcast("room1");
+        assertThat(gameBroadcastService.isBroadcasting("room1")).isTrue();
 
-        // Allow some time for the broadcast to occur
-        Thread.sleep(100);  // Adjust this value based on your scheduling delay (e.g., 16ms)
+        gameBroadcastService.stopBroadcast("room1");
 
-        // Then
-        verify(messagingTemplate, atLeastOnce()).convertAndSend(eq("/sub/" + roomId + "/game"), anyList());
+        assertThat(gameBroadcastService.isBroadcasting("room1")).isFalse();
     }
 
     @Test
-    void testStopBroadcast() throws BaseException, InterruptedException {
-        // Given
-        String roomId = "room1";
-        when(gameRepository.findArenaByRoomId(roomId)).thenReturn(Optional.ofNullable(testArena));
+    @DisplayName("게임이 종료되거나 Arena가 없어지면 스스로 등록 해제되는지 테스트")
+    void testDeregisterWhenGameEnds() throws Exception {
+        when(gameRepository.findArenaByRoomId("room2")).thenReturn(Optional.empty());
+        gameBroadcastService.startBroadcast("room1");
+        gameBroadcastService.startBroadcast("room2");
+
+        game.setGameStatus(GameStatus.GAME_FINISHED);
+        Thread.sleep(100);
 
-        // Start broadcast (which uses the mockScheduler)
-        gameBroadcastService.startBroadcast(roomId);
+        assertThat(gameBroadcastService.isBroadcasting("room1")).isFalse();
+        assertThat(gameBroadcastService.isBroadcasting("room2")).isFalse();
+    }
 
-        assertThat(gameBroadcastService.getSchedulerMap().containsKey(roomId)).isTrue();
-        Thread.sleep(200);
+    @Test
+    @DisplayName("플레이어 액션이 Arena를 변경하는 동안(모니터 보유 중)에는 프레임을 만들지 않는지 테스트")
+    void testReadsUnderArenaMonitor() throws Exception {
+        synchronized (arena) {
+            gameBroadcastService.startBroadcast("room1");
+            Thread.sleep(100);
 
-        // When
-        gameBroadcastService.stopBroadcast(roomId);
+            verify(messagingTemplate, never()).send(eq("/sub/room1/game"), any(Message.class));
+        }
+        Thread.sleep(100);
 
-        // Then
-        assertThat(gameBroadcastService.getSchedulerMap().containsKey(roomId)).isFalse();
+        verify(messagingTemplate, atLeastOnce()).send(eq("/sub/room1/game"), any(Message.class));
     }
 }
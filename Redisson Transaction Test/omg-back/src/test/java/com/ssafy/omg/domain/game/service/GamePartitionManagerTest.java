@@ -0,0 +1,37 @@
+package com.ssafy.omg.domain.game.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GamePartitionManagerTest {
+
+    private static final int PARTITIONS = 16;
+
+    @Test
+    @DisplayName("모든 파티션이 살아있는 노드 중 하나에 배정되고 노드 순서와 관계없이 같은 결과가 나오는지 테스트")
+    void testAssignIsDeterministic() {
+        Map<Integer, String> assignment = GamePartitionManager.assign(List.of("node-a", "node-b", "node-c"), PARTITIONS);
+
+        assertThat(assignment).hasSize(PARTITIONS);
+        assertThat(assignment.values()).allMatch(node -> List.of("node-a", "node-b", "node-c").contains(node));
+        assertThat(GamePartitionManager.assign(List.of("node-c", "node-a", "node-b"), PARTITIONS)).isEqualTo(assignment);
+    }
+
+    @Test
+    @DisplayName("노드가 추가되면 새 노드가 맡는 파티션만 옮겨지는지 테스트")
+    void testAssignMovesOnlyPartitionsOfNewNode() {
+        Map<Integer, String> before = GamePartitionManager.assign(List.of("node-a", "node-b"), PARTITIONS);
+        Map<Integer, String> after = GamePartitionManager.assign(List.of("node-a", "node-b", "node-c"), PARTITIONS);
+
+        after.forEach((partition, node) -> {
+            if (!node.equals("node-c")) {
+                assertThat(before.get(partition)).isEqualTo(node);
+            }
+        });
+    }
+}
@@ -0,0 +1,238 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.config.baseresponse.BaseException;
+import com.ssafy.omg.domain.arena.entity.Arena;
+import com.ssafy.omg.domain.game.GameRepository;
+import com.ssafy.omg.domain.game.entity.Game;
+import com.ssafy.omg.domain.game.entity.GameStatus;
+import com.ssafy.omg.domain.game.entity.RoundStatus;
+import com.ssafy.omg.domain.game.entity.StockState;
+import com.ssafy.omg.util.HashedTimerWheel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameSchedulerTest {
+
+    private static final long START = 1_000_000L;
+    private static final String ROOM_ID = "ABCDE12345";
+    private static final long TICK_BUDGET_MILLIS = 10;
+
+    private final GameService gameService = mock(GameService.class);
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    private final ArenaCommandExecutor arenaCommandExecutor = mock(ArenaCommandExecutor.class);
+    private final GamePartitionManager partitionManager = mock(GamePartitionManager.class);
+    private final HashedTimerWheel timerWheel = mock(HashedTimerWheel.class);
+    private final RLock lock = mock(RLock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GameScheduler gameScheduler;
+    private GameMessageOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        gameScheduler = new GameScheduler(gameService, messagingTemplate, new StockState(),
+                redissonClient, arenaCommandExecutor,
+                meterRegistry, partitionManager);
+        outbox = new GameMessageOutbox(messagingTemplate);
+
+        // 게임마다 락을 잡고 틱하는 경로 (tick)
+        ReflectionTestUtils.setField(gameScheduler, "tickIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(gameScheduler, "tickBudgetMillis", TICK_BUDGET_MILLIS);
+        ReflectionTestUtils.setField(gameScheduler, "timerWheel", timerWheel);
+        when(partitionManager.owns(ROOM_ID)).thenReturn(true);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(timerWheel.schedule(any(Runnable.class), anyLong())).thenReturn(mock(HashedTimerWheel.Timeout.class));
+    }
+
+    @Test
+    @DisplayName("남은 시간만 줄어드는 초는 저장할 변경으로 보지 않는지 테스트")
+    void testCountdownDoesNotRequireSave() throws BaseException {
+        Game game = game(RoundStatus.ROUND_END, 3, START + 3000);
+
+        boolean changed = gameScheduler.updateRoundStatus(game, outbox, START + 1000, 0);
+
+        assertThat(changed).isFalse();
+        assertThat(game.getTime()).isEqualTo(2);
+        assertThat(game.getRoundStatus()).isEqualTo(RoundStatus.ROUND_END);
+    }
+
+    @Test
+    @DisplayName("틱이 늦어져도 마감 시각 기준으로 밀린 초를 처리하고 다음 상태는 원래 마감 시각부터 시작하는지 테스트")
+    void testCatchUpAfterStall() throws BaseException {
+        Game game = game(RoundStatus.ROUND_START, 3, START + 3000);
+
+        // 3초 동안 틱이 없다가 한 번에 처리
+        boolean changed = gameScheduler.updateRoundStatus(game, outbox, START + 3500, 0);
+        outbox.flush();
+
+        assertThat(changed).isTrue();
+        assertThat(game.getRoundStatus()).isEqualTo(RoundStatus.APPLY_PREVIOUS_EVENT);
+        assertThat(game.getTime()).isEqualTo(5);
+        assertThat(game.getPhaseEndsAt()).isEqualTo(START + 3000 + 5000);
+        // 건너뛴 2초 시점의 라운드 시작 알림도 전송
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("이 노드가 이미 처리한 초는 메세지를 다시 보내지 않는지 테스트")
+    void testProcessedSecondsAreNotRepeated() throws BaseException {
+        Game game = game(RoundStatus.ROUND_START, 3, START + 3000);
+
+        // 2초 시점은 이전 틱에서 처리했지만 변경이 없어 저장되지 않은 상태
+        gameScheduler.updateRoundStatus(game, outbox, START + 2000, START + 1000);
+        outbox.flush();
+
+        assertThat(game.getTime()).isEqualTo(1);
+        verify(messagingTemplate, times(0)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("이전 이벤트 반영 상태가 끝나면 같은 상태를 반복하지 않고 경제 뉴스로 넘어가는지 테스트")
+    void testApplyPreviousEventMovesToEconomicEventNews() throws BaseException {
+        Game game = game(RoundStatus.APPLY_PREVIOUS_EVENT, 4, START + 4000);
+
+        boolean changed = gameScheduler.updateRoundStatus(game, outbox, START + 4000, 0);
+
+        assertThat(changed).isTrue();
+        assertThat(game.getRoundStatus()).isEqualTo(RoundStatus.ECONOMIC_EVENT_NEWS);
+        assertThat(game.getTime()).isEqualTo(RoundStatus.ECONOMIC_EVENT_NEWS.getDuration());
+        assertThat(game.getPhaseEndsAt()).isEqualTo(START + 4000 + 5000);
+    }
+
+    @Test
+    @DisplayName("경제 뉴스가 끝나 라운드 진행으로 넘어가는 순간 120초의 주식 시장 정보를 보내는지 테스트")
+    void testStockMarketInfoOnRoundEntry() throws BaseException {
+        Game game = game(RoundStatus.ECONOMIC_EVENT_NEWS, 1, START + 1000);
+
+        boolean changed = gameScheduler.updateRoundStatus(game, outbox, START + 1000, 0);
+        outbox.flush();
+
+        assertThat(changed).isTrue();
+        assertThat(game.getRoundStatus()).isEqualTo(RoundStatus.ROUND_IN_PROGRESS);
+        assertThat(game.getTime()).isEqualTo(120);
+        assertThat(game.getPhaseEndsAt()).isEqualTo(START + 1000 + 120_000);
+        verify(gameService).setStockPriceChangeInfo(game, 1, 120);
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("초 사이에 거래로 바뀐 주가 변동은 다음 초의 틱에서 정지를 시작하고, 재개 후 남은 시간을 이어가는지 테스트")
+    void testStockFluctuationSetBetweenSeconds() throws BaseException {
+        Game game = game(RoundStatus.ROUND_IN_PROGRESS, 95, START + 95_000);
+        // START + 300에 처리된 매도가 주가 변동 상태로 바꿈
+        game.setRoundStatus(RoundStatus.STOCK_FLUCTUATION);
+
+        boolean changed = gameScheduler.updateRoundStatus(game, outbox, START + 1000, START);
+
+        assertThat(changed).isTrue();
+        assertThat(game.isPaused()).isTrue();
+        assertThat(game.getPauseEndsAt()).isEqualTo(START + 1000 + 5000);
+        assertThat(game.getTime()).isEqualTo(95);
+        verify(gameService).changeStockPrice(game);
+
+        gameScheduler.updateRoundStatus(game, outbox, START + 6000, START + 1000);
+
+        assertThat(game.getRoundStatus()).isEqualTo(RoundStatus.ROUND_IN_PROGRESS);
+        assertThat(game.isPaused()).isFalse();
+        assertThat(game.getPhaseEndsAt()).isEqualTo(START + 6000 + 95_000);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 게임 락을 가지고 있으면 기다리지 않고 이번 틱을 건너뛰고 다음 틱을 등록하는지 테스트")
+    void testTickSkipsWhenLockBusy() throws Exception {
+        when(lock.tryLock(0, TICK_BUDGET_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(false);
+        long deadline = System.currentTimeMillis();
+
+        ReflectionTestUtils.invokeMethod(gameScheduler, "tick", ROOM_ID, deadline);
+
+        verify(arenaCommandExecutor, never()).execute(anyString(), anyString(), any(RedisOpCounter.class), any());
+        verify(lock, never()).unlock();
+        GameTickStats.Snapshot stats = gameScheduler.getTickStats(ROOM_ID);
+        assertThat(stats.skipped()).isEqualTo(1);
+        assertThat(stats.ticks()).isZero();
+        assertThat(meterRegistry.counter("omg.game.tick", "result", "lock_busy").count()).isEqualTo(1);
+        verify(timerWheel).schedule(any(Runnable.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("예산을 넘긴 틱은 초과로 기록하고, 임대 시간이 지나 풀린 락은 해제하지 않고 계속 진행하는지 테스트")
+    void testTickOverBudget() throws Exception {
+        when(lock.tryLock(0, TICK_BUDGET_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(true);
+        long deadline = System.currentTimeMillis();
+        long nextDueAt = deadline + 1000;
+        when(arenaCommandExecutor.<Long, RuntimeException>execute(eq(ROOM_ID), eq("tick"), any(RedisOpCounter.class), any()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(TICK_BUDGET_MILLIS * 3);
+                    return nextDueAt;
+                });
+        // 락 임대 시간(틱 예산)이 지나 이미 풀린 락
+        doThrow(new IllegalMonitorStateException()).when(lock).unlock();
+
+        ReflectionTestUtils.invokeMethod(gameScheduler, "tick", ROOM_ID, deadline);
+
+        GameTickStats.Snapshot stats = gameScheduler.getTickStats(ROOM_ID);
+        assertThat(stats.ticks()).isEqualTo(1);
+        assertThat(stats.overBudget()).isEqualTo(1);
+        assertThat(stats.lastDurationMillis()).isGreaterThanOrEqualTo(TICK_BUDGET_MILLIS * 3);
+        assertThat(meterRegistry.counter("omg.game.tick", "result", "success").count()).isEqualTo(1);
+        verify(timerWheel).schedule(any(Runnable.class), eq(nextDueAt));
+    }
+
+    @Test
+    @DisplayName("일괄 틱에서 처리 중 예외가 나면 공유 Arena를 처리 전 상태로 되돌리고 저장하지 않는지 테스트")
+    void testTickBatchRestoresArenaOnFailure() {
+        GameRepository gameRepository = mock(GameRepository.class);
+        ReflectionTestUtils.setField(gameScheduler, "gameRepository", gameRepository);
+        long now = System.currentTimeMillis();
+        // 101초의 남은 시간 알림은 처리되고, 100초의 주식 시장 정보 전송에서 예외
+        Arena arena = Arena.builder().roomId(ROOM_ID).game(game(RoundStatus.ROUND_IN_PROGRESS, 102, now + 99_500)).build();
+        Game before = game(RoundStatus.ROUND_IN_PROGRESS, 102, now + 99_500);
+        when(gameRepository.findArenasByRoomIds(List.of(ROOM_ID))).thenReturn(Map.of(ROOM_ID, arena));
+        when(gameRepository.rollbackSnapshot(arena)).thenReturn(Arena.builder().roomId(ROOM_ID).game(before).build());
+        doThrow(new IllegalStateException("stock market")).when(gameService).setStockPriceChangeInfo(any(Game.class), anyInt(), anyInt());
+        Map<String, Long> games = new HashMap<>(Map.of(ROOM_ID, 0L));
+
+        ReflectionTestUtils.invokeMethod(gameScheduler, "tickBatch", games, List.of(ROOM_ID), 0L);
+
+        assertThat(arena.getGame()).isSameAs(before);
+        assertThat(arena.getGame().getTime()).isEqualTo(102);
+        verify(gameRepository, never()).saveArenasIfVersion(any());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private Game game(RoundStatus roundStatus, int time, long phaseEndsAt) {
+        return Game.builder()
+                .gameId("ABCDE12345")
+                .gameStatus(GameStatus.IN_GAME)
+                .players(List.of())
+                .round(1)
+                .roundStatus(roundStatus)
+                .time(time)
+                .phaseEndsAt(phaseEndsAt)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.omg.domain.game.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PlayerMessageSenderTest {
+
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private final PlayerMessageSender playerMessageSender = new PlayerMessageSender(messagingTemplate);
+
+    @Test
+    @DisplayName("개인 메세지는 묶인 세션이 없어도 방 토픽으로 보내지 않는지 테스트")
+    void testNeverFallsBackToRoomTopic() {
+        ReflectionTestUtils.setField(playerMessageSender, "privateDestination", true);
+
+        playerMessageSender.sendToPlayer("ABCDE12345", "player1", "payload");
+
+        verify(messagingTemplate).convertAndSendToUser("ABCDE12345:player1", PlayerMessageSender.PLAYER_QUEUE, "payload");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("호환 설정을 끄면 이전처럼 방 토픽으로 보내는지 테스트")
+    void testRoomTopicOnlyWhenDisabled() {
+        ReflectionTestUtils.setField(playerMessageSender, "privateDestination", false);
+
+        playerMessageSender.sendToPlayer("ABCDE12345", "player1", "payload");
+
+        verify(messagingTemplate).convertAndSend("/sub/ABCDE12345/game", (Object) "payload");
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,75 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.domain.game.dto.PlayerStateDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerStateBaselineTest {
+
+    private static final double EPSILON = 0.01;
+
+    @Test
+    @DisplayName("기준 상태에서 epsilon보다 많이 움직였거나 액션을 한 플레이어만 델타에 담기는지 테스트")
+    void testDelta() {
+        PlayerStateBaseline baseline = new PlayerStateBaseline();
+        List<PlayerStateDto> initial = List.of(state("p1", 0, false), state("p2", 0, false), state("p3", 0, false));
+        assertThat(baseline.needsKeyframe(initial, 60)).isTrue();
+        baseline.keyframe(initial);
+
+        List<PlayerStateDto> next = List.of(state("p1", 0.005, false), state("p2", 1, false), state("p3", 0, true));
+        assertThat(baseline.needsKeyframe(next, 60)).isFalse();
+
+        assertThat(baseline.delta(next, EPSILON, 0))
+                .extracting(PlayerStateDto::nickname)
+                .containsExactly("p2", "p3");
+        // 같은 상태가 다시 오면 보낼 플레이어가 없다.
+        assertThat(baseline.delta(List.of(state("p1", 0.005, false), state("p2", 1, false), state("p3", 0, false)), EPSILON, 0))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("주기, 구독 요청, 플레이어 구성 변경 시 키프레임이 필요한지 테스트")
+    void testNeedsKeyframe() {
+        PlayerStateBaseline baseline = new PlayerStateBaseline();
+        List<PlayerStateDto> states = List.of(state("p1", 0, false), state("p2", 0, false));
+        baseline.keyframe(states);
+
+        baseline.delta(states, EPSILON, 0);
+        assertThat(baseline.needsKeyframe(states, 3)).isFalse();
+        baseline.delta(states, EPSILON, 0);
+        assertThat(baseline.needsKeyframe(states, 3)).isTrue();
+
+        baseline.keyframe(states);
+        assertThat(baseline.needsKeyframe(List.of(state("p1", 0, false), state("p4", 0, false)), 60)).isTrue();
+        assertThat(baseline.needsKeyframe(List.of(state("p1", 0, false)), 60)).isTrue();
+
+        baseline.requestKeyframe();
+        assertThat(baseline.needsKeyframe(states, 60)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이동 시퀀스가 그대로면 프레임을 건너뛰고 하트비트 간격마다 키프레임을 보내는지 테스트")
+    void testShouldEmit() {
+        PlayerStateBaseline baseline = new PlayerStateBaseline();
+        List<PlayerStateDto> states = List.of(state("p1", 0, false));
+        assertThat(baseline.shouldEmit(0, 0, 1000, 0)).isTrue();
+        baseline.keyframe(states);
+        baseline.emitted(0, 0);
+
+        assertThat(baseline.shouldEmit(0, 500, 1000, 0)).isFalse();
+        assertThat(baseline.shouldEmit(1, 500, 1000, 0)).isTrue();
+        baseline.emitted(1, 500);
+
+        assertThat(baseline.shouldEmit(1, 1499, 1000, 0)).isFalse();
+        assertThat(baseline.shouldEmit(1, 1500, 1000, 0)).isTrue();
+        assertThat(baseline.needsKeyframe(states, 60)).isTrue();
+    }
+
+    private PlayerStateDto state(String nickname, double x, boolean actionToggle) {
+        return new PlayerStateDto(nickname, new double[]{x, 0, 0}, new double[]{1, 0, 0}, actionToggle);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.omg.domain.game.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomMovementRelayTest {
+
+    private final RTopic topic = mock(RTopic.class);
+    private final RoomMovementTracker tracker = new RoomMovementTracker();
+    private RoomMovementRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(topic);
+        GameNodeRegistry nodeRegistry = mock(GameNodeRegistry.class);
+        when(nodeRegistry.getNodeId()).thenReturn("node-a");
+        relay = new RoomMovementRelay(tracker, redissonClient, nodeRegistry, new SimpleMeterRegistry(), true);
+    }
+
+    @Test
+    @DisplayName("이 노드에서 브로드캐스트 중인 방은 바로 반영하고, 아니면 다른 노드로 발행하는지 테스트")
+    void testMarkMoved() {
+        tracker.register("ABCDE12345");
+
+        relay.markMoved("ABCDE12345");
+        assertThat(tracker.sequence("ABCDE12345")).isEqualTo(1);
+        verify(topic, never()).publish(any());
+
+        relay.markMoved("FGHIJ67890");
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(topic).publish(published.capture());
+        RoomMovementRelay.Movement movement = RoomMovementRelay.decode((byte[]) published.getValue());
+        assertThat(movement.nodeId()).isEqualTo("node-a");
+        assertThat(movement.roomId()).isEqualTo("FGHIJ67890");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 이동만 이 노드에서 브로드캐스트 중인 방에 반영하는지 테스트")
+    void testReceiveOnlyOtherNodes() {
+        tracker.register("ABCDE12345");
+
+        relay.receive(RoomMovementRelay.encode(new RoomMovementRelay.Movement("node-a", "ABCDE12345")));
+        assertThat(tracker.sequence("ABCDE12345")).isZero();
+
+        relay.receive(RoomMovementRelay.encode(new RoomMovementRelay.Movement("node-b", "ABCDE12345")));
+        relay.receive(RoomMovementRelay.encode(new RoomMovementRelay.Movement("node-b", "FGHIJ67890")));
+        assertThat(tracker.sequence("ABCDE12345")).isEqualTo(1);
+        assertThat(tracker.isTracked("FGHIJ67890")).isFalse();
+    }
+}
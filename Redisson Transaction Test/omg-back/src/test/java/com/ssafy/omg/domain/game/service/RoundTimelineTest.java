@@ -0,0 +1,221 @@
+package com.ssafy.omg.domain.game.service;
+
+import com.ssafy.omg.domain.game.entity.RoundStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static com.ssafy.omg.domain.game.entity.RoundStatus.PREPARING_NEXT_ROUND;
+import static com.ssafy.omg.domain.game.entity.RoundStatus.ROUND_END;
+import static com.ssafy.omg.domain.game.entity.RoundStatus.ROUND_IN_PROGRESS;
+import static com.ssafy.omg.domain.game.entity.RoundStatus.ROUND_START;
+import static com.ssafy.omg.domain.game.entity.RoundStatus.TUTORIAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoundTimelineTest {
+
+    private static final RoundTimeline.RoundAction NO_OP = (game, outbox, latest) -> false;
+    private static final int ROUNDS = 10;
+
+    private final RoundTimeline timeline = RoundTimeline.builder()
+            .phase(TUTORIAL)
+            .then(ROUND_START)
+            .phase(ROUND_START)
+            .at(NO_OP, 2)
+            .then(RoundStatus.APPLY_PREVIOUS_EVENT)
+            .phase(RoundStatus.APPLY_PREVIOUS_EVENT)
+            .at(NO_OP, 4)
+            .then(RoundStatus.ECONOMIC_EVENT_NEWS)
+            .phase(RoundStatus.ECONOMIC_EVENT_NEWS)
+            .at(NO_OP, 4)
+            .then(ROUND_IN_PROGRESS)
+            .phase(ROUND_IN_PROGRESS)
+            .everySecond(NO_OP)
+            .at(NO_OP, 30, 10)
+            .at(NO_OP, 120, 100, 80, 60, 40, 20)
+            .then(ROUND_END)
+            .phase(ROUND_END)
+            .at(NO_OP, 2)
+            .then(PREPARING_NEXT_ROUND)
+            .phase(PREPARING_NEXT_ROUND)
+            .at(NO_OP, 4)
+            .at(NO_OP, 0)
+            .then(ROUND_START)
+            .build();
+
+    @Test
+    @DisplayName("동작이 없는 초는 건너뛰고 다음 동작이 있는 초를 찾는지 테스트")
+    void testNextActionSecond() {
+        RoundTimeline.Phase tutorial = timeline.phase(TUTORIAL);
+        assertThat(tutorial.nextActionSecond(20)).isZero();
+        assertThat(tutorial.nextActionSecond(0)).isEqualTo(-1);
+
+        RoundTimeline.Phase inProgress = timeline.phase(ROUND_IN_PROGRESS);
+        assertThat(inProgress.nextActionSecond(120)).isEqualTo(119);
+        assertThat(inProgress.nextActionSecond(119)).isEqualTo(118);
+        // 진입 시점(120초)의 동작은 남은 시간 알림 없이 주식 시장 정보만
+        assertThat(inProgress.actionsAt(120)).hasSize(1);
+        assertThat(inProgress.actionsAt(119)).hasSize(1);
+        assertThat(inProgress.actionsAt(100)).hasSize(2);
+        assertThat(inProgress.actionsAt(0)).hasSize(1);
+
+        RoundTimeline.Phase roundStart = timeline.phase(ROUND_START);
+        assertThat(roundStart.nextActionSecond(3)).isEqualTo(2);
+        assertThat(roundStart.nextActionSecond(2)).isZero();
+
+        RoundTimeline.Phase preparing = timeline.phase(PREPARING_NEXT_ROUND);
+        assertThat(preparing.nextActionSecond(4)).isZero();
+        assertThat(preparing.actionsAt(0)).hasSize(1);
+        assertThat(preparing.getNext()).isEqualTo(ROUND_START);
+    }
+
+    @Test
+    @DisplayName("진행 시간을 벗어난 동작 시점이나 다음 상태가 없는 상태는 선언할 수 없는지 테스트")
+    void testInvalidDeclaration() {
+        assertThatThrownBy(() -> RoundTimeline.builder().phase(ROUND_END).at(NO_OP, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RoundTimeline.builder().phase(RoundStatus.STOCK_FLUCTUATION))
+                .isInstanceOf(IllegalArgumentException.class);
+        RoundTimeline.Builder builder = RoundTimeline.builder();
+        builder.phase(ROUND_END);
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("게임 하나의 전체 진행을 매 초 분기로 평가할 때와 진행 표로 평가할 때 비교")
+    void benchmarkTimelineAgainstSwitch() {
+        int warmup = 20_000;
+        int iterations = 50_000;
+
+        long switchResult = 0;
+        long timelineResult = 0;
+        for (int i = 0; i < warmup; i++) {
+            switchResult += runWithSwitch();
+            timelineResult += runWithTimeline();
+        }
+
+        long switchStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            switchResult += runWithSwitch();
+        }
+        long switchNanos = System.nanoTime() - switchStart;
+
+        long timelineStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            timelineResult += runWithTimeline();
+        }
+        long timelineNanos = System.nanoTime() - timelineStart;
+
+        System.out.printf("%-10s %5d evaluations/game | %8.2f us/game%n",
+                "switch", evaluationsWithSwitch(), switchNanos / 1000.0 / iterations);
+        System.out.printf("%-10s %5d evaluations/game | %8.2f us/game%n",
+                "timeline", evaluationsWithTimeline(), timelineNanos / 1000.0 / iterations);
+        assertThat(switchResult).isEqualTo(timelineResult);
+    }
+
+    // 전체 진행에서 실행한 동작 수, 두 방식의 결과가 같은지 확인하는 용도
+    private long runWithTimeline() {
+        long actions = 0;
+        RoundStatus status = TUTORIAL;
+        int time = status.getDuration();
+        int round = 1;
+        while (round <= ROUNDS) {
+            RoundTimeline.Phase phase = timeline.phase(status);
+            int second = phase.nextActionSecond(time);
+            time = second;
+            actions += phase.actionsAt(second).length;
+            if (status == PREPARING_NEXT_ROUND && second == 4) {
+                round++;
+            }
+            if (second == 0) {
+                status = phase.getNext();
+                time = status.getDuration();
+                actions += timeline.phase(status).actionsAt(time).length;
+            }
+        }
+        return actions;
+    }
+
+    // 변경 전 스케줄러와 같이 매 초 상태별 분기와 남은 시간 비교로 동작을 찾는다. (진입 시점의 주식 시장 정보는 119초에 보냈음)
+    private long runWithSwitch() {
+        long actions = 0;
+        RoundStatus status = TUTORIAL;
+        int time = status.getDuration();
+        int round = 1;
+        while (round <= ROUNDS) {
+            time--;
+            RoundStatus next = null;
+            switch (status) {
+                case TUTORIAL -> {
+                    if (time == 0) next = ROUND_START;
+                }
+                case ROUND_START -> {
+                    if (time == 2) actions++;
+                    else if (time == 0) next = RoundStatus.APPLY_PREVIOUS_EVENT;
+                }
+                case APPLY_PREVIOUS_EVENT -> {
+                    if (time == 4) actions++;
+                    else if (time == 0) next = RoundStatus.ECONOMIC_EVENT_NEWS;
+                }
+                case ECONOMIC_EVENT_NEWS -> {
+                    if (time == 4) actions++;
+                    else if (time == 0) next = ROUND_IN_PROGRESS;
+                }
+                case ROUND_IN_PROGRESS -> {
+                    actions++;
+                    if (time == 30 || time == 10) actions++;
+                    else if (time == 0) next = ROUND_END;
+                    else if (time == 119 || time % 20 == 0) actions++;
+                }
+                case ROUND_END -> {
+                    if (time == 2) actions++;
+                    else if (time == 0) next = PREPARING_NEXT_ROUND;
+                }
+                case PREPARING_NEXT_ROUND -> {
+                    if (time == 4) {
+                        actions++;
+                        round++;
+                    } else if (time == 0) {
+                        actions++;
+                        next = ROUND_START;
+                    }
+                }
+                default -> throw new IllegalStateException();
+            }
+            if (next != null) {
+                status = next;
+                time = status.getDuration();
+            }
+        }
+        return actions;
+    }
+
+    private int evaluationsWithSwitch() {
+        int perRound = ROUND_START.getDuration() + RoundStatus.APPLY_PREVIOUS_EVENT.getDuration()
+                + RoundStatus.ECONOMIC_EVENT_NEWS.getDuration() + ROUND_IN_PROGRESS.getDuration()
+                + ROUND_END.getDuration() + PREPARING_NEXT_ROUND.getDuration();
+        return TUTORIAL.getDuration() + perRound * ROUNDS;
+    }
+
+    private int evaluationsWithTimeline() {
+        int evaluations = 0;
+        RoundStatus status = TUTORIAL;
+        int time = status.getDuration();
+        int round = 1;
+        while (round <= ROUNDS) {
+            RoundTimeline.Phase phase = timeline.phase(status);
+            time = phase.nextActionSecond(time);
+            evaluations++;
+            if (status == PREPARING_NEXT_ROUND && time == 4) {
+                round++;
+            }
+            if (time == 0) {
+                status = phase.getNext();
+                time = status.getDuration();
+            }
+        }
+        return evaluations;
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssafy.omg.domain.socket;
+
+import com.ssafy.omg.domain.game.service.GameNodeRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisStompFanoutTest {
+
+    private final RTopic topic = mock(RTopic.class);
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private RedisStompFanout fanout;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(topic);
+        GameNodeRegistry nodeRegistry = mock(GameNodeRegistry.class);
+        when(nodeRegistry.getNodeId()).thenReturn("node-a");
+        ObjectProvider<SimpMessageSendingOperations> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(messagingTemplate);
+        fanout = new RedisStompFanout(redissonClient, nodeRegistry, provider, new SimpleMeterRegistry(), true);
+    }
+
+    @Test
+    @DisplayName("방 토픽과 개인 목적지 메세지만 발행하고, 다른 노드에서 받은 메세지는 다시 발행하지 않는지 테스트")
+    void testPublishFilter() {
+        fanout.preSend(message("/sub/ABCDE12345/game", false), mock(MessageChannel.class));
+        assertThat(fanout.shouldPublish(message("/sub/ABCDE12345/chat", false))).isTrue();
+        assertThat(fanout.shouldPublish(message("/user/ABCDE12345:player1/queue/game", false))).isTrue();
+        assertThat(fanout.shouldPublish(message("/sub/ABCDE12345/other", false))).isFalse();
+        assertThat(fanout.shouldPublish(message("/queue/game-usersession1", false))).isFalse();
+        assertThat(fanout.shouldPublish(message("/sub/ABCDE12345/game", true))).isFalse();
+
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(topic).publish(published.capture());
+        RedisStompFanout.Envelope envelope = RedisStompFanout.decode((byte[]) published.getValue());
+        assertThat(envelope.nodeId()).isEqualTo("node-a");
+        assertThat(envelope.destination()).isEqualTo("/sub/ABCDE12345/game");
+        assertThat(envelope.contentType()).isEqualTo("application/json");
+        assertThat(new String(envelope.payload())).isEqualTo("{\"type\":\"PLAYER_STATE\"}");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 메세지만 로컬 브로커로 전달하는지 테스트")
+    void testRelayOnlyOtherNodes() {
+        byte[] payload = "{}".getBytes();
+        fanout.relay(RedisStompFanout.encode(new RedisStompFanout.Envelope("node-a", "/sub/ABCDE12345/game", "", payload)));
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+
+        fanout.relay(RedisStompFanout.encode(new RedisStompFanout.Envelope("node-b", "/sub/ABCDE12345/game", "application/json", payload)));
+        ArgumentCaptor<Message<?>> relayed = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/sub/ABCDE12345/game"), relayed.capture());
+        assertThat(relayed.getValue().getHeaders()).containsKey(RedisStompFanout.RELAYED_HEADER);
+        assertThat(fanout.shouldPublish(relayed.getValue())).isFalse();
+    }
+
+    private Message<byte[]> message(String destination, boolean relayed) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (relayed) {
+            accessor.setHeader(RedisStompFanout.RELAYED_HEADER, Boolean.TRUE);
+        }
+        return MessageBuilder.createMessage("{\"type\":\"PLAYER_STATE\"}".getBytes(), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,141 @@
+package com.ssafy.omg.domain.socket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.omg.config.JacksonConfig;
+import com.ssafy.omg.domain.game.dto.PlayerStateDto;
+import com.ssafy.omg.domain.socket.dto.StompResponsePayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StompFrameEncoderTest {
+
+    private static final String DESTINATION = "/sub/room1/game";
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final StompFrameEncoder encoder = new StompFrameEncoder(objectMapper);
+
+    private final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    private final SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(
+            new ExecutorSubscribableChannel(), clientOutboundChannel, brokerChannel, List.of("/sub"));
+    private final SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+
+    // 세션으로 나간 메세지 본문
+    private final List<Object> delivered = new ArrayList<>();
+    private final MessageHandler recorder = message -> delivered.add(message.getPayload());
+
+    private void startBroker(int subscribers) {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        template.setMessageConverter(converter);
+        clientOutboundChannel.subscribe(recorder);
+        broker.start();
+        for (int i = 0; i < subscribers; i++) {
+            // 방 채널 하나를 모두가 구독하고, 세션별 채널도 하나씩 구독
+            subscribe("session" + i, "room-" + i, DESTINATION);
+            subscribe("session" + i, "own-" + i, DESTINATION + "/" + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+    }
+
+    @Test
+    @DisplayName("한 번 직렬화한 메세지를 보내면 모든 구독 세션이 같은 바이트 배열을 받는지 테스트")
+    void testSubscribersShareEncodedBytes() throws Exception {
+        startBroker(4);
+        StompResponsePayload<List<PlayerStateDto>> payload = payload();
+        Message<?> encoded = encoder.encode(payload);
+
+        template.send(DESTINATION, encoded);
+
+        assertThat(delivered).hasSize(4);
+        Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(delivered);
+        assertThat(distinct).hasSize(1).containsExactly(encoded.getPayload());
+        assertThat((byte[]) encoded.getPayload()).isEqualTo(objectMapper.writeValueAsBytes(payload));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("구독자 4/40/400명에게 프레임 하나를 보낼 때 구독자마다 직렬화하는 경우와 한 번 직렬화해 공유하는 경우 비교")
+    void benchmarkFanout() {
+        for (int subscribers : new int[]{4, 40, 400}) {
+            delivered.clear();
+            startBroker(subscribers);
+            StompResponsePayload<List<PlayerStateDto>> payload = payload();
+            int warmup = 20_000 / subscribers + 100;
+            int iterations = 200_000 / subscribers + 100;
+
+            Runnable perSubscriber = () -> {
+                for (int i = 0; i < subscribers; i++) {
+                    template.convertAndSend(DESTINATION + "/" + i, payload);
+                }
+            };
+            Runnable encodeOncePerSubscriber = () -> {
+                Message<?> encoded = encoder.encode(payload);
+                for (int i = 0; i < subscribers; i++) {
+                    template.send(DESTINATION + "/" + i, encoded);
+                }
+            };
+            Runnable encodeOnceShared = () -> template.send(DESTINATION, encoder.encode(payload));
+
+            benchmark(subscribers, "convertAndSend per subscriber", perSubscriber, warmup, iterations);
+            benchmark(subscribers, "encode once, send per subscriber", encodeOncePerSubscriber, warmup, iterations);
+            benchmark(subscribers, "encode once, room destination", encodeOnceShared, warmup, iterations);
+            broker.stop();
+        }
+    }
+
+    private void benchmark(int subscribers, String name, Runnable frame, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            frame.run();
+        }
+        delivered.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            frame.run();
+            delivered.clear();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%4d subscribers | %-34s | %9.2f us/frame%n",
+                subscribers, name, nanos / 1000.0 / iterations);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private StompResponsePayload<List<PlayerStateDto>> payload() {
+        List<PlayerStateDto> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(new PlayerStateDto("player" + i, new double[]{i * 1.5, 0, -i * 2.25}, new double[]{0, 1, 0}, false));
+        }
+        return new StompResponsePayload<>("PLAYER_STATE", players);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.omg.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimerWheelTest {
+
+    // 작업을 휠 스레드에서 바로 실행
+    private final HashedTimerWheel timerWheel = new HashedTimerWheel("test-timer-wheel", 5, 8, Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        timerWheel.close();
+    }
+
+    @Test
+    @DisplayName("작업이 만료 시각 이후에 만료 시각 순서대로 실행되는지 테스트 (휠 한 바퀴보다 먼 작업 포함)")
+    void testTasksRunAfterDeadlineInOrder() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        List<Long> executedAt = new CopyOnWriteArrayList<>();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        long[] deadlines = {now + 100, now + 20, now + 60};
+        for (int i = 0; i < deadlines.length; i++) {
+            int index = i;
+            timerWheel.schedule(() -> {
+                executedAt.add(System.currentTimeMillis());
+                order.add(index);
+                latch.countDown();
+            }, deadlines[i]);
+        }
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(1, 2, 0);
+        assertThat(executedAt.get(0)).isGreaterThanOrEqualTo(deadlines[1]);
+        assertThat(executedAt.get(2)).isGreaterThanOrEqualTo(deadlines[0]);
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않는지 테스트")
+    void testCancelledTaskIsSkipped() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        List<String> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timerWheel.schedule(() -> executed.add("cancelled"), now + 20).cancel();
+        timerWheel.schedule(() -> {
+            executed.add("kept");
+            latch.countDown();
+        }, now + 40);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("kept");
+    }
+}